@@ -0,0 +1,78 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.GitHubFixtures;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding a page of GitHub events.
+ * <p>{@code decodeArray} binds the whole page as one {@code GitHubEvent[]}; {@code decodeStreaming} runs the
+ * decoder {@code GitHubApiService} uses, fed with the page split into network-sized {@link DataBuffer}s.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventDecodeBenchmark {
+
+    /** Typical size of a chunk delivered by the HTTP client. */
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final ResolvableType EVENT_TYPE = ResolvableType.forClass(GitHubEvent.class);
+
+    @Param({"30", "100"})
+    public int pageSize;
+
+    @Param({"MIXED", "PUSH_HEAVY", "ISSUE_HEAVY"})
+    public GitHubFixtures.Mix mix;
+
+    private ObjectMapper objectMapper;
+    private Jackson2JsonDecoder decoder;
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the mapper behind WebClient's codecs
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        decoder = new Jackson2JsonDecoder(objectMapper);
+        page = GitHubFixtures.eventsPage(pageSize, mix, 42).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public GitHubEvent[] decodeArray() throws Exception {
+        return objectMapper.readValue(page, GitHubEvent[].class);
+    }
+
+    @Benchmark
+    public List<Object> decodeStreaming() {
+        return decoder.decode(chunks(), EVENT_TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap())
+                .collectList()
+                .block();
+    }
+
+    private Flux<DataBuffer> chunks() {
+        List<DataBuffer> buffers = new ArrayList<>(page.length / CHUNK_SIZE + 1);
+        for (int offset = 0; offset < page.length; offset += CHUNK_SIZE) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(page, offset, Math.min(page.length, offset + CHUNK_SIZE))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
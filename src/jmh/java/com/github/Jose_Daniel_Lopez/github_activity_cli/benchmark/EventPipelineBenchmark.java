@@ -0,0 +1,84 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.ActivitySummaryDto;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.CommitEventDto;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.RepositoryDto;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.GitHubFixtures;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.service.EventFormatter;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.service.EventProcessingService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the in-memory stages applied to already decoded events: classification by type, DTO mapping and
+ * console formatting.
+ * <p>Each operation processes one whole page, so scores are pages per second.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventPipelineBenchmark {
+
+    @Param({"30", "100", "300"})
+    public int pageSize;
+
+    @Param({"MIXED", "PUSH_HEAVY", "ISSUE_HEAVY"})
+    public GitHubFixtures.Mix mix;
+
+    private final EventProcessingService processing = new EventProcessingService();
+
+    private GitHubEvent[] events;
+    private Map<EventType, List<GitHubEvent>> classified;
+    private Object[] repositories;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        events = objectMapper.readValue(GitHubFixtures.eventsPage(pageSize, mix, 42), GitHubEvent[].class);
+        classified = processing.classifyEvents(events);
+        repositories = objectMapper.readValue(GitHubFixtures.repositoriesPage(pageSize, 42), Object[].class);
+    }
+
+    @Benchmark
+    public Map<EventType, List<GitHubEvent>> classify() {
+        return processing.classifyEvents(events);
+    }
+
+    @Benchmark
+    public List<CommitEventDto> filterAndMapCommits() {
+        return processing.processCommitEvents(processing.filterEventsByType(events, EventType.PUSH));
+    }
+
+    @Benchmark
+    public Map<EventType, List<?>> mapAll() {
+        return processing.processAll(classified);
+    }
+
+    @Benchmark
+    public List<RepositoryDto> mapRepositories() {
+        return processing.processRepositories(repositories);
+    }
+
+    @Benchmark
+    public ActivitySummaryDto summarize() {
+        return processing.summarize("octocat", events, List.of(), List.of());
+    }
+
+    @Benchmark
+    public void format(Blackhole blackhole) {
+        for (GitHubEvent event : events) {
+            blackhole.consume(EventFormatter.format(event));
+        }
+    }
+}
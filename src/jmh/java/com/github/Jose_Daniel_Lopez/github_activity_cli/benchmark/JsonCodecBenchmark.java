@@ -0,0 +1,135 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.*;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.GitHubFixtures;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.Repo;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.service.EventProcessingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written JSON codecs ({@link DtoJsonSerializers}, {@code RepoDeserializer}) against Jackson's
+ * reflective bean (de)serializers for the same types.
+ * <p>{@code precompiled*} methods use the codecs the application registers; {@code reflective*} methods use a mapper
+ * on which they are disabled. Run with {@code -prof gc} to see bytes allocated per operation.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonCodecBenchmark {
+
+    @Param({"30", "100"})
+    public int pageSize;
+
+    private ObjectMapper precompiled;
+    private ObjectMapper reflective;
+
+    private byte[] reposJson;
+    private List<RepositoryDto> repositories;
+    private List<PullRequestEventDto> pullRequests;
+    private ActivitySummaryDto summary;
+
+    /** Mix-in restoring Jackson's default bean deserializer for {@link Repo}. */
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class ReflectiveRepo {
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        // Spring's codecs ignore unknown properties; mirror that so the reflective path can read GitHub's JSON
+        precompiled = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .registerModule(dtoSerializers());
+        reflective = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .addMixIn(Repo.class, ReflectiveRepo.class);
+
+        String eventsJson = GitHubFixtures.eventsPage(pageSize, GitHubFixtures.Mix.MIXED, 42);
+        List<JsonNode> repoNodes = new ArrayList<>();
+        for (JsonNode event : reflective.readTree(eventsJson)) {
+            repoNodes.add(event.get("repo"));
+        }
+        reposJson = reflective.writeValueAsBytes(repoNodes);
+
+        GitHubEvent[] events = precompiled.readValue(eventsJson, GitHubEvent[].class);
+        EventProcessingService processing = new EventProcessingService();
+        repositories = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            repositories.add(new RepositoryDto("project-" + i, "octocat/project-" + i, "A project description " + i,
+                    i % 3 == 0 ? null : "Java", i * 13, i * 2, "2024-01-01T00:00:00Z", "2025-01-01T00:00:00Z"));
+        }
+        summary = processing.summarize("octocat", events, repositories, List.of());
+        pullRequests = summary.getPullRequests();
+    }
+
+    @Benchmark
+    public Repo[] precompiledDecodeRepos() throws Exception {
+        return precompiled.readValue(reposJson, Repo[].class);
+    }
+
+    @Benchmark
+    public Repo[] reflectiveDecodeRepos() throws Exception {
+        return reflective.readValue(reposJson, Repo[].class);
+    }
+
+    @Benchmark
+    public byte[] precompiledEncodeRepositories() throws Exception {
+        return precompiled.writeValueAsBytes(repositories);
+    }
+
+    @Benchmark
+    public byte[] reflectiveEncodeRepositories() throws Exception {
+        return reflective.writeValueAsBytes(repositories);
+    }
+
+    @Benchmark
+    public byte[] precompiledEncodePullRequests() throws Exception {
+        return precompiled.writeValueAsBytes(pullRequests);
+    }
+
+    @Benchmark
+    public byte[] reflectiveEncodePullRequests() throws Exception {
+        return reflective.writeValueAsBytes(pullRequests);
+    }
+
+    @Benchmark
+    public byte[] precompiledEncodeSummary() throws Exception {
+        return precompiled.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] reflectiveEncodeSummary() throws Exception {
+        return reflective.writeValueAsBytes(summary);
+    }
+
+    /**
+     * Registers the serializers the application picks up through {@code @JsonComponent}, without a Spring context.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static SimpleModule dtoSerializers() throws Exception {
+        SimpleModule module = new SimpleModule("dto-serializers");
+        for (Class<?> nested : DtoJsonSerializers.class.getDeclaredClasses()) {
+            if (JsonSerializer.class.isAssignableFrom(nested)) {
+                Class<?> dtoType = (Class<?>) ((ParameterizedType) nested.getGenericSuperclass())
+                        .getActualTypeArguments()[0];
+                module.addSerializer((Class) dtoType, (JsonSerializer) nested.getDeclaredConstructor().newInstance());
+            }
+        }
+        return module;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the outcome of every measured request to one endpoint and summarizes it.
+ * <p>Latencies are kept exactly (one {@code long} per request) and sorted once when summarizing, so percentiles are
+ * exact rather than bucketed. Safe for concurrent recording.</p>
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private final Map<String, Integer> statuses = new TreeMap<>();
+
+    /**
+     * Records one request.
+     *
+     * @param latencyNanos time from the request's scheduled start to its completion
+     * @param status       HTTP status, or {@code -1} if the request failed without a response
+     */
+    synchronized void record(long latencyNanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (status < 200 || status >= 300) {
+            errors++;
+        }
+        statuses.merge(status < 0 ? "failed" : String.valueOf(status), 1, Integer::sum);
+    }
+
+    /**
+     * Merges another recorder's outcomes into this one.
+     */
+    synchronized void addAll(LatencyRecorder other) {
+        synchronized (other) {
+            for (int i = 0; i < other.count; i++) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = other.latencies[i];
+            }
+            errors += other.errors;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Integer::sum));
+        }
+    }
+
+    /**
+     * Summarizes the recorded requests.
+     *
+     * @param measuredSeconds length of the measured period, for throughput
+     * @return count, throughput, error rate, status counts and latency percentiles in milliseconds
+     */
+    synchronized Map<String, Object> summary(double measuredSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("throughput", round(count / measuredSeconds));
+        summary.put("errors", errors);
+        summary.put("errorRate", count == 0 ? 0.0 : round((double) errors / count));
+        summary.put("statuses", new TreeMap<>(statuses));
+        summary.put("p50Ms", percentileMillis(sorted, 0.50));
+        summary.put("p90Ms", percentileMillis(sorted, 0.90));
+        summary.put("p99Ms", percentileMillis(sorted, 0.99));
+        summary.put("p999Ms", percentileMillis(sorted, 0.999));
+        summary.put("maxMs", count == 0 ? 0.0 : round(sorted[count - 1] / 1e6));
+        return summary;
+    }
+
+    /** Nearest-rank percentile. */
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return round(sorted[Math.max(0, rank - 1)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
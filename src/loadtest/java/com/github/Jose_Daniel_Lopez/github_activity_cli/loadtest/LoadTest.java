@@ -0,0 +1,237 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.GithubActivityApplication;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.FakeGitHubProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.FakeGitHubServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end load test: the full application, backed by {@link FakeGitHubServer}, driven over HTTP at a fixed
+ * request rate.
+ * <p>
+ * Requests follow an open model: each one has a scheduled start time derived from {@code loadtest.rps}, and its
+ * latency is measured from that time rather than from when it was actually sent. Requests delayed because the
+ * application is saturated therefore show up in the percentiles instead of silently lowering the offered load.
+ * </p>
+ * <p>The report (throughput, error rate, p50/p90/p99/p99.9/max latency per endpoint and overall) is printed and
+ * written as JSON to {@code loadtest.report-dir}, named after the current commit. Pass a previous report as
+ * {@code loadtest.baseline} to print the differences. Application settings (e.g. {@code github.cache.events.ttl})
+ * can be overridden with ordinary {@code -D} system properties.</p>
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.rps=500 -Dloadtest.users=10000
+ * </pre>
+ */
+public final class LoadTest {
+
+    /** Interval at which due requests are released. */
+    private static final Duration TICK = Duration.ofMillis(5);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        FakeGitHubProperties defaults = FakeGitHubProperties.defaults();
+        FakeGitHubProperties upstream = new FakeGitHubProperties(0, defaults.eventsPerUser(),
+                defaults.repositoriesPerUser(), defaults.starredPerUser(), defaults.mix(), config.upstreamLatency(),
+                config.upstreamJitter(), config.upstreamErrorRate(), defaults.notModifiedRate(),
+                config.upstreamRateLimit(), defaults.rateLimitWindow(), defaults.pollInterval(), List.of(), null);
+
+        try (FakeGitHubServer github = new FakeGitHubServer(upstream).start();
+             ConfigurableApplicationContext app = new SpringApplicationBuilder(GithubActivityApplication.class)
+                     .run("--server.port=0", "--github.api.base-url=" + github.baseUrl(),
+                             "--spring.main.banner-mode=off", "--logging.level.root=WARN")) {
+            String appUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            System.out.printf("Load test: %d rps for %s (+%s warmup), %d users, endpoints %s%n",
+                    config.rps(), config.duration(), config.warmup(), config.users(), config.endpoints());
+
+            Map<String, LatencyRecorder> recorders = run(config, appUrl);
+            Map<String, Object> report = report(config, recorders, github.requestCount());
+            Path file = write(config, report);
+            print(report);
+            System.out.println("Report written to " + file);
+            if (config.baseline() != null) {
+                compare(report, new ObjectMapper().readTree(config.baseline().toFile()));
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Sends {@code rps * (warmup + duration)} requests at their scheduled times and records the measured ones.
+     */
+    private static Map<String, LatencyRecorder> run(LoadTestConfig config, String appUrl) {
+        ConnectionProvider connections = ConnectionProvider.builder("loadtest")
+                .maxConnections(config.maxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl(appUrl)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        config.endpoints().forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+
+        long periodNanos = 1_000_000_000L / config.rps();
+        long warmupNanos = config.warmup().toNanos();
+        long total = (config.warmup().toNanos() + config.duration().toNanos()) / periodNanos;
+        SplittableRandom random = new SplittableRandom(config.seed());
+        AtomicLong scheduled = new AtomicLong();
+        long start = System.nanoTime();
+
+        Flux.interval(TICK)
+                .onBackpressureDrop()
+                .takeWhile(tick -> scheduled.get() < total)
+                .concatMapIterable(tick -> {
+                    long due = Math.min(total, (System.nanoTime() - start) / periodNanos + 1);
+                    List<Request> batch = new ArrayList<>();
+                    for (long i = scheduled.get(); i < due; i++) {
+                        String endpoint = config.endpoints().get(random.nextInt(config.endpoints().size()));
+                        String username = "user" + random.nextInt(config.users());
+                        batch.add(new Request(endpoint, "/api/" + endpoint + "/" + username, start + i * periodNanos));
+                    }
+                    scheduled.set(due);
+                    return batch;
+                })
+                .flatMap(request -> client.get().uri(request.path())
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                        .timeout(config.timeout())
+                        .onErrorReturn(-1)
+                        .doOnNext(status -> {
+                            if (request.scheduledAt() - start >= warmupNanos) {
+                                recorders.get(request.endpoint()).record(System.nanoTime() - request.scheduledAt(), status);
+                            }
+                        }), config.maxInFlight())
+                .blockLast();
+        connections.disposeLater().block();
+        return recorders;
+    }
+
+    private static Map<String, Object> report(LoadTestConfig config, Map<String, LatencyRecorder> recorders,
+                                              long upstreamRequests) {
+        double seconds = config.duration().toNanos() / 1e9;
+        LatencyRecorder overall = new LatencyRecorder();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> {
+            endpoints.put(endpoint, recorder.summary(seconds));
+            overall.addAll(recorder);
+        });
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rps", config.rps());
+        settings.put("warmup", config.warmup().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("users", config.users());
+        settings.put("endpoints", config.endpoints());
+        settings.put("upstreamLatency", config.upstreamLatency().toString());
+        settings.put("upstreamJitter", config.upstreamJitter().toString());
+        settings.put("upstreamErrorRate", config.upstreamErrorRate());
+        settings.put("seed", config.seed());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", commit());
+        report.put("timestamp", LocalDateTime.now().withNano(0).toString());
+        report.put("config", settings);
+        report.put("upstreamRequests", upstreamRequests);
+        report.put("overall", overall.summary(seconds));
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Path write(LoadTestConfig config, Map<String, Object> report) throws IOException {
+        Files.createDirectories(config.reportDir());
+        String name = report.get("commit") + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = config.reportDir().resolve(name + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> report) {
+        System.out.printf("%n%-14s %9s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) report.get("endpoints"));
+        rows.put("overall", report.get("overall"));
+        rows.forEach((endpoint, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            System.out.printf("%-14s %9s %10s %8s %10s %10s %10s %10s%n", endpoint, row.get("requests"),
+                    row.get("throughput"), row.get("errors"), row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"),
+                    row.get("maxMs"));
+        });
+        System.out.println("Upstream requests: " + report.get("upstreamRequests"));
+    }
+
+    /**
+     * Prints throughput, error rate and latency percentile changes relative to a previous report.
+     */
+    @SuppressWarnings("unchecked")
+    private static void compare(Map<String, Object> report, JsonNode baseline) {
+        System.out.printf("%nCompared with %s (%s):%n", baseline.path("commit").asText(), baseline.path("timestamp").asText());
+        System.out.printf("%-14s %12s %12s %12s %12s %12s%n", "endpoint", "req/s", "error rate", "p50", "p99", "p999");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) report.get("endpoints"));
+        rows.put("overall", report.get("overall"));
+        rows.forEach((endpoint, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            JsonNode before = "overall".equals(endpoint) ? baseline.path("overall") : baseline.path("endpoints").path(endpoint);
+            if (before.isMissingNode()) {
+                return;
+            }
+            System.out.printf("%-14s %12s %12s %12s %12s %12s%n", endpoint,
+                    change(row.get("throughput"), before.path("throughput")),
+                    change(row.get("errorRate"), before.path("errorRate")),
+                    change(row.get("p50Ms"), before.path("p50Ms")),
+                    change(row.get("p99Ms"), before.path("p99Ms")),
+                    change(row.get("p999Ms"), before.path("p999Ms")));
+        });
+    }
+
+    private static String change(Object current, JsonNode previous) {
+        double now = ((Number) current).doubleValue();
+        double then = previous.asDouble();
+        if (then == 0) {
+            return now == 0 ? "=" : "new";
+        }
+        return String.format("%+.1f%%", (now - then) / then * 100);
+    }
+
+    private static String commit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 && !output.isEmpty() ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    /**
+     * A request with the time it was scheduled to start.
+     */
+    private record Request(String endpoint, String path, long scheduledAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param rps                 request rate, held constant regardless of response times (open model)
+ * @param warmup              initial period whose requests are sent but not recorded
+ * @param duration            measured period following the warmup
+ * @param users               number of distinct usernames requests are spread over
+ * @param endpoints           controller endpoints to drive, e.g. {@code activity}, {@code commits}; chosen
+ *                            uniformly per request
+ * @param timeout             per-request timeout; timed out requests count as errors
+ * @param maxInFlight         cap on concurrent requests to the application
+ * @param upstreamLatency     fixed latency of the fake GitHub API
+ * @param upstreamJitter      maximum random latency added by the fake GitHub API
+ * @param upstreamErrorRate   share of fake GitHub API responses that are {@code 502}
+ * @param upstreamRateLimit   calls per hour the fake GitHub API allows; high by default so that upstream pacing
+ *                            by {@code RateLimitScheduler} does not dominate (use {@code 5000} to load-test pacing)
+ * @param seed                seed for username and endpoint selection
+ * @param reportDir           directory the JSON report is written to
+ * @param baseline            previous report to compare against, or {@code null}
+ */
+record LoadTestConfig(
+        int rps,
+        Duration warmup,
+        Duration duration,
+        int users,
+        List<String> endpoints,
+        Duration timeout,
+        int maxInFlight,
+        Duration upstreamLatency,
+        Duration upstreamJitter,
+        double upstreamErrorRate,
+        int upstreamRateLimit,
+        long seed,
+        Path reportDir,
+        Path baseline) {
+
+    static final List<String> ALL_ENDPOINTS = List.of("activity", "summary", "commits", "pushes", "issues", "pulls",
+            "forks", "releases", "comments", "stars", "repositories");
+
+    static LoadTestConfig fromSystemProperties() {
+        String endpoints = property("endpoints", "activity,summary,commits,pushes,issues,pulls,stars,repositories");
+        String baseline = System.getProperty("loadtest.baseline");
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(property("rps", "100")),
+                duration("warmup", "15s"),
+                duration("duration", "30s"),
+                Integer.parseInt(property("users", "100")),
+                Arrays.stream(endpoints.split(",")).map(String::trim).filter(e -> !e.isEmpty()).toList(),
+                duration("timeout", "10s"),
+                Integer.parseInt(property("max-in-flight", "2000")),
+                duration("upstream-latency", "50ms"),
+                duration("upstream-jitter", "25ms"),
+                Double.parseDouble(property("upstream-error-rate", "0")),
+                Integer.parseInt(property("upstream-rate-limit", "1000000000")),
+                Long.parseLong(property("seed", "1")),
+                Path.of(property("report-dir", "target/loadtest")),
+                baseline == null || baseline.isBlank() ? null : Path.of(baseline));
+        for (String endpoint : config.endpoints()) {
+            if (!ALL_ENDPOINTS.contains(endpoint)) {
+                throw new IllegalArgumentException("Unknown endpoint '" + endpoint + "', expected one of " + ALL_ENDPOINTS);
+            }
+        }
+        if (config.rps() <= 0 || config.users() <= 0 || config.endpoints().isEmpty()) {
+            throw new IllegalArgumentException("loadtest.rps, loadtest.users and loadtest.endpoints must be positive");
+        }
+        return config;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Duration duration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(property(name, defaultValue));
+    }
+}
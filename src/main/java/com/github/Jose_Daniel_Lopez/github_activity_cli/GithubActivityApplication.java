@@ -2,8 +2,10 @@ package com.github.Jose_Daniel_Lopez.github_activity_cli;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class GithubActivityApplication {
     public static void main(String[] args) {
         SpringApplication.run(GithubActivityApplication.class, args);
@@ -0,0 +1,449 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties.ResourcePolicy;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.jfr.CacheLookupEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * In-memory, per-user cache of fetched GitHub data, sitting in front of the upstream API.
+ * <p>
+ * Each {@link Resource} has its own Caffeine cache with a memory budget in estimated bytes. Eviction uses Caffeine's
+ * W-TinyLFU policy, so a long tail of one-off usernames cannot flush popular ones, and memory stays flat regardless
+ * of how many distinct users are requested.
+ * </p>
+ * <p><strong>Freshness:</strong> Every entry has a soft and a hard TTL (see {@link ActivityCacheProperties}).
+ * <ul>
+ *   <li>Younger than the soft TTL: served as-is.</li>
+ *   <li>Between soft and hard TTL: served immediately (stale-while-revalidate) while a single background refresh
+ *       replaces it. If that refresh fails — GitHub 5xx, rate limiting, timeouts — or yields nothing cacheable (an
+ *       empty or oversized collection), the stale value keeps being served and the refresh is retried no sooner than
+ *       one soft TTL later.</li>
+ *   <li>Older than the hard TTL: evicted; the next request waits for GitHub and sees its errors.</li>
+ * </ul>
+ * </p>
+ * <p><strong>Pinning:</strong> Entries of {@linkplain #pin pinned} users (the watch list) are held outside the memory
+ * budget and are never evicted for size, only after the hard TTL. They cost about
+ * {@code items × estimated bytes per item} each on top of {@code max-bytes}: roughly 600 KB for a user with GitHub's
+ * full 300-event window.</p>
+ * <p>Every lookup is emitted as a {@link CacheLookupEvent} to Java Flight Recorder while a recording is running.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use. Cached values are shared between callers and must be
+ * treated as read-only.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class ActivityCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityCache.class);
+
+    /**
+     * Kinds of cached upstream data, each with a rough per-item size used to weigh entries.
+     */
+    public enum Resource {
+        EVENTS(2_048),
+        REPOSITORIES(4_096),
+        STARRED(4_096);
+
+        private final int estimatedBytesPerItem;
+
+        Resource(int estimatedBytesPerItem) {
+            this.estimatedBytesPerItem = estimatedBytesPerItem;
+        }
+
+        /**
+         * Rough heap cost of one cached item, as used to weigh entries.
+         *
+         * @return estimated bytes per item
+         */
+        public int estimatedBytesPerItem() {
+            return estimatedBytesPerItem;
+        }
+    }
+
+    private final Map<Resource, Cache<String, Entry>> caches = new EnumMap<>(Resource.class);
+    private final Map<Resource, Long> softTtlNanos = new EnumMap<>(Resource.class);
+    private final Map<Resource, Long> expiryNanos = new EnumMap<>(Resource.class);
+    private final Map<Resource, Set<String>> pinnedKeys = new EnumMap<>(Resource.class);
+    private final Map<Resource, Map<String, Entry>> pinnedEntries = new EnumMap<>(Resource.class);
+    private final Map<Resource, LongAdder> pinnedHits = new EnumMap<>(Resource.class);
+    private final Map<Resource, LongAdder> staleHits = new EnumMap<>(Resource.class);
+    private final Map<Resource, LongAdder> refreshFailures = new EnumMap<>(Resource.class);
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final int maxItemsPerEntry;
+    private final Ticker ticker;
+
+    @Autowired
+    public ActivityCache(ActivityCacheProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a cache reading time from the given ticker (for tests).
+     *
+     * @param properties cache configuration
+     * @param ticker     nanosecond time source
+     */
+    public ActivityCache(ActivityCacheProperties properties, Ticker ticker) {
+        this.maxItemsPerEntry = properties.maxItemsPerEntry();
+        this.ticker = ticker;
+        configure(Resource.EVENTS, properties.events());
+        configure(Resource.REPOSITORIES, properties.repositories());
+        configure(Resource.STARRED, properties.starred());
+    }
+
+    /**
+     * Returns the cached value for the user, or subscribes to {@code loader} and caches its result.
+     * <p>Stale values are returned immediately while {@code loader} refreshes them in the background.
+     * Empty results (no value, or an empty array or collection) and errors are never cached, so a user without
+     * activity yet is looked up again on the next request.</p>
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     * @param loader   supplies the upstream fetch on a miss or refresh
+     * @return a {@link Mono} of the cached or freshly loaded value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> getOrLoad(Resource resource, String username, Supplier<Mono<T>> loader) {
+        String key = key(username);
+        return Mono.defer(() -> {
+            Entry cached = lookup(resource, key);
+            if (cached != null) {
+                if (isStale(resource, cached)) {
+                    refreshInBackground(resource, key, cached, loader::get);
+                }
+                return Mono.just((T) cached.value);
+            }
+            return loader.get().doOnNext(value -> {
+                if (!isEmpty(value)) {
+                    store(resource, key, value);
+                }
+            });
+        });
+    }
+
+    /**
+     * Streaming variant of {@link #getOrLoad}: replays a cached collection, or streams {@code loader} through
+     * while retaining up to {@code github.cache.max-items-per-entry} items, caching them once the stream completes.
+     * <p>Stale collections are replayed immediately while {@code loader} refreshes them in the background.</p>
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     * @param loader   supplies the upstream stream on a miss or refresh
+     * @return a {@link Flux} of the cached or freshly streamed items
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> getOrLoadMany(Resource resource, String username, Supplier<Flux<T>> loader) {
+        String key = key(username);
+        return Flux.defer(() -> {
+            Entry cached = lookup(resource, key);
+            if (cached != null) {
+                if (isStale(resource, cached)) {
+                    refreshInBackground(resource, key, cached, () -> loader.get()
+                            .take(maxItemsPerEntry + 1L)
+                            .collectList()
+                            .filter(items -> !items.isEmpty() && items.size() <= maxItemsPerEntry)
+                            .map(List::copyOf));
+                }
+                return Flux.fromIterable((List<T>) cached.value);
+            }
+            List<T> retained = new ArrayList<>();
+            boolean[] overflow = {false};
+            return loader.get()
+                    .doOnNext(item -> {
+                        if (overflow[0]) {
+                            return;
+                        }
+                        if (retained.size() < maxItemsPerEntry) {
+                            retained.add(item);
+                        } else {
+                            overflow[0] = true;
+                            retained.clear();
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        if (!overflow[0] && !retained.isEmpty()) {
+                            store(resource, key, List.copyOf(retained));
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Returns the cached value for the user, fresh or stale, without counting a lookup or starting a refresh.
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     * @return the cached value, or {@code null} if none is cached
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T peek(Resource resource, String username) {
+        Entry cached = lookupQuietly(resource, key(username));
+        return cached != null ? (T) cached.value : null;
+    }
+
+    /**
+     * Returns how long the user's cached value stays fresh, without counting a lookup.
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     * @return time until the soft TTL expires (negative once stale), or {@code null} if nothing is cached
+     */
+    public Duration timeToStale(Resource resource, String username) {
+        Entry cached = lookupQuietly(resource, key(username));
+        return cached != null
+                ? Duration.ofNanos(cached.loadedAt + softTtlNanos.get(resource) - ticker.read())
+                : null;
+    }
+
+    /**
+     * Caches a value loaded outside {@link #getOrLoad}, e.g. by a background poller, restarting its TTLs.
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     * @param value    the value; treated as read-only from now on
+     */
+    public void put(Resource resource, String username, Object value) {
+        store(resource, key(username), value);
+    }
+
+    /**
+     * Removes any cached value for the user.
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     */
+    public void invalidate(Resource resource, String username) {
+        String key = key(username);
+        pinnedEntries.get(resource).remove(key);
+        caches.get(resource).invalidate(key);
+    }
+
+    /**
+     * Exempts the user's entry from size-based eviction until {@link #unpin} is called. The entry still expires
+     * after the hard TTL, so a pinned user whose refreshes keep failing is eventually loaded from GitHub again.
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     */
+    public void pin(Resource resource, String username) {
+        String key = key(username);
+        pinnedKeys.get(resource).add(key);
+        Entry cached = caches.get(resource).asMap().remove(key);
+        if (cached != null && !isExpired(resource, cached)) {
+            pinnedEntries.get(resource).putIfAbsent(key, cached);
+        }
+    }
+
+    /**
+     * Returns a pinned user's entry to the size-bounded cache, where it may be evicted again.
+     *
+     * @param resource the kind of data
+     * @param username GitHub username (case-insensitive)
+     */
+    public void unpin(Resource resource, String username) {
+        String key = key(username);
+        pinnedKeys.get(resource).remove(key);
+        Entry pinned = pinnedEntries.get(resource).remove(key);
+        if (pinned != null && !isExpired(resource, pinned)) {
+            caches.get(resource).asMap().putIfAbsent(key, pinned);
+        }
+    }
+
+    /**
+     * Returns hit/miss/eviction counters and the current size of each resource cache.
+     * <p>{@code staleHitCount} counts hits served past the soft TTL; {@code refreshFailureCount} counts background
+     * refreshes that failed while a stale value kept being served. Pinned entries are reported separately:
+     * {@code pinnedHitCount}, {@code pinnedSize} and {@code pinnedWeightBytes} are not part of the other counters.</p>
+     *
+     * @return statistics keyed by resource name, in declaration order
+     */
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        for (Map.Entry<Resource, Cache<String, Entry>> entry : caches.entrySet()) {
+            Resource resource = entry.getKey();
+            CacheStats cacheStats = entry.getValue().stats();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("hitCount", cacheStats.hitCount());
+            values.put("missCount", cacheStats.missCount());
+            values.put("hitRate", cacheStats.hitRate());
+            values.put("staleHitCount", staleHits.get(resource).sum());
+            values.put("refreshFailureCount", refreshFailures.get(resource).sum());
+            values.put("evictionCount", cacheStats.evictionCount());
+            values.put("evictionWeightBytes", cacheStats.evictionWeight());
+            values.put("size", entry.getValue().estimatedSize());
+            values.put("pinnedHitCount", pinnedHits.get(resource).sum());
+            values.put("pinnedSize", pinnedEntries.get(resource).size());
+            values.put("pinnedWeightBytes", pinnedEntries.get(resource).values().stream()
+                    .mapToLong(pinned -> estimateBytes(resource, pinned.value))
+                    .sum());
+            stats.put(resource.name().toLowerCase(Locale.ROOT), values);
+        }
+        return stats;
+    }
+
+    private Entry lookup(Resource resource, String key) {
+        Entry cached = lookupPinned(resource, key);
+        if (cached != null) {
+            pinnedHits.get(resource).increment();
+        } else {
+            cached = caches.get(resource).getIfPresent(key);
+        }
+        boolean stale = cached != null && isStale(resource, cached);
+        if (stale) {
+            staleHits.get(resource).increment();
+        }
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.cache = resource.name().toLowerCase(Locale.ROOT);
+            event.username = key;
+            event.outcome = cached == null ? "miss" : (stale ? "stale" : "hit");
+            event.items = cached == null ? 0 : itemCount(cached.value);
+            event.commit();
+        }
+        return cached;
+    }
+
+    private Entry lookupQuietly(Resource resource, String key) {
+        Entry cached = lookupPinned(resource, key);
+        return cached != null ? cached : caches.get(resource).policy().getIfPresentQuietly(key);
+    }
+
+    /**
+     * Returns the pinned entry for the key, dropping it once it is past the hard TTL.
+     */
+    private Entry lookupPinned(Resource resource, String key) {
+        Map<String, Entry> pinned = pinnedEntries.get(resource);
+        Entry cached = pinned.get(key);
+        if (cached != null && isExpired(resource, cached)) {
+            pinned.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    private boolean isExpired(Resource resource, Entry entry) {
+        return ticker.read() - entry.loadedAt >= expiryNanos.get(resource);
+    }
+
+    private boolean isStale(Resource resource, Entry entry) {
+        return ticker.read() - entry.loadedAt >= softTtlNanos.get(resource);
+    }
+
+    private void store(Resource resource, String key, Object value) {
+        Entry entry = new Entry(value, ticker.read());
+        if (pinnedKeys.get(resource).contains(key) && expiryNanos.get(resource) > 0) {
+            pinnedEntries.get(resource).put(key, entry);
+        } else {
+            caches.get(resource).put(key, entry);
+        }
+    }
+
+    /**
+     * Starts at most one background refresh per key, and none while a previous refresh of the same stale entry
+     * completed less than one soft TTL ago. Every completed refresh moves the stale entry's next attempt one soft TTL
+     * ahead, so a refresh that fails or yields no value does not restart on every hit. The stale entry itself is kept
+     * untouched (its hard TTL is not extended).
+     */
+    private void refreshInBackground(Resource resource, String key, Entry stale, Supplier<Mono<?>> refresh) {
+        long now = ticker.read();
+        if (now < stale.nextRefreshAt) {
+            return;
+        }
+        String refreshKey = resource.name() + ':' + key;
+        if (!refreshing.add(refreshKey)) {
+            return;
+        }
+        refresh.get()
+                .doFinally(signal -> refreshing.remove(refreshKey))
+                .subscribe(
+                        value -> store(resource, key, value),
+                        error -> {
+                            refreshFailures.get(resource).increment();
+                            stale.nextRefreshAt = ticker.read() + softTtlNanos.get(resource);
+                            log.warn("Background refresh of {} for '{}' failed; serving stale data: {}",
+                                    resource, key, error.toString());
+                        },
+                        () -> stale.nextRefreshAt = ticker.read() + softTtlNanos.get(resource));
+    }
+
+    private void configure(Resource resource, ResourcePolicy policy) {
+        Duration ttl = policy.ttl();
+        Duration expiry = ttl.isZero() ? Duration.ZERO
+                : (policy.hardTtl().compareTo(ttl) > 0 ? policy.hardTtl() : ttl);
+        caches.put(resource, Caffeine.newBuilder()
+                .expireAfterWrite(expiry)
+                .maximumWeight(policy.maxBytes())
+                .weigher((String key, Entry entry) -> estimateBytes(resource, entry.value))
+                .ticker(ticker)
+                .recordStats()
+                .build());
+        softTtlNanos.put(resource, ttl.toNanos());
+        expiryNanos.put(resource, expiry.toNanos());
+        pinnedKeys.put(resource, ConcurrentHashMap.newKeySet());
+        pinnedEntries.put(resource, new ConcurrentHashMap<>());
+        pinnedHits.put(resource, new LongAdder());
+        staleHits.put(resource, new LongAdder());
+        refreshFailures.put(resource, new LongAdder());
+    }
+
+    private static int estimateBytes(Resource resource, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, itemCount(value)) * resource.estimatedBytesPerItem);
+    }
+
+    private static boolean isEmpty(Object value) {
+        return (value instanceof Collection<?> || value.getClass().isArray()) && itemCount(value) == 0;
+    }
+
+    private static int itemCount(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        return 1;
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A cached value and when it was loaded.
+     */
+    private static final class Entry {
+        private final Object value;
+        private final long loadedAt;
+        private volatile long nextRefreshAt;
+
+        private Entry(Object value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.nextRefreshAt = loadedAt;
+        }
+    }
+}
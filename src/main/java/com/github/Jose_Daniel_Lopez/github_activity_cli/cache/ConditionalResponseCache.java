@@ -0,0 +1,123 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * URL-keyed cache of GitHub responses used for conditional requests ({@code If-None-Match} / {@code If-Modified-Since}).
+ * <p>
+ * Each entry keeps the validators GitHub returned ({@code ETag}, {@code Last-Modified}), the pagination links and
+ * the raw response body bytes. When GitHub answers a revalidation with {@code 304 Not Modified}, the stored bytes are
+ * decoded again instead of being downloaded, and the request does not count against the rate limit. Decoded items
+ * are never retained, so an entry costs about as much as the JSON it came from rather than a tree of parsed maps.
+ * </p>
+ * <p><strong>Eviction:</strong> Entries are weighed by their size in bytes; the cache holds at most
+ * {@code github.cache.conditional.max-bytes}, evicting by Caffeine's W-TinyLFU policy.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use. Stored bodies are shared and must be treated as
+ * read-only.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class ConditionalResponseCache {
+
+    /** Rough fixed cost of an entry beyond its body and URL: entry object, validators, links and map node. */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, Entry> entries;
+
+    /**
+     * Creates a cache holding at most {@code maxBytes} of response bodies.
+     *
+     * @param maxBytes memory budget for the stored bodies, URLs and entries
+     */
+    public ConditionalResponseCache(@Value("${github.cache.conditional.max-bytes:33554432}") long maxBytes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String url, Entry entry) -> weigh(url, entry))
+                .build();
+    }
+
+    /**
+     * Returns the cached entry for the URL, or {@code null} if none is stored.
+     *
+     * @param url the upstream URL
+     * @return the cached entry, or {@code null}
+     */
+    public Entry get(String url) {
+        return entries.getIfPresent(url);
+    }
+
+    /**
+     * Stores the body returned for the URL if the response carries at least one validator.
+     * <p>Responses without {@code ETag} or {@code Last-Modified} cannot be revalidated and are not cached.</p>
+     *
+     * @param url     the upstream URL
+     * @param headers the response headers
+     * @param body    the raw response body
+     * @param next    URL of the following page, or {@code null}
+     * @param last    URL of the last page, or {@code null}
+     */
+    public void put(String url, HttpHeaders headers, byte[] body, String next, String last) {
+        String eTag = headers.getETag();
+        long lastModified = headers.getLastModified();
+        if (body == null || (eTag == null && lastModified < 0)) {
+            return;
+        }
+        entries.put(url, new Entry(eTag, lastModified, body, next, last));
+    }
+
+    /**
+     * Number of URLs currently cached.
+     *
+     * @return cache size
+     */
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    /**
+     * Estimated memory held by the cached entries.
+     *
+     * @return total weight of all entries in bytes
+     */
+    public long sizeInBytes() {
+        entries.cleanUp();
+        return entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private static int weigh(String url, Entry entry) {
+        long bytes = (long) entry.body().length + 2L * url.length() + ENTRY_OVERHEAD_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    /**
+     * A cached response: its validators, pagination links and raw body.
+     *
+     * @param eTag         the {@code ETag} header value, or {@code null}
+     * @param lastModified the {@code Last-Modified} header as epoch millis, or {@code -1}
+     * @param body         the response body as received
+     * @param next         URL of the following page, or {@code null}
+     * @param last         URL of the last page, or {@code null}
+     */
+    public record Entry(String eTag, long lastModified, byte[] body, String next, String last) {
+
+        /**
+         * Adds {@code If-None-Match} / {@code If-Modified-Since} for this entry to an outgoing request.
+         *
+         * @param headers the request headers to populate
+         */
+        public void applyTo(HttpHeaders headers) {
+            if (eTag != null) {
+                headers.setIfNoneMatch(eTag);
+            }
+            if (lastModified >= 0) {
+                headers.setIfModifiedSince(lastModified);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.store.EventStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Per-user high-water mark: the highest GitHub event id already fetched for each user.
+ * <p>
+ * GitHub assigns event ids in increasing order, so everything at or below a user's watermark has been seen before.
+ * Incremental fetches stop paginating at the first such event, which makes a poll cost proportional to the new
+ * activity rather than to the size of the user's history.
+ * </p>
+ * <p>Watermarks are held in memory for up to {@code github.sync.max-users} users (least recently used beyond that).
+ * When the {@link EventStore} is enabled, the highest stored id counts as a watermark too, so incremental fetching
+ * resumes where it left off after a restart.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use; watermarks only ever move forward.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class EventWatermarks {
+
+    private final Cache<String, Long> watermarks;
+    private final EventStore eventStore;
+
+    @Autowired
+    public EventWatermarks(@Value("${github.sync.max-users:100000}") long maxUsers, EventStore eventStore) {
+        this.watermarks = Caffeine.newBuilder().maximumSize(maxUsers).build();
+        this.eventStore = eventStore;
+    }
+
+    /**
+     * Returns the highest event id seen for a user.
+     *
+     * @param username GitHub username (case-insensitive)
+     * @return the id, or {@code -1} if nothing has been fetched for the user
+     */
+    public long get(String username) {
+        Long watermark = watermarks.getIfPresent(key(username));
+        return Math.max(watermark != null ? watermark : -1, eventStore.highestId(username));
+    }
+
+    /**
+     * Raises a user's watermark to {@code id}; lower ids are ignored.
+     *
+     * @param username GitHub username (case-insensitive)
+     * @param id       the highest event id just fetched, or {@code -1} for none
+     */
+    public void advance(String username, long id) {
+        if (id >= 0) {
+            watermarks.asMap().merge(key(username), id, Math::max);
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
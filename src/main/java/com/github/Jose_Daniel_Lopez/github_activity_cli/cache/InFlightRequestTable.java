@@ -0,0 +1,84 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight table that coalesces concurrent identical upstream requests.
+ * <p>
+ * While a request for a key (typically the upstream URL) is in flight, every other caller asking for the same key
+ * joins it instead of issuing its own request, and all of them receive the same result instance.
+ * The entry is removed as soon as the request terminates, so results are never served beyond the in-flight window —
+ * the next caller after completion triggers a fresh request.
+ * </p>
+ * <p><strong>Timeout:</strong> A request that has not completed within {@code github.in-flight.timeout} fails every
+ * joined caller with a {@link java.util.concurrent.TimeoutException} and frees its key, so a hung upstream call
+ * cannot pin the key and make every later caller wait on it.</p>
+ * <p><strong>Cancellation:</strong> A joined request is not cancelled when an individual caller cancels; it runs to
+ * completion so remaining callers still receive the result. Once every caller has cancelled, the request is
+ * cancelled and its key freed.</p>
+ * <p><strong>Thread Safety:</strong> Backed by a {@link ConcurrentHashMap}; safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class InFlightRequestTable {
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    /**
+     * Creates a table whose requests fail after {@code timeout}.
+     *
+     * @param timeout longest time a request may stay in flight
+     */
+    public InFlightRequestTable(@Value("${github.in-flight.timeout:30s}") Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("github.in-flight.timeout must be positive: " + timeout);
+        }
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns a {@link Mono} that joins the in-flight request for {@code key}, or starts one using {@code request}.
+     * <p>The lookup happens at subscription time, not at assembly time.</p>
+     *
+     * @param key     identifies identical requests (e.g., the upstream URL)
+     * @param request supplies the request to run if none is in flight
+     * @return a {@link Mono} shared by all concurrent subscribers for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> join(String key, Supplier<Mono<T>> request) {
+        return Mono.defer(() -> {
+            Mono<T> existing = (Mono<T>) inFlight.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            AtomicReference<Mono<T>> self = new AtomicReference<>();
+            Mono<T> shared = request.get()
+                    .timeout(timeout)
+                    .doOnTerminate(() -> inFlight.remove(key, self.get()))
+                    .doOnCancel(() -> inFlight.remove(key, self.get()))
+                    .share();
+            self.set(shared);
+            Mono<T> winner = (Mono<T>) inFlight.putIfAbsent(key, shared);
+            return winner != null ? winner : shared;
+        });
+    }
+
+    /**
+     * Number of requests currently in flight.
+     *
+     * @return in-flight request count
+     */
+    public int size() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,132 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.util.BloomFilter;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Negative-result cache for usernames GitHub answered with {@code 404 Not Found}.
+ * <p>
+ * Known-missing names are rejected locally instead of costing an upstream round trip and a rate-limit unit.
+ * Names are stored in two generations of {@link BloomFilter}s, so each entry costs a couple of bytes regardless of
+ * name length. The current generation receives new names; every half TTL it becomes the previous generation and the
+ * oldest one is dropped, so an entry is remembered for between {@code ttl/2} and {@code ttl}.
+ * </p>
+ * <p><strong>Trade-off:</strong> A Bloom filter can report false positives, i.e. an existing user may be wrongly
+ * rejected with probability {@code github.negative-cache.false-positive-rate} until the generation rotates out.
+ * Users already held in {@link ActivityCache} are never checked against this cache.</p>
+ * <p><strong>Configuration:</strong> {@code github.negative-cache.ttl} ({@code 0} disables),
+ * {@code github.negative-cache.expected-entries}, {@code github.negative-cache.false-positive-rate}.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class NegativeUserCache {
+
+    private final long generationNanos;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Ticker ticker;
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder recorded = new LongAdder();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long generationStart;
+
+    @Autowired
+    public NegativeUserCache(@Value("${github.negative-cache.ttl:10m}") Duration ttl,
+                             @Value("${github.negative-cache.expected-entries:100000}") int expectedEntries,
+                             @Value("${github.negative-cache.false-positive-rate:0.001}") double falsePositiveRate) {
+        this(ttl, expectedEntries, falsePositiveRate, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a cache reading time from the given ticker (for tests).
+     */
+    public NegativeUserCache(Duration ttl, int expectedEntries, double falsePositiveRate, Ticker ticker) {
+        this.generationNanos = ttl.toNanos() / 2;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.ticker = ticker;
+        this.current = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.previous = new BloomFilter(expectedEntries, falsePositiveRate);
+        this.generationStart = ticker.read();
+    }
+
+    /**
+     * Returns {@code true} if the username recently resolved to a 404 (subject to the Bloom filter false-positive rate).
+     *
+     * @param username GitHub username (case-insensitive)
+     * @return whether the user should be treated as not found without asking GitHub
+     */
+    public boolean isKnownMissing(String username) {
+        if (generationNanos <= 0) {
+            return false;
+        }
+        rotateIfDue();
+        String key = key(username);
+        boolean missing = current.mightContain(key) || previous.mightContain(key);
+        if (missing) {
+            rejections.increment();
+        }
+        return missing;
+    }
+
+    /**
+     * Remembers that GitHub answered 404 for the username.
+     *
+     * @param username GitHub username (case-insensitive)
+     */
+    public void recordMissing(String username) {
+        if (generationNanos <= 0) {
+            return;
+        }
+        rotateIfDue();
+        current.put(key(username));
+        recorded.increment();
+    }
+
+    /**
+     * Returns rejection and insertion counters and the memory held by the filters.
+     *
+     * @return statistics by name
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rejectionCount", rejections.sum());
+        stats.put("recordedCount", recorded.sum());
+        stats.put("sizeInBytes", current.sizeInBytes() + previous.sizeInBytes());
+        return stats;
+    }
+
+    private void rotateIfDue() {
+        long now = ticker.read();
+        if (now - generationStart < generationNanos) {
+            return;
+        }
+        synchronized (this) {
+            long elapsed = now - generationStart;
+            if (elapsed < generationNanos) {
+                return;
+            }
+            // After two or more idle generations both filters have expired
+            previous = elapsed >= 2 * generationNanos ? new BloomFilter(expectedEntries, falsePositiveRate) : current;
+            current = new BloomFilter(expectedEntries, falsePositiveRate);
+            generationStart = now;
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.util.Hashing;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.util.LongHashSet;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time-windowed record of the GitHub events already ingested, used to drop events that show up again in a later
+ * poll before they are mapped or stored.
+ * <p>
+ * Each sighting is a single {@code long} (the event id and a hash of the username, mixed together) in one of two
+ * generations of {@link LongHashSet}s, about 16 bytes per event instead of the 60+ a {@code HashSet<String>} would
+ * take. The current generation receives new ids; every half window it becomes the previous generation and the
+ * oldest one is cleared for reuse, so an id is remembered for between {@code window/2} and {@code window} after it
+ * was last seen.
+ * A generation that reaches half of {@code github.dedup.max-ids} rotates early, which bounds memory at the cost of
+ * a shorter window under heavy ingest.
+ * </p>
+ * <p>The id is spread over all 64 bits with {@link Hashing#fmix64} before the username hash is mixed in, so GitHub's
+ * sequential ids, which differ only in their low bits, do not line up with differences between username hashes.
+ * Two ids of the same user never collide; across users, keys behave like random 64-bit values, so with {@code n}
+ * sightings tracked the chance that any two distinct (user, id) pairs share a key is about
+ * n<sup>2</sup>/2<sup>65</sup> (roughly 10<sup>-7</sup> at the default 2 million). A collision makes one event look
+ * like a duplicate.</p>
+ * <p><strong>Configuration:</strong> {@code github.dedup.window} ({@code 0} disables),
+ * {@code github.dedup.max-ids}.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class SeenEventIds {
+
+    private final long generationNanos;
+    private final int maxIdsPerGeneration;
+    private final Ticker ticker;
+    private final LongAdder duplicates = new LongAdder();
+
+    private LongHashSet current;
+    private LongHashSet previous;
+    private long generationStart;
+
+    @Autowired
+    public SeenEventIds(@Value("${github.dedup.window:24h}") Duration window,
+                        @Value("${github.dedup.max-ids:2000000}") int maxIds) {
+        this(window, maxIds, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a record reading time from the given ticker (for tests).
+     */
+    public SeenEventIds(Duration window, int maxIds, Ticker ticker) {
+        this.generationNanos = window.toNanos() / 2;
+        this.maxIdsPerGeneration = Math.max(1, maxIds / 2);
+        this.ticker = ticker;
+        int initialCapacity = Math.min(maxIdsPerGeneration, 1 << 16);
+        this.current = new LongHashSet(initialCapacity);
+        this.previous = new LongHashSet(initialCapacity);
+        this.generationStart = ticker.read();
+    }
+
+    /**
+     * Records an event and reports whether it is being seen for the first time within the window.
+     *
+     * @param username the user the event was fetched for (case-insensitive)
+     * @param id       the event's {@linkplain com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent#getNumericId()
+     *                 numeric id}; negative ids are never considered duplicates
+     * @return {@code true} if the event is new, {@code false} if it was already seen
+     */
+    public boolean firstSighting(String username, long id) {
+        if (generationNanos <= 0 || id < 0) {
+            return true;
+        }
+        long key = key(username, id);
+        synchronized (this) {
+            rotateIfDue();
+            // Re-adding an id seen in the previous generation keeps events that keep reappearing remembered
+            boolean seen = !current.add(key) | previous.contains(key);
+            if (seen) {
+                duplicates.increment();
+            }
+            return !seen;
+        }
+    }
+
+    /**
+     * Forgets a sighting recorded by {@link #firstSighting}, e.g. because the event could not be stored and has to be
+     * accepted again by the next poll.
+     *
+     * @param username the user the event was fetched for (case-insensitive)
+     * @param id       the event's numeric id
+     */
+    public void forget(String username, long id) {
+        if (generationNanos <= 0 || id < 0) {
+            return;
+        }
+        long key = key(username, id);
+        synchronized (this) {
+            current.remove(key);
+            previous.remove(key);
+        }
+    }
+
+    /**
+     * Returns counters and memory use.
+     *
+     * @return {@code duplicateCount}, {@code trackedCount} and {@code sizeInBytes}
+     */
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("duplicateCount", duplicates.sum());
+        stats.put("trackedCount", current.size() + previous.size());
+        stats.put("sizeInBytes", current.sizeInBytes() + previous.sizeInBytes());
+        return stats;
+    }
+
+    private void rotateIfDue() {
+        long elapsed = ticker.read() - generationStart;
+        if (elapsed < generationNanos && current.size() < maxIdsPerGeneration) {
+            return;
+        }
+        LongHashSet expired = previous;
+        expired.clear();
+        if (elapsed >= 2 * generationNanos) {
+            // After two or more idle generations both have expired
+            current.clear();
+        }
+        previous = current;
+        current = expired;
+        generationStart = ticker.read();
+    }
+
+    private static long key(String username, long id) {
+        return Hashing.hashIgnoreCase(username) ^ Hashing.fmix64(id);
+    }
+}
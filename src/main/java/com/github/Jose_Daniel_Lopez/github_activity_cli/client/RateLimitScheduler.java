@@ -0,0 +1,243 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ExchangeFilterFunction} that paces GitHub API calls according to the rate-limit headers GitHub returns.
+ * <p>
+ * The budget is read from {@link TokenPool}, which tracks {@code X-RateLimit-Remaining} / {@code X-RateLimit-Reset}
+ * per token and parks tokens answered with {@code Retry-After} or an exhausted budget. While every token is parked,
+ * all calls are blocked until the first one becomes usable. Otherwise calls are scheduled with a generic cell rate
+ * algorithm: the aggregate remaining budget is spread evenly over the time left until reset, with a burst allowance
+ * of {@code github.rate-limit.burst} calls.
+ * </p>
+ * <p>
+ * A call that would have to wait longer than {@code github.rate-limit.max-queue-wait} is shed immediately with a
+ * synthetic {@code 429 Too Many Requests} instead of being fired into a guaranteed 403. Callers see it through
+ * {@code GitHubApiService#handleGitHubApiException} like any other upstream error (and may be served stale data).
+ * </p>
+ * <p><strong>Conditional requests</strong> ({@code If-None-Match} / {@code If-Modified-Since}) are not paced: GitHub
+ * answers an unchanged resource with a {@code 304} that does not count against the rate limit, so background
+ * revalidation (watch list, prefetch) would otherwise be capped at the pace of paid calls and mostly shed. They still
+ * wait while every token is parked, and one that is answered with anything but {@code 304} is charged afterwards by
+ * moving the schedule one slot ahead, so paid calls keep being spread over the window.</p>
+ * <p>Until every token has reported a budget, no pacing is applied. This filter must be registered before
+ * {@link TokenPool} so that queued calls pick their token only once they are sent.</p>
+ * <p>The statistics are also published as {@code github.rate-limit.*} gauges, counters and a wait timer.</p>
+ * <p><strong>Thread Safety:</strong> Lock-free; safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class RateLimitScheduler implements ExchangeFilterFunction, MeterBinder {
+
+    private final boolean enabled;
+    private final int burst;
+    private final long maxQueueWaitMillis;
+    private final TokenPool tokenPool;
+    private final Clock clock;
+
+    private final AtomicLong theoreticalArrivalMillis = new AtomicLong();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder queuedCalls = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+    private final LongAdder shedCalls = new LongAdder();
+
+    @Autowired
+    public RateLimitScheduler(TokenPool tokenPool,
+                              @Value("${github.rate-limit.enabled:true}") boolean enabled,
+                              @Value("${github.rate-limit.burst:20}") int burst,
+                              @Value("${github.rate-limit.max-queue-wait:5s}") Duration maxQueueWait) {
+        this(tokenPool, enabled, burst, maxQueueWait, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a scheduler reading time from the given clock (for tests).
+     */
+    public RateLimitScheduler(TokenPool tokenPool, boolean enabled, int burst, Duration maxQueueWait, Clock clock) {
+        this.tokenPool = tokenPool;
+        this.enabled = enabled;
+        this.burst = Math.max(1, burst);
+        this.maxQueueWaitMillis = maxQueueWait.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+        boolean conditional = isConditional(request);
+        return Mono.defer(() -> {
+            long delay = conditional ? waitWhileBlocked(clock.millis()) : reserve();
+            if (delay < 0) {
+                shedCalls.increment();
+                return Mono.error(WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(),
+                        "Too Many Requests (shed locally until rate limit resets)", HttpHeaders.EMPTY, new byte[0], null));
+            }
+            Mono<ClientResponse> exchange = next.exchange(request);
+            if (conditional) {
+                exchange = exchange.doOnNext(response -> {
+                    if (response.statusCode().value() != HttpStatus.NOT_MODIFIED.value()) {
+                        charge();
+                    }
+                });
+            }
+            if (delay == 0) {
+                return exchange;
+            }
+            queueDepth.incrementAndGet();
+            queuedCalls.increment();
+            totalWaitMillis.add(delay);
+            maxWaitMillis.accumulateAndGet(delay, Math::max);
+            return Mono.delay(Duration.ofMillis(delay))
+                    .doOnTerminate(queueDepth::decrementAndGet)
+                    .doOnCancel(queueDepth::decrementAndGet)
+                    .then(exchange);
+        });
+    }
+
+    /**
+     * Returns the current aggregate budget as last reported by GitHub, queueing and shedding counters, and the
+     * per-token budgets under {@code tokens}.
+     *
+     * @return statistics by name
+     */
+    public Map<String, Object> stats() {
+        long now = clock.millis();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("remaining", tokenPool.remaining());
+        stats.put("resetInSeconds", Math.max(0, (tokenPool.resetAtMillis() - now) / 1000));
+        stats.put("blockedForSeconds", Math.max(0, (tokenPool.blockedUntilMillis() - now) / 1000));
+        stats.put("queueDepth", queueDepth.get());
+        stats.put("queuedCount", queuedCalls.sum());
+        stats.put("shedCount", shedCalls.sum());
+        long queued = queuedCalls.sum();
+        stats.put("averageWaitMillis", queued == 0 ? 0 : totalWaitMillis.sum() / queued);
+        stats.put("maxWaitMillis", maxWaitMillis.get());
+        stats.put("tokens", tokenPool.stats());
+        return stats;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("github.rate-limit.remaining", tokenPool, TokenPool::remaining)
+                .description("Aggregate GitHub rate-limit budget last reported, or -1 if unknown")
+                .register(registry);
+        Gauge.builder("github.rate-limit.reset", this, s -> Math.max(0, s.tokenPool.resetAtMillis() - s.clock.millis()) / 1000.0)
+                .description("Time until the rate-limit window resets")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("github.rate-limit.blocked", this, s -> Math.max(0, s.tokenPool.blockedUntilMillis() - s.clock.millis()) / 1000.0)
+                .description("Time until a token becomes usable while all tokens are parked")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("github.rate-limit.queue.depth", queueDepth, AtomicInteger::get)
+                .description("Calls currently delayed to stay within the rate limit")
+                .register(registry);
+        FunctionCounter.builder("github.rate-limit.shed", shedCalls, LongAdder::sum)
+                .description("Calls rejected locally because they would have waited too long")
+                .register(registry);
+        FunctionTimer.builder("github.rate-limit.wait", this, s -> s.queuedCalls.sum(), s -> s.totalWaitMillis.sum(),
+                        TimeUnit.MILLISECONDS)
+                .description("Delay imposed on queued calls")
+                .register(registry);
+    }
+
+    /**
+     * Reserves a send slot for one call.
+     *
+     * @return milliseconds to wait before sending, or {@code -1} if the call must be shed
+     */
+    private long reserve() {
+        long now = clock.millis();
+        long blocked = waitWhileBlocked(now);
+        if (blocked != 0) {
+            return blocked;
+        }
+        long interval = interval(now);
+        if (interval < 0) {
+            return 0; // Unknown budget or window already reset: nothing to pace against
+        }
+        long tolerance = interval * (burst - 1);
+        while (true) {
+            long tat = theoreticalArrivalMillis.get();
+            long sendAt = Math.max(now, tat - tolerance);
+            long wait = sendAt - now;
+            if (wait > maxQueueWaitMillis) {
+                return -1;
+            }
+            if (theoreticalArrivalMillis.compareAndSet(tat, Math.max(tat, now) + interval)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Charges a call that was sent without a reservation by moving the schedule one slot ahead.
+     */
+    private void charge() {
+        long now = clock.millis();
+        long interval = interval(now);
+        if (interval >= 0) {
+            theoreticalArrivalMillis.accumulateAndGet(now, (tat, at) -> Math.max(tat, at) + interval);
+        }
+    }
+
+    /**
+     * Returns how long a call has to wait while every token is parked.
+     *
+     * @return {@code 0} if a token is usable, the wait in milliseconds, or {@code -1} if it exceeds the queue limit
+     */
+    private long waitWhileBlocked(long now) {
+        long blockedUntil = tokenPool.blockedUntilMillis();
+        if (blockedUntil <= now) {
+            return 0;
+        }
+        long wait = blockedUntil - now;
+        return wait <= maxQueueWaitMillis ? wait : -1;
+    }
+
+    /**
+     * Spacing between calls that spreads the remaining budget evenly until reset, or {@code -1} if unknown.
+     */
+    private long interval(long now) {
+        int budget = tokenPool.remaining();
+        long window = tokenPool.resetAtMillis() - now;
+        if (budget < 0 || window <= 0) {
+            return -1;
+        }
+        return window / Math.max(1, budget);
+    }
+
+    private static boolean isConditional(ClientRequest request) {
+        HttpHeaders headers = request.headers();
+        return headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+}
@@ -0,0 +1,262 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ExchangeFilterFunction} that authenticates GitHub API calls from a pool of personal access tokens.
+ * <p>
+ * Each token has its own rate-limit budget, tracked from the {@code X-RateLimit-Remaining} /
+ * {@code X-RateLimit-Reset} headers of the responses it received. Every call is routed to the token with the most
+ * remaining budget; a token that is exhausted, or was answered with {@code Retry-After}, is parked until its reset
+ * time. With {@code N} tokens the usable upstream capacity is {@code N} times that of a single token.
+ * </p>
+ * <p>A token's budget is decremented when a call is sent and corrected from the response headers. A {@code 304 Not
+ * Modified} does not count against the rate limit, so if it carries no budget header the decrement is refunded.</p>
+ * <p>Without configured tokens the pool holds a single anonymous entry: calls are sent unauthenticated and its
+ * budget is GitHub's per-IP limit. {@link RateLimitScheduler} paces calls against the pool's aggregate budget.</p>
+ * <p><strong>Configuration:</strong> {@code github.auth.tokens}, a comma-separated list (defaults to the
+ * {@code GITHUB_TOKENS} environment variable).</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class TokenPool implements ExchangeFilterFunction {
+
+    private static final int TOKEN_HOURLY_LIMIT = 5_000;
+    private static final int ANONYMOUS_HOURLY_LIMIT = 60;
+
+    private final List<TokenState> tokens;
+    private final Clock clock;
+
+    @Autowired
+    public TokenPool(@Value("${github.auth.tokens:}") String[] tokens) {
+        this(tokens, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a pool reading time from the given clock (for tests).
+     */
+    public TokenPool(String[] tokens, Clock clock) {
+        List<TokenState> states = new ArrayList<>();
+        Arrays.stream(tokens)
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .forEach(token -> states.add(new TokenState(token)));
+        if (states.isEmpty()) {
+            states.add(new TokenState(null));
+        }
+        this.tokens = List.copyOf(states);
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Selection selection = select();
+            TokenState token = selection.token();
+            ClientRequest authenticated = token.value == null ? request
+                    : ClientRequest.from(request).headers(headers -> headers.setBearerAuth(token.value)).build();
+            return next.exchange(authenticated).doOnNext(response -> update(selection, response));
+        });
+    }
+
+    /**
+     * Sum of the remaining budgets of all tokens that are not parked, or {@code -1} while any of them has not
+     * reported a budget yet.
+     *
+     * @return aggregate remaining calls
+     */
+    public synchronized int remaining() {
+        long now = clock.millis();
+        int sum = 0;
+        for (TokenState token : tokens) {
+            if (token.parkedUntil > now) {
+                continue;
+            }
+            if (token.remaining < 0) {
+                return -1;
+            }
+            sum += token.remaining;
+        }
+        return sum;
+    }
+
+    /**
+     * GitHub's documented primary rate limit for the whole pool: 5,000 calls per hour per token, or 60 per hour for
+     * unauthenticated calls. Used for capacity planning before any budget has been reported.
+     *
+     * @return calls per hour the pool may make
+     */
+    public int hourlyLimit() {
+        return tokens.get(0).value == null ? ANONYMOUS_HOURLY_LIMIT : TOKEN_HOURLY_LIMIT * tokens.size();
+    }
+
+    /**
+     * Latest reset time (epoch milliseconds) among the tokens that are not parked.
+     *
+     * @return epoch milliseconds when the aggregate budget is fully replenished
+     */
+    public synchronized long resetAtMillis() {
+        long now = clock.millis();
+        long resetAt = 0;
+        for (TokenState token : tokens) {
+            if (token.parkedUntil <= now) {
+                resetAt = Math.max(resetAt, token.resetAt);
+            }
+        }
+        return resetAt;
+    }
+
+    /**
+     * Time (epoch milliseconds) until which every token is parked, or {@code 0} if at least one is usable.
+     *
+     * @return epoch milliseconds when the first token becomes usable again
+     */
+    public synchronized long blockedUntilMillis() {
+        long now = clock.millis();
+        long blockedUntil = Long.MAX_VALUE;
+        for (TokenState token : tokens) {
+            if (token.parkedUntil <= now) {
+                return 0;
+            }
+            blockedUntil = Math.min(blockedUntil, token.parkedUntil);
+        }
+        return blockedUntil;
+    }
+
+    /**
+     * Returns the budget and usage of each token, identified by its last four characters only.
+     *
+     * @return one statistics map per token, in configuration order
+     */
+    public synchronized List<Map<String, Object>> stats() {
+        long now = clock.millis();
+        List<Map<String, Object>> stats = new ArrayList<>(tokens.size());
+        for (TokenState token : tokens) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("token", mask(token.value));
+            values.put("remaining", token.remaining);
+            values.put("resetInSeconds", Math.max(0, (token.resetAt - now) / 1000));
+            values.put("parkedForSeconds", Math.max(0, (token.parkedUntil - now) / 1000));
+            values.put("requestCount", token.requests.sum());
+            stats.add(values);
+        }
+        return stats;
+    }
+
+    /**
+     * Picks the usable token with the most remaining budget (unknown budgets first), falling back to the token that
+     * is unparked soonest. The chosen token's budget is decremented until its response reports the real value.
+     */
+    private synchronized Selection select() {
+        long now = clock.millis();
+        TokenState best = null;
+        for (TokenState token : tokens) {
+            if (token.parkedUntil > now) {
+                continue;
+            }
+            if (best == null || headroom(token) > headroom(best)) {
+                best = token;
+            }
+        }
+        if (best == null) {
+            for (TokenState token : tokens) {
+                if (best == null || token.parkedUntil < best.parkedUntil) {
+                    best = token;
+                }
+            }
+        }
+        boolean charged = best.remaining > 0;
+        if (charged) {
+            best.remaining--;
+        }
+        best.requests.increment();
+        return new Selection(best, charged);
+    }
+
+    private synchronized void update(Selection selection, ClientResponse response) {
+        TokenState token = selection.token();
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        long now = clock.millis();
+        String remainingHeader = headers.getFirst("X-RateLimit-Remaining");
+        String resetHeader = headers.getFirst("X-RateLimit-Reset");
+        try {
+            if (remainingHeader != null) {
+                token.remaining = Integer.parseInt(remainingHeader.trim());
+            }
+            if (resetHeader != null) {
+                token.resetAt = Long.parseLong(resetHeader.trim()) * 1000;
+            }
+        } catch (NumberFormatException e) {
+            // Malformed headers: keep the previous budget
+        }
+        int status = response.statusCode().value();
+        if (status == 304 && remainingHeader == null && selection.charged()) {
+            token.remaining++;
+        }
+        if (status == 403 || status == 429) {
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                try {
+                    token.parkedUntil = Math.max(token.parkedUntil, now + Long.parseLong(retryAfter.trim()) * 1000);
+                } catch (NumberFormatException e) {
+                    // HTTP-date form is not used by GitHub; ignore
+                }
+                return;
+            }
+        }
+        if (token.remaining == 0 && token.resetAt > now) {
+            token.parkedUntil = Math.max(token.parkedUntil, token.resetAt);
+        }
+    }
+
+    private static long headroom(TokenState token) {
+        return token.remaining < 0 ? Long.MAX_VALUE : token.remaining;
+    }
+
+    private static String mask(String token) {
+        if (token == null) {
+            return "anonymous";
+        }
+        return token.length() > 8 ? "…" + token.substring(token.length() - 4) : "…";
+    }
+
+    /**
+     * The token chosen for a call, and whether its budget was decremented for it.
+     */
+    private record Selection(TokenState token, boolean charged) {
+    }
+
+    /**
+     * A token and its last known budget. Guarded by the pool's monitor.
+     */
+    private static final class TokenState {
+        private final String value;
+        private final LongAdder requests = new LongAdder();
+        private int remaining = -1;
+        private long resetAt;
+        private long parkedUntil;
+
+        private TokenState(String value) {
+            this.value = value;
+        }
+    }
+}
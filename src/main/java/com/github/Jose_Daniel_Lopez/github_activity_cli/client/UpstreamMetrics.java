@@ -0,0 +1,143 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.client;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.jfr.UpstreamFetchEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ConsumerTiming;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link ExchangeFilterFunction} that measures every GitHub API call.
+ * <ul>
+ *   <li>{@value #REQUESTS}: round trip until the response headers arrive, tagged with the {@code resource}
+ *   ({@code events}, {@code starred}, {@code repos}, ...) and the upstream {@code status}, so its count doubles as a
+ *   status-code counter. Calls that fail without a response are tagged {@code IO_ERROR}.</li>
+ *   <li>{@value #RESPONSE_SIZE}: body bytes received per response.</li>
+ *   <li>{@value #DECODE}: time spent decoding a response body into items. Items are decoded as the body's buffers
+ *   arrive, so this is measured with {@link ConsumerTiming} and excludes the time spent waiting for the network.</li>
+ * </ul>
+ * <p>Each call is also emitted as an {@link UpstreamFetchEvent} to Java Flight Recorder while a recording is
+ * running.</p>
+ * <p>The {@code resource} tag is the last path segment of {@code /users/{username}/{resource}}, keeping usernames out
+ * of the tags. This filter must be registered after {@link RateLimitScheduler} so that time spent queued for the
+ * rate limit is not counted as upstream latency.</p>
+ * <p><strong>Thread Safety:</strong> Stateless apart from the registry; safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class UpstreamMetrics implements ExchangeFilterFunction {
+
+    /** Name of the upstream round-trip timer. */
+    public static final String REQUESTS = "github.client.requests";
+
+    /** Name of the upstream response size summary. */
+    public static final String RESPONSE_SIZE = "github.client.response.size";
+
+    /** Name of the upstream body decoding timer. */
+    public static final String DECODE = "github.client.decode";
+
+    private final MeterRegistry registry;
+
+    @Autowired
+    public UpstreamMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String resource = resource(request.url());
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            UpstreamFetchEvent event = new UpstreamFetchEvent();
+            event.begin();
+            return next.exchange(request)
+                    .doOnError(e -> {
+                        sample.stop(requestTimer(resource, "IO_ERROR"));
+                        commit(event, request.url(), 0, 0);
+                    })
+                    .map(response -> {
+                        int status = response.statusCode().value();
+                        sample.stop(requestTimer(resource, String.valueOf(status)));
+                        return response.mutate().body(body -> measureBody(resource, body,
+                                bytes -> commit(event, request.url(), status, bytes))).build();
+                    });
+        });
+    }
+
+    private Flux<DataBuffer> measureBody(String resource, Flux<DataBuffer> body, LongConsumer onFinally) {
+        AtomicLong bytes = new AtomicLong();
+        Timer decode = Timer.builder(DECODE)
+                .description("Time spent decoding GitHub API response bodies")
+                .tag("resource", resource)
+                .register(registry);
+        return ConsumerTiming.record(body.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())), decode)
+                .doFinally(signal -> {
+                    DistributionSummary.builder(RESPONSE_SIZE)
+                            .description("Size of GitHub API response bodies")
+                            .baseUnit("bytes")
+                            .tag("resource", resource)
+                            .register(registry)
+                            .record(bytes.get());
+                    onFinally.accept(bytes.get());
+                });
+    }
+
+    private static void commit(UpstreamFetchEvent event, URI url, int status, long bytes) {
+        if (event.shouldCommit()) {
+            event.username = username(url);
+            event.url = url.toString();
+            event.status = status;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
+
+    private Timer requestTimer(String resource, String status) {
+        return Timer.builder(REQUESTS)
+                .description("GitHub API round trip until response headers arrive")
+                .tag("resource", resource)
+                .tag("status", status)
+                .register(registry);
+    }
+
+    /**
+     * Derives a low-cardinality resource name from a GitHub API URL.
+     *
+     * @param url the request URL
+     * @return the resource of a {@code /users/{username}/{resource}} URL, or {@code other}
+     */
+    static String resource(URI url) {
+        String[] segments = url.getPath().split("/");
+        int n = segments.length;
+        if (n >= 3 && segments[n - 3].equals("users")) {
+            return segments[n - 1];
+        }
+        return "other";
+    }
+
+    /**
+     * Extracts the username from a GitHub API URL.
+     *
+     * @param url the request URL
+     * @return the username of a {@code /users/{username}/{resource}} URL, or {@code null}
+     */
+    private static String username(URI url) {
+        String[] segments = url.getPath().split("/");
+        int n = segments.length;
+        return n >= 3 && segments[n - 3].equals("users") ? segments[n - 2] : null;
+    }
+}
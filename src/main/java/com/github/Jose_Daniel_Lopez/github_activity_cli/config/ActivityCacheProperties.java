@@ -0,0 +1,44 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory activity cache, bound from {@code github.cache.*}.
+ * <p><strong>Example:</strong>
+ * <pre>
+ * github.cache.events.ttl=60s
+ * github.cache.events.hard-ttl=15m
+ * github.cache.events.max-bytes=33554432
+ * github.cache.max-items-per-entry=1000
+ * </pre>
+ * </p>
+ *
+ * @param events           policy for per-user event arrays
+ * @param repositories     policy for per-user repository lists
+ * @param starred          policy for per-user starred repository lists
+ * @param maxItemsPerEntry streamed collections larger than this are passed through without being cached
+ */
+@ConfigurationProperties(prefix = "github.cache")
+public record ActivityCacheProperties(
+        @DefaultValue ResourcePolicy events,
+        @DefaultValue ResourcePolicy repositories,
+        @DefaultValue ResourcePolicy starred,
+        @DefaultValue("1000") int maxItemsPerEntry) {
+
+    /**
+     * Freshness and size limits for one kind of cached data.
+     *
+     * @param ttl      soft TTL: entries younger than this are served as fresh; older ones are served stale while
+     *                 being refreshed in the background ({@code 0} disables caching for the resource)
+     * @param hardTtl  hard TTL: entries older than this are evicted and never served, even if GitHub is failing
+     * @param maxBytes estimated memory budget for the resource
+     */
+    public record ResourcePolicy(
+            @DefaultValue("60s") Duration ttl,
+            @DefaultValue("15m") Duration hardTtl,
+            @DefaultValue("33554432") long maxBytes) {
+    }
+}
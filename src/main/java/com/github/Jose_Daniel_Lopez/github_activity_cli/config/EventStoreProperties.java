@@ -0,0 +1,31 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Settings for the on-disk event store, bound from {@code github.store.*}.
+ * <p><strong>Example:</strong>
+ * <pre>
+ * github.store.enabled=true
+ * github.store.directory=/var/lib/github-activity/events
+ * github.store.segment-size=64MB
+ * github.store.max-events-per-read=1000
+ * </pre>
+ * </p>
+ *
+ * @param enabled          whether fetched events are persisted and served from disk
+ * @param directory        directory holding the log segments
+ * @param segmentSize      size at which a new segment file is started; each segment is preallocated and mapped whole
+ * @param maxEventsPerRead maximum number of a user's most recent events returned by a single read
+ */
+@ConfigurationProperties(prefix = "github.store")
+public record EventStoreProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/events") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("1000") int maxEventsPerRead) {
+}
@@ -0,0 +1,33 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.FakeGitHubProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.fake.FakeGitHubServer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Starts a {@link FakeGitHubServer} alongside the application when the {@code fake-github} profile is active.
+ * <p>
+ * {@code application-fake-github.properties} fixes {@code fake-github.port} and points {@code github.api.base-url}
+ * at it, so the whole service runs against the stand-in without touching {@code api.github.com}:
+ * </p>
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.profiles=fake-github
+ * </pre>
+ */
+@Configuration
+@Profile("fake-github")
+public class FakeGitHubConfig {
+
+    /**
+     * Creates and starts the fake GitHub API server.
+     *
+     * @param properties server behaviour, bound from {@code fake-github.*}
+     * @return the running server, stopped when the context closes
+     */
+    @Bean(destroyMethod = "close")
+    public FakeGitHubServer fakeGitHubServer(FakeGitHubProperties properties) {
+        return new FakeGitHubServer(properties).start();
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ResponseSizeWebFilter;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.TimedJackson2JsonEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+
+/**
+ * Server-side instrumentation complementing Spring Boot's {@code http.server.requests} timer.
+ * <p>
+ * Meters are published through Actuator's {@code /actuator/prometheus} endpoint. Upstream calls are measured by
+ * {@link com.github.Jose_Daniel_Lopez.github_activity_cli.client.UpstreamMetrics}, processing stages by
+ * {@link com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ProcessingMetrics}, and the rate-limit budget by
+ * {@link com.github.Jose_Daniel_Lopez.github_activity_cli.client.RateLimitScheduler}.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Publishes the current exchange in the Reactor context, so encoders can tag meters with the matched route.
+     *
+     * @return the context filter
+     */
+    @Bean
+    public ServerWebExchangeContextFilter serverWebExchangeContextFilter() {
+        return new ServerWebExchangeContextFilter();
+    }
+
+    /**
+     * Records response body sizes per route.
+     *
+     * @param registry the meter registry
+     * @return the filter
+     */
+    @Bean
+    public ResponseSizeWebFilter responseSizeWebFilter(MeterRegistry registry) {
+        return new ResponseSizeWebFilter(registry);
+    }
+
+    /**
+     * Replaces the server's JSON encoder with one that times serialization.
+     * <p>Ordered after Spring Boot's own Jackson customizer so the timed encoder wins, and built on the same
+     * {@link ObjectMapper} so the registered {@code @JsonComponent} serializers still apply.</p>
+     *
+     * @param objectMapper the application's object mapper
+     * @param registry     the meter registry
+     * @return the codec customizer
+     */
+    @Bean
+    @Order(1)
+    public CodecCustomizer timedJsonEncoderCustomizer(ObjectMapper objectMapper, MeterRegistry registry) {
+        return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new TimedJackson2JsonEncoder(objectMapper, registry));
+    }
+}
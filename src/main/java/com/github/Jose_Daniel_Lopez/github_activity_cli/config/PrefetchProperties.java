@@ -0,0 +1,35 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for predictive prefetching of frequently requested users, bound from {@code github.prefetch.*}.
+ * <p><strong>Example:</strong>
+ * <pre>
+ * github.prefetch.enabled=true
+ * github.prefetch.max-hot-users=500
+ * github.prefetch.min-requests=3
+ * github.prefetch.lead=10s
+ * github.prefetch.budget-share=0.1
+ * </pre>
+ * </p>
+ *
+ * @param enabled       whether hot users' events are refreshed before their cache entries go stale
+ * @param maxHotUsers   maximum number of users tracked as hot; also sizes the frequency sketch
+ * @param minRequests   estimated recent requests a user needs before being prefetched
+ * @param lead          how long before the soft TTL expires a hot user's events are refreshed
+ * @param budgetShare   fraction of the remaining GitHub rate-limit budget prefetching may spend, in {@code (0, 1]}
+ * @param checkInterval how often hot users' cache entries are checked
+ */
+@ConfigurationProperties(prefix = "github.prefetch")
+public record PrefetchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int maxHotUsers,
+        @DefaultValue("3") int minRequests,
+        @DefaultValue("10s") Duration lead,
+        @DefaultValue("0.1") double budgetShare,
+        @DefaultValue("1s") Duration checkInterval) {
+}
@@ -0,0 +1,44 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for the background watch-list poller, bound from {@code github.watch.*}.
+ * <p><strong>Example:</strong>
+ * <pre>
+ * github.watch.enabled=true
+ * github.watch.users=octocat,torvalds
+ * github.watch.users-file=/etc/github-activity/watch-list.txt
+ * github.watch.interval=60s
+ * github.watch.max-concurrency=16
+ * github.watch.max-pinned-bytes=256MB
+ * </pre>
+ * </p>
+ * <p><strong>Memory:</strong> watched users' cached events are pinned outside {@code github.cache.events.max-bytes}
+ * at about 600 KB of heap each (300 events at an estimated 2 KB), up to {@code max-pinned-bytes}; the default pins
+ * about 430 users.</p>
+ *
+ * @param enabled        whether watched users are polled in the background
+ * @param users          usernames to watch
+ * @param usersFile      optional file with more usernames, one per line; blank lines and {@code #} comments are
+ *                       ignored
+ * @param interval       target time between two polls of the same user; GitHub's {@code X-Poll-Interval} wins when
+ *                       it asks for longer
+ * @param maxConcurrency maximum number of polls in flight at once
+ * @param maxPinnedBytes heap the pinned entries of watched users may take; users beyond it are polled but not pinned
+ */
+@ConfigurationProperties(prefix = "github.watch")
+public record WatchListProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<String> users,
+        Path usersFile,
+        @DefaultValue("60s") Duration interval,
+        @DefaultValue("16") int maxConcurrency,
+        @DefaultValue("256MB") DataSize maxPinnedBytes) {
+}
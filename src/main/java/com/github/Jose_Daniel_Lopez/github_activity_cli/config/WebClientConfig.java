@@ -1,5 +1,9 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.config;
 
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.RateLimitScheduler;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.TokenPool;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.UpstreamMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -13,12 +17,16 @@ import org.springframework.web.reactive.function.client.WebClient;
  * </p>
  * <p><strong>Important:</strong> GitHub API requires a valid {@code User-Agent} header.
  * This is configured by default in the provided bean.</p>
+ * <p>Requests use paths relative to {@code github.api.base-url} (default {@code https://api.github.com}), so the
+ * client can be pointed at a stand-in such as
+ * {@link com.github.Jose_Daniel_Lopez.github_activity_cli.fake.FakeGitHubServer}.</p>
+ * <p>Every call passes through {@link RateLimitScheduler}, which paces requests against GitHub's rate-limit headers,
+ * and is then authenticated by {@link TokenPool} with the token that has the most remaining budget. Once sent, it is
+ * measured by {@link UpstreamMetrics}.</p>
  * <p><em>Future considerations:</em> For production use, consider adding:
  * <ul>
  *   <li>Timeout configuration</li>
- *   <li>Retry/backoff policies</li>
  *   <li>Logging of requests/responses (via {@code ExchangeFilterFunction})</li>
- *   <li>Metrics collection (e.g., via Micrometer)</li>
  * </ul>
  * </p>
  */
@@ -34,12 +42,22 @@ public class WebClientConfig {
      * </p>
      * <p><strong>Note:</strong> This bean is singleton-scoped and thread-safe — safe to inject and reuse.</p>
      *
+     * @param baseUrl            root URL of the GitHub REST API
+     * @param rateLimitScheduler paces calls according to GitHub's rate-limit headers
+     * @param tokenPool          authenticates calls from the configured personal access tokens
+     * @param upstreamMetrics    records latency, status and body size of every call
      * @return a pre-configured {@link WebClient} instance with required headers
      */
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(@Value("${github.api.base-url:https://api.github.com}") String baseUrl,
+                               RateLimitScheduler rateLimitScheduler, TokenPool tokenPool,
+                               UpstreamMetrics upstreamMetrics) {
         return WebClient.builder()
+                .baseUrl(baseUrl)
                 .defaultHeader("User-Agent", "SpringBootGitHubCLI/1.0")
+                .filter(rateLimitScheduler)
+                .filter(tokenPool)
+                .filter(upstreamMetrics)
                 .build();
     }
 }
\ No newline at end of file
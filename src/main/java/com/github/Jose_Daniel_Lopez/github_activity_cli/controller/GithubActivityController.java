@@ -1,18 +1,32 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.controller;
 
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.NegativeUserCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.SeenEventIds;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.RateLimitScheduler;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ProcessingMetrics;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ProcessingMetrics.Stage;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.service.EventFormatter;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.service.GitHubApiService;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.service.EventProcessingService;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.service.HotUserPrefetcher;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * REST controller for fetching and formatting GitHub user activity.
@@ -21,8 +35,11 @@ import java.util.List;
  * Note: GitHub's Events API only returns activity from the last 90 days. Some endpoints (e.g., commits, issues)
  * are limited by this constraint — there is no official API for historical/all-time data across repositories.
  * </p>
- * <p><strong>Design Note:</strong> Returns {@code Object} to allow flexible response (List or String message).
- * Consider using {@code ResponseEntity<?>} in future for explicit HTTP status control.</p>
+ * <p><strong>Design Note:</strong> Endpoints are fully reactive: each returns a {@link Mono} composed from
+ * {@link GitHubApiService} without blocking, so requests are served on the Netty event loop rather than one
+ * servlet thread per in-flight GitHub call. The {@code ResponseEntity<Object>} body is either a list of results
+ * or a String message.</p>
+ * <p>Filtering, DTO mapping, formatting and summarizing are timed per endpoint through {@link ProcessingMetrics}.</p>
  */
 @RestController
 @RequestMapping("/api")
@@ -30,20 +47,45 @@ public class GithubActivityController {
 
     private final GitHubApiService gitHubApiService;
     private final EventProcessingService eventProcessingService;
+    private final ActivityCache activityCache;
+    private final NegativeUserCache negativeUserCache;
+    private final SeenEventIds seenEventIds;
+    private final RateLimitScheduler rateLimitScheduler;
+    private final HotUserPrefetcher hotUserPrefetcher;
+    private final ProcessingMetrics processingMetrics;
 
     /**
      * Constructor-based dependency injection for required services.
      *
      * @param gitHubApiService       service to fetch raw events from GitHub API
      * @param eventProcessingService service to filter and transform events into DTOs
+     * @param activityCache          in-memory cache of fetched data, exposed for statistics
+     * @param negativeUserCache      cache of usernames known not to exist, exposed for statistics
+     * @param seenEventIds           record of ingested event ids, exposed for statistics
+     * @param rateLimitScheduler     upstream rate-limit pacing, exposed for statistics
+     * @param hotUserPrefetcher      counts event reads per user to prefetch the most requested ones
+     * @param processingMetrics      times the processing stages of each endpoint
      */
     @Autowired
-    public GithubActivityController(GitHubApiService gitHubApiService, EventProcessingService eventProcessingService) {
+    public GithubActivityController(GitHubApiService gitHubApiService,
+                                    EventProcessingService eventProcessingService,
+                                    ActivityCache activityCache,
+                                    NegativeUserCache negativeUserCache,
+                                    SeenEventIds seenEventIds,
+                                    RateLimitScheduler rateLimitScheduler,
+                                    HotUserPrefetcher hotUserPrefetcher,
+                                    ProcessingMetrics processingMetrics) {
         this.gitHubApiService = gitHubApiService;
         this.eventProcessingService = eventProcessingService;
+        this.activityCache = activityCache;
+        this.negativeUserCache = negativeUserCache;
+        this.seenEventIds = seenEventIds;
+        this.rateLimitScheduler = rateLimitScheduler;
+        this.hotUserPrefetcher = hotUserPrefetcher;
+        this.processingMetrics = processingMetrics;
     }
 
-    // ========== HEALTH CHECK ==========
+    // ========== HEALTH & DIAGNOSTICS ==========
 
     /**
      * Simple health check endpoint.
@@ -55,6 +97,32 @@ public class GithubActivityController {
         return "OK";
     }
 
+    /**
+     * Reports hit/miss/eviction counters and sizes of the in-memory activity cache, the negative user cache and the
+     * record of ingested event ids, and the activity of the hot-user prefetcher.
+     *
+     * @return statistics keyed by cache ("events", "repositories", "starred", "negativeUsers", "seenEvents",
+     * "prefetch")
+     */
+    @GetMapping("/cache/stats")
+    public Map<String, Map<String, Object>> getCacheStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>(activityCache.stats());
+        stats.put("negativeUsers", negativeUserCache.stats());
+        stats.put("seenEvents", seenEventIds.stats());
+        stats.put("prefetch", hotUserPrefetcher.stats());
+        return stats;
+    }
+
+    /**
+     * Reports the GitHub rate-limit budget last seen and how many calls were queued or shed to stay within it.
+     *
+     * @return budget, queue depth and wait-time statistics
+     */
+    @GetMapping("/rate-limit/stats")
+    public Map<String, Object> getRateLimitStats() {
+        return rateLimitScheduler.stats();
+    }
+
     // ========== GENERAL ACTIVITY ENDPOINTS ==========
 
     /**
@@ -66,57 +134,77 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions via {@link GitHubApiService#handleGitHubApiException}
      */
     @GetMapping("/activity/{username}")
-    public Object getActivity(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<String> formattedEvents = new ArrayList<>();
-            if (events != null) {
-                for (GitHubEvent event : events) {
-                    formattedEvents.add(EventFormatter.format(event));
-                }
-            }
-            return handleEmptyResult(formattedEvents, "The specified user has no activity events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getActivity(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> {
+                    List<String> formattedEvents = processingMetrics.record("activity", Stage.FORMAT, username, events.length, () -> {
+                        List<String> formatted = new ArrayList<>(events.length);
+                        for (GitHubEvent event : events) {
+                            formatted.add(EventFormatter.format(event));
+                        }
+                        return formatted;
+                    });
+                    return handleEmptyResult(formattedEvents, "The specified user has no activity events.");
+                })
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
+    }
+
+    // ========== SUMMARY ENDPOINT ==========
+
+    /**
+     * Fetches every activity view of the user in one response.
+     * <p>Events, repositories and starred repositories are fetched concurrently; the events are fetched once and
+     * classified in a single pass to build all event-derived views.</p>
+     *
+     * @param username GitHub username
+     * @return {@link ActivitySummaryDto} with all views; empty views are empty lists
+     * @throws RuntimeException wrapped GitHub API exceptions via {@link GitHubApiService#handleGitHubApiException}
+     */
+    @GetMapping("/summary/{username}")
+    public Mono<ActivitySummaryDto> getSummary(@PathVariable String username) {
+        return Mono.zip(
+                        fetchEvents(username),
+                        eventProcessingService.processRepositories(gitHubApiService.fetchUserRepositories(username))
+                                .collectList(),
+                        eventProcessingService.processStarredRepos(gitHubApiService.fetchUserStarredRepos(username))
+                                .collectList())
+                .map(results -> processingMetrics.record("summary", Stage.SUMMARIZE, username, results.getT1().length,
+                        () -> eventProcessingService.summarize(username, results.getT1(), results.getT2(), results.getT3())))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     // ========== TOTAL ACTIVITY ENDPOINTS ==========
 
     /**
      * Fetches all repositories starred by the user.
+     * <p>Results are streamed page by page as a JSON array, so memory stays bounded even for large accounts.</p>
      *
      * @param username GitHub username
      * @return List of {@link StarEventDto}, or message if none found
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/stars/{username}")
-    public Object getStarEvents(@PathVariable String username) {
-        try {
-            Object[] starredRepos = gitHubApiService.fetchUserStarredRepos(username);
-            List<StarEventDto> starEvents = eventProcessingService.processStarredRepos(starredRepos);
-            return handleEmptyResult(starEvents, "The specified user has no starred repositories.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getStarEvents(@PathVariable String username) {
+        Flux<StarEventDto> starEvents = eventProcessingService
+                .processStarredRepos(gitHubApiService.fetchUserStarredRepos(username))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
+        return handleEmptyResult(starEvents, "The specified user has no starred repositories.");
     }
 
     /**
      * Fetches all public repositories owned by the user.
+     * <p>Results are streamed page by page as a JSON array, so memory stays bounded even for large accounts.</p>
      *
      * @param username GitHub username
      * @return List of {@link RepositoryDto}, or message if none found
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/repositories/{username}")
-    public Object getUserRepositories(@PathVariable String username) {
-        try {
-            Object[] repos = gitHubApiService.fetchUserRepositories(username);
-            List<RepositoryDto> repositories = eventProcessingService.processRepositories(repos);
-            return handleEmptyResult(repositories, "The specified user has no public repositories.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getUserRepositories(@PathVariable String username) {
+        Flux<RepositoryDto> repositories = eventProcessingService
+                .processRepositories(gitHubApiService.fetchUserRepositories(username))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
+        return handleEmptyResult(repositories, "The specified user has no public repositories.");
     }
 
     // ========== RECENT ACTIVITY ENDPOINTS (LAST 90 DAYS) ==========
@@ -131,15 +219,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/commits/{username}")
-    public Object getCommitEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> pushEvents = eventProcessingService.filterEventsByType(events, "PushEvent");
-            List<CommitEventDto> commitEvents = eventProcessingService.processCommitEvents(pushEvents);
-            return handleEmptyResult(commitEvents, "The specified user has no recent commit events (last 90 days).");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getCommitEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "commits", events, EventType.PUSH,
+                                eventProcessingService::processCommitEvents),
+                        "The specified user has no recent commit events (last 90 days)."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -150,15 +236,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/pushes/{username}")
-    public Object getPushEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> pushEvents = eventProcessingService.filterEventsByType(events, "PushEvent");
-            List<PushEventDto> pushEventDtos = eventProcessingService.processPushEvents(pushEvents);
-            return handleEmptyResult(pushEventDtos, "The specified user has no recent push events (last 90 days).");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getPushEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "pushes", events, EventType.PUSH,
+                                eventProcessingService::processPushEvents),
+                        "The specified user has no recent push events (last 90 days)."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -170,15 +254,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/issues/{username}")
-    public Object getIssueEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> issueEvents = eventProcessingService.filterEventsByType(events, "IssuesEvent");
-            List<IssueEventDto> issueEventDtos = eventProcessingService.processIssueEvents(issueEvents);
-            return handleEmptyResult(issueEventDtos, "The specified user has no recent issue events (last 90 days).");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getIssueEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "issues", events, EventType.ISSUES,
+                                eventProcessingService::processIssueEvents),
+                        "The specified user has no recent issue events (last 90 days)."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -189,15 +271,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/forks/{username}")
-    public Object getForkEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> forkEvents = eventProcessingService.filterEventsByType(events, "ForkEvent");
-            List<ForkEventDto> forkEventDtos = eventProcessingService.processForkEvents(forkEvents);
-            return handleEmptyResult(forkEventDtos, "The specified user has no fork events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getForkEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "forks", events, EventType.FORK,
+                                eventProcessingService::processForkEvents),
+                        "The specified user has no fork events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -208,15 +288,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/pulls/{username}")
-    public Object getPullRequestEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> prEvents = eventProcessingService.filterEventsByType(events, "PullRequestEvent");
-            List<PullRequestEventDto> prEventDtos = eventProcessingService.processPullRequestEvents(prEvents);
-            return handleEmptyResult(prEventDtos, "The specified user has no pull request events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getPullRequestEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "pulls", events, EventType.PULL_REQUEST,
+                                eventProcessingService::processPullRequestEvents),
+                        "The specified user has no pull request events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -227,15 +305,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/releases/{username}")
-    public Object getReleaseEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> releaseEvents = eventProcessingService.filterEventsByType(events, "ReleaseEvent");
-            List<ReleaseEventDto> releaseEventDtos = eventProcessingService.processReleaseEvents(releaseEvents);
-            return handleEmptyResult(releaseEventDtos, "The specified user has no release events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getReleaseEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "releases", events, EventType.RELEASE,
+                                eventProcessingService::processReleaseEvents),
+                        "The specified user has no release events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -246,15 +322,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/comments/{username}")
-    public Object getIssueCommentEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> commentEvents = eventProcessingService.filterEventsByType(events, "IssueCommentEvent");
-            List<IssueCommentEventDto> commentEventDtos = eventProcessingService.processCommentEvents(commentEvents);
-            return handleEmptyResult(commentEventDtos, "The specified user has no issue comment events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getIssueCommentEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "comments", events, EventType.ISSUE_COMMENT,
+                                eventProcessingService::processCommentEvents),
+                        "The specified user has no issue comment events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -265,15 +339,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/public/{username}")
-    public Object getPublicEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> publicEvents = eventProcessingService.filterEventsByType(events, "PublicEvent");
-            List<PublicEventDto> publicEventDtos = eventProcessingService.processPublicEvents(publicEvents);
-            return handleEmptyResult(publicEventDtos, "The specified user has no public events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getPublicEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "public", events, EventType.PUBLIC,
+                                eventProcessingService::processPublicEvents),
+                        "The specified user has no public events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -284,15 +356,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/delete/{username}")
-    public Object getDeleteEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> deleteEvents = eventProcessingService.filterEventsByType(events, "DeleteEvent");
-            List<DeleteEventDto> deleteEventDtos = eventProcessingService.processDeleteEvents(deleteEvents);
-            return handleEmptyResult(deleteEventDtos, "The specified user has no delete events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getDeleteEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "delete", events, EventType.DELETE,
+                                eventProcessingService::processDeleteEvents),
+                        "The specified user has no delete events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -303,15 +373,13 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/create/{username}")
-    public Object getCreateEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> createEvents = eventProcessingService.filterEventsByType(events, "CreateEvent");
-            List<CreateEventDto> createEventDtos = eventProcessingService.processCreateEvents(createEvents);
-            return handleEmptyResult(createEventDtos, "The specified user has no create events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getCreateEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "create", events, EventType.CREATE,
+                                eventProcessingService::processCreateEvents),
+                        "The specified user has no create events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     /**
@@ -322,31 +390,80 @@ public class GithubActivityController {
      * @throws RuntimeException wrapped GitHub API exceptions
      */
     @GetMapping("/member/{username}")
-    public Object getMemberEvents(@PathVariable String username) {
-        try {
-            GitHubEvent[] events = gitHubApiService.fetchUserEvents(username);
-            List<GitHubEvent> memberEvents = eventProcessingService.filterEventsByType(events, "MemberEvent");
-            List<MemberEventDto> memberEventDtos = eventProcessingService.processMemberEvents(memberEvents);
-            return handleEmptyResult(memberEventDtos, "The specified user has no member events.");
-        } catch (Exception e) {
-            throw gitHubApiService.handleGitHubApiException(e, username);
-        }
+    public Mono<ResponseEntity<Object>> getMemberEvents(@PathVariable String username) {
+        return fetchEvents(username)
+                .map(events -> handleEmptyResult(
+                        filterAndProcess(username, "member", events, EventType.MEMBER,
+                                eventProcessingService::processMemberEvents),
+                        "The specified user has no member events."))
+                .onErrorMap(e -> gitHubApiService.handleGitHubApiException(e, username));
     }
 
     // ========== HELPER METHODS ==========
 
+    /**
+     * Fetches the user's events, substituting an empty array when GitHub returns no body, and counts the read
+     * towards the user's popularity for {@link HotUserPrefetcher}.
+     *
+     * @param username GitHub username
+     * @return a {@link Mono} emitting the user's events; never empty
+     */
+    private Mono<GitHubEvent[]> fetchEvents(String username) {
+        hotUserPrefetcher.recordRequest(username);
+        return gitHubApiService.fetchUserEvents(username)
+                .defaultIfEmpty(new GitHubEvent[0]);
+    }
+
+    /**
+     * Selects the events of one type and maps them to DTOs, timing both stages.
+     *
+     * @param username  GitHub username
+     * @param endpoint  short endpoint name used to tag the timings
+     * @param events    all fetched events
+     * @param type      the event type to keep
+     * @param processor maps the selected events to DTOs
+     * @return the DTOs, in event order
+     */
+    private <T> List<T> filterAndProcess(String username, String endpoint, GitHubEvent[] events, EventType type,
+                                         Function<List<GitHubEvent>, List<T>> processor) {
+        List<GitHubEvent> selected = processingMetrics.record(endpoint, Stage.FILTER, username, events.length,
+                () -> eventProcessingService.filterEventsByType(events, type));
+        return processingMetrics.record(endpoint, Stage.PROCESS, username, selected.size(),
+                () -> processor.apply(selected));
+    }
+
     /**
      * Returns the given list if non-empty, otherwise returns the provided empty message.
      * <p><strong>Contract:</strong> Never returns {@code null}.</p>
+     * <p>Wrapped in a {@link ResponseEntity} so the body is written using its runtime type: lists as JSON,
+     * messages as plain text.</p>
      *
      * @param resultList    the list of results to check
      * @param emptyMessage  message to return if list is empty
      * @return the list if not empty, otherwise the empty message
      */
-    private Object handleEmptyResult(List<?> resultList, String emptyMessage) {
+    private ResponseEntity<Object> handleEmptyResult(List<?> resultList, String emptyMessage) {
         if (resultList.isEmpty()) {
-            return emptyMessage;
+            return ResponseEntity.ok(emptyMessage);
         }
-        return resultList;
+        return ResponseEntity.ok(resultList);
+    }
+
+    /**
+     * Streaming variant of {@link #handleEmptyResult(List, String)}.
+     * <p>Waits only for the first element: if there is one, the whole stream (including that element) becomes
+     * the response body and is written as it arrives; if the stream completes empty, the message is returned.
+     * Errors before the first element fail the {@link Mono}.</p>
+     *
+     * @param results      the stream of results
+     * @param emptyMessage message to return if the stream is empty
+     * @return a {@link Mono} of the response
+     */
+    private Mono<ResponseEntity<Object>> handleEmptyResult(Flux<?> results, String emptyMessage) {
+        return results
+                .switchOnFirst((first, all) -> first.hasValue()
+                        ? Mono.just(ResponseEntity.<Object>ok(all))
+                        : all.then(Mono.just(ResponseEntity.<Object>ok(emptyMessage))), false)
+                .singleOrEmpty();
     }
 }
\ No newline at end of file
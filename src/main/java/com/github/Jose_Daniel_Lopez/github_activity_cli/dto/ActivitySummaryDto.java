@@ -0,0 +1,95 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) combining every per-type activity view of a GitHub user in one response.
+ * <p>
+ * Returned by {@code /api/summary/{username}}. Each list holds exactly what the corresponding single-view endpoint
+ * (e.g. {@code /api/commits/{username}}) would return, except that empty views are empty lists rather than messages.
+ * Event-derived lists cover the last 90 days only; {@code repositories} and {@code starred} are all-time.
+ * </p>
+ * <p><strong>Note:</strong> Although setters are generated via Lombok, this DTO is intended
+ * to be effectively immutable after instantiation. Avoid modifying instances in multi-threaded contexts.</p>
+ *
+ * @since 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivitySummaryDto {
+
+    /**
+     * GitHub username the summary was computed for.
+     */
+    private String username;
+
+    /**
+     * Commit events derived from PushEvents.
+     */
+    private List<CommitEventDto> commits;
+
+    /**
+     * Push events.
+     */
+    private List<PushEventDto> pushes;
+
+    /**
+     * Issue events.
+     */
+    private List<IssueEventDto> issues;
+
+    /**
+     * Pull request events.
+     */
+    private List<PullRequestEventDto> pullRequests;
+
+    /**
+     * Repository fork events.
+     */
+    private List<ForkEventDto> forks;
+
+    /**
+     * Release events.
+     */
+    private List<ReleaseEventDto> releases;
+
+    /**
+     * Issue comment events.
+     */
+    private List<IssueCommentEventDto> comments;
+
+    /**
+     * Repository/branch creation events.
+     */
+    private List<CreateEventDto> creates;
+
+    /**
+     * Branch/tag deletion events.
+     */
+    private List<DeleteEventDto> deletes;
+
+    /**
+     * Collaborator membership events.
+     */
+    private List<MemberEventDto> members;
+
+    /**
+     * Repository publicization events.
+     */
+    private List<PublicEventDto> publicEvents;
+
+    /**
+     * Public repositories owned by the user.
+     */
+    private List<RepositoryDto> repositories;
+
+    /**
+     * Repositories starred by the user.
+     */
+    private List<StarEventDto> starred;
+}
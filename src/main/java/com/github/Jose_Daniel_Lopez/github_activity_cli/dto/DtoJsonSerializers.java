@@ -0,0 +1,326 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written JSON serializers for every DTO in this package, registered on the application's
+ * {@code ObjectMapper} through {@link JsonComponent}.
+ * <p>
+ * Each serializer writes its fields in declaration order (followed by derived properties such as
+ * {@code createdAt}), exactly as the reflective bean serializer would, but
+ * without property introspection or getter invocation through reflection. Field names are pre-encoded
+ * {@link SerializedString}s, so the generator copies their quoted UTF-8 bytes instead of escaping them on every
+ * call, and {@code int} fields are written without boxing.
+ * </p>
+ * <p><strong>Maintenance:</strong> a field added to a DTO must also be added to its serializer here;
+ * {@code DtoJsonSerializersTest} compares the output against the reflective serializer for each DTO.</p>
+ *
+ * @since 1.0
+ */
+@JsonComponent
+public class DtoJsonSerializers {
+
+    private static final SerializableString REPO_NAME = new SerializedString("repoName");
+    private static final SerializableString REPO_OWNER = new SerializedString("repoOwner");
+    private static final SerializableString COMMIT_COUNT = new SerializedString("commitCount");
+    private static final SerializableString PUSHED_AT = new SerializedString("pushedAt");
+    private static final SerializableString ISSUE_TITLE = new SerializedString("issueTitle");
+    private static final SerializableString ACTION = new SerializedString("action");
+    private static final SerializableString OCCURRED_AT = new SerializedString("occurredAt");
+    private static final SerializableString PR_TITLE = new SerializedString("prTitle");
+    private static final SerializableString FORKED_REPO_NAME = new SerializedString("forkedRepoName");
+    private static final SerializableString RELEASE_NAME = new SerializedString("releaseName");
+    private static final SerializableString COMMENT_BODY = new SerializedString("commentBody");
+    private static final SerializableString REF_TYPE = new SerializedString("refType");
+    private static final SerializableString REF = new SerializedString("ref");
+    private static final SerializableString MEMBER_LOGIN = new SerializedString("memberLogin");
+    private static final SerializableString STARRED_AT = new SerializedString("starredAt");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString FULL_NAME = new SerializedString("fullName");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString LANGUAGE = new SerializedString("language");
+    private static final SerializableString STARGAZERS_COUNT = new SerializedString("stargazersCount");
+    private static final SerializableString FORKS_COUNT = new SerializedString("forksCount");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString COMMITS = new SerializedString("commits");
+    private static final SerializableString PUSHES = new SerializedString("pushes");
+    private static final SerializableString ISSUES = new SerializedString("issues");
+    private static final SerializableString PULL_REQUESTS = new SerializedString("pullRequests");
+    private static final SerializableString FORKS = new SerializedString("forks");
+    private static final SerializableString RELEASES = new SerializedString("releases");
+    private static final SerializableString COMMENTS = new SerializedString("comments");
+    private static final SerializableString CREATES = new SerializedString("creates");
+    private static final SerializableString DELETES = new SerializedString("deletes");
+    private static final SerializableString MEMBERS = new SerializedString("members");
+    private static final SerializableString PUBLIC_EVENTS = new SerializedString("publicEvents");
+    private static final SerializableString REPOSITORIES = new SerializedString("repositories");
+    private static final SerializableString STARRED = new SerializedString("starred");
+
+    public static class CommitEventDtoSerializer extends JsonSerializer<CommitEventDto> {
+
+        @Override
+        public void serialize(CommitEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            gen.writeFieldName(COMMIT_COUNT);
+            gen.writeNumber(value.getCommitCount());
+            writeString(gen, PUSHED_AT, value.getPushedAt());
+            writeString(gen, CREATED_AT, value.getCreatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class PushEventDtoSerializer extends JsonSerializer<PushEventDto> {
+
+        @Override
+        public void serialize(PushEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            gen.writeFieldName(COMMIT_COUNT);
+            gen.writeNumber(value.getCommitCount());
+            writeString(gen, PUSHED_AT, value.getPushedAt());
+            writeString(gen, CREATED_AT, value.getCreatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class IssueEventDtoSerializer extends JsonSerializer<IssueEventDto> {
+
+        @Override
+        public void serialize(IssueEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, ISSUE_TITLE, value.getIssueTitle());
+            writeString(gen, ACTION, value.getAction());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            writeString(gen, CREATED_AT, value.getCreatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class PullRequestEventDtoSerializer extends JsonSerializer<PullRequestEventDto> {
+
+        @Override
+        public void serialize(PullRequestEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, PR_TITLE, value.getPrTitle());
+            writeString(gen, ACTION, value.getAction());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ForkEventDtoSerializer extends JsonSerializer<ForkEventDto> {
+
+        @Override
+        public void serialize(ForkEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, FORKED_REPO_NAME, value.getForkedRepoName());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ReleaseEventDtoSerializer extends JsonSerializer<ReleaseEventDto> {
+
+        @Override
+        public void serialize(ReleaseEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, RELEASE_NAME, value.getReleaseName());
+            writeString(gen, ACTION, value.getAction());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class IssueCommentEventDtoSerializer extends JsonSerializer<IssueCommentEventDto> {
+
+        @Override
+        public void serialize(IssueCommentEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, COMMENT_BODY, value.getCommentBody());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class CreateEventDtoSerializer extends JsonSerializer<CreateEventDto> {
+
+        @Override
+        public void serialize(CreateEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, REF_TYPE, value.getRefType());
+            writeString(gen, REF, value.getRef());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class DeleteEventDtoSerializer extends JsonSerializer<DeleteEventDto> {
+
+        @Override
+        public void serialize(DeleteEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, REF_TYPE, value.getRefType());
+            writeString(gen, REF, value.getRef());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class MemberEventDtoSerializer extends JsonSerializer<MemberEventDto> {
+
+        @Override
+        public void serialize(MemberEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, MEMBER_LOGIN, value.getMemberLogin());
+            writeString(gen, ACTION, value.getAction());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class PublicEventDtoSerializer extends JsonSerializer<PublicEventDto> {
+
+        @Override
+        public void serialize(PublicEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, OCCURRED_AT, value.getOccurredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class StarEventDtoSerializer extends JsonSerializer<StarEventDto> {
+
+        @Override
+        public void serialize(StarEventDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, REPO_NAME, value.getRepoName());
+            writeString(gen, REPO_OWNER, value.getRepoOwner());
+            writeString(gen, STARRED_AT, value.getStarredAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class RepositoryDtoSerializer extends JsonSerializer<RepositoryDto> {
+
+        @Override
+        public void serialize(RepositoryDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, NAME, value.getName());
+            writeString(gen, FULL_NAME, value.getFullName());
+            writeString(gen, DESCRIPTION, value.getDescription());
+            writeString(gen, LANGUAGE, value.getLanguage());
+            gen.writeFieldName(STARGAZERS_COUNT);
+            gen.writeNumber(value.getStargazersCount());
+            gen.writeFieldName(FORKS_COUNT);
+            gen.writeNumber(value.getForksCount());
+            writeString(gen, CREATED_AT, value.getCreatedAt());
+            writeString(gen, UPDATED_AT, value.getUpdatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ActivitySummaryDtoSerializer extends JsonSerializer<ActivitySummaryDto> {
+
+        private final CommitEventDtoSerializer commitsSerializer = new CommitEventDtoSerializer();
+        private final PushEventDtoSerializer pushesSerializer = new PushEventDtoSerializer();
+        private final IssueEventDtoSerializer issuesSerializer = new IssueEventDtoSerializer();
+        private final PullRequestEventDtoSerializer pullRequestsSerializer = new PullRequestEventDtoSerializer();
+        private final ForkEventDtoSerializer forksSerializer = new ForkEventDtoSerializer();
+        private final ReleaseEventDtoSerializer releasesSerializer = new ReleaseEventDtoSerializer();
+        private final IssueCommentEventDtoSerializer commentsSerializer = new IssueCommentEventDtoSerializer();
+        private final CreateEventDtoSerializer createsSerializer = new CreateEventDtoSerializer();
+        private final DeleteEventDtoSerializer deletesSerializer = new DeleteEventDtoSerializer();
+        private final MemberEventDtoSerializer membersSerializer = new MemberEventDtoSerializer();
+        private final PublicEventDtoSerializer publicEventsSerializer = new PublicEventDtoSerializer();
+        private final RepositoryDtoSerializer repositoriesSerializer = new RepositoryDtoSerializer();
+        private final StarEventDtoSerializer starredSerializer = new StarEventDtoSerializer();
+
+        @Override
+        public void serialize(ActivitySummaryDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            writeString(gen, USERNAME, value.getUsername());
+            writeList(gen, COMMITS, value.getCommits(), commitsSerializer, serializers);
+            writeList(gen, PUSHES, value.getPushes(), pushesSerializer, serializers);
+            writeList(gen, ISSUES, value.getIssues(), issuesSerializer, serializers);
+            writeList(gen, PULL_REQUESTS, value.getPullRequests(), pullRequestsSerializer, serializers);
+            writeList(gen, FORKS, value.getForks(), forksSerializer, serializers);
+            writeList(gen, RELEASES, value.getReleases(), releasesSerializer, serializers);
+            writeList(gen, COMMENTS, value.getComments(), commentsSerializer, serializers);
+            writeList(gen, CREATES, value.getCreates(), createsSerializer, serializers);
+            writeList(gen, DELETES, value.getDeletes(), deletesSerializer, serializers);
+            writeList(gen, MEMBERS, value.getMembers(), membersSerializer, serializers);
+            writeList(gen, PUBLIC_EVENTS, value.getPublicEvents(), publicEventsSerializer, serializers);
+            writeList(gen, REPOSITORIES, value.getRepositories(), repositoriesSerializer, serializers);
+            writeList(gen, STARRED, value.getStarred(), starredSerializer, serializers);
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value); // writes null for a null value
+    }
+
+    private static <T> void writeList(JsonGenerator gen, SerializableString name, List<T> values,
+                                      JsonSerializer<T> serializer, SerializerProvider serializers) throws IOException {
+        gen.writeFieldName(name);
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(values, values.size());
+        for (T item : values) {
+            if (item == null) {
+                gen.writeNull();
+            } else {
+                serializer.serialize(item, gen, serializers);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.fake;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Behaviour of {@link FakeGitHubServer}, bound from {@code fake-github.*}.
+ * <p><strong>Example:</strong>
+ * <pre>
+ * fake-github.port=9090
+ * fake-github.latency=80ms
+ * fake-github.jitter=40ms
+ * fake-github.error-rate=0.01
+ * fake-github.fixtures-dir=src/test/resources/fixtures
+ * </pre>
+ * </p>
+ *
+ * @param port                port to listen on ({@code 0} picks a free one)
+ * @param eventsPerUser       events served per user (GitHub caps the Events API at 300)
+ * @param repositoriesPerUser repositories served per user
+ * @param starredPerUser      starred repositories served per user
+ * @param mix                 event type distribution of generated events
+ * @param latency             fixed delay added to every response
+ * @param jitter              maximum random delay added on top of {@code latency}
+ * @param errorRate           probability (0..1) of answering {@code 502 Bad Gateway}
+ * @param notModifiedRate     probability (0..1) of answering {@code 304} when {@code If-None-Match} matches;
+ *                            otherwise the full page is sent again
+ * @param rateLimit           calls allowed per token (or anonymous client) per window
+ * @param rateLimitWindow     length of a rate-limit window
+ * @param pollInterval        value of {@code X-Poll-Interval} on event responses
+ * @param missingUsers        usernames answered with {@code 404 Not Found}
+ * @param fixturesDir         directory of recorded responses ({@code <user>/<events|repos|starred>.json}, each a
+ *                            JSON array) served instead of generated items when present; may be {@code null}
+ */
+@ConfigurationProperties(prefix = "fake-github")
+public record FakeGitHubProperties(
+        @DefaultValue("0") int port,
+        @DefaultValue("300") int eventsPerUser,
+        @DefaultValue("45") int repositoriesPerUser,
+        @DefaultValue("120") int starredPerUser,
+        @DefaultValue("MIXED") GitHubFixtures.Mix mix,
+        @DefaultValue("0ms") Duration latency,
+        @DefaultValue("0ms") Duration jitter,
+        @DefaultValue("0") double errorRate,
+        @DefaultValue("1") double notModifiedRate,
+        @DefaultValue("5000") int rateLimit,
+        @DefaultValue("1h") Duration rateLimitWindow,
+        @DefaultValue("60s") Duration pollInterval,
+        @DefaultValue List<String> missingUsers,
+        String fixturesDir) {
+
+    /**
+     * Settings matching the {@code @DefaultValue}s above: no latency, no errors, always {@code 304} on a matching
+     * {@code ETag}.
+     *
+     * @return default settings listening on a free port
+     */
+    public static FakeGitHubProperties defaults() {
+        return new FakeGitHubProperties(0, 300, 45, 120, GitHubFixtures.Mix.MIXED, Duration.ZERO, Duration.ZERO,
+                0, 1, 5000, Duration.ofHours(1), Duration.ofSeconds(60), List.of(), null);
+    }
+}
@@ -0,0 +1,334 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Embeddable stand-in for the parts of the GitHub REST API this application calls, for load and latency testing.
+ * <p>
+ * Serves {@code GET /users/{username}/events}, {@code /repos} and {@code /starred} from recorded fixtures when
+ * available, otherwise from {@link GitHubFixtures} (deterministic per username). Responses behave like GitHub's:
+ * <ul>
+ *   <li>{@code per_page} (default 30, max 100) / {@code page} pagination with {@code Link} headers
+ *       ({@code next}, {@code last}, {@code first}, {@code prev})</li>
+ *   <li>a weak {@code ETag} per page; a matching {@code If-None-Match} is answered with {@code 304}, which does
+ *       not count against the rate limit</li>
+ *   <li>{@code X-RateLimit-*} headers tracked per {@code Authorization} header; an exhausted budget is answered
+ *       with {@code 403} until the window resets</li>
+ *   <li>{@code X-Poll-Interval} on event responses</li>
+ * </ul>
+ * Latency, jitter, error rate and the share of {@code 304}s are set through {@link FakeGitHubProperties}.
+ * </p>
+ * <p><strong>Usage:</strong> {@code new FakeGitHubServer(FakeGitHubProperties.defaults()).start()} in tests, or the
+ * {@code fake-github} Spring profile, which starts it alongside the application and points
+ * {@code github.api.base-url} at it.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+public class FakeGitHubServer implements AutoCloseable {
+
+    private static final int DEFAULT_PER_PAGE = 30;
+    private static final int MAX_PER_PAGE = 100;
+    private static final Set<String> RESOURCES = Set.of("events", "repos", "starred");
+
+    private final FakeGitHubProperties properties;
+    private final Clock clock;
+    private final Instant newestEvent;
+    private final Set<String> missingUsers;
+    private final Map<String, RateBudget> budgets = new ConcurrentHashMap<>();
+    private final Map<String, Optional<List<String>>> recorded = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LongAdder requests = new LongAdder();
+    private DisposableServer server;
+
+    public FakeGitHubServer(FakeGitHubProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a server reading time from the given clock (for tests).
+     */
+    public FakeGitHubServer(FakeGitHubProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.newestEvent = clock.instant().truncatedTo(ChronoUnit.MINUTES);
+        this.missingUsers = properties.missingUsers().stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+
+    /**
+     * Binds the server; returns once it accepts connections.
+     *
+     * @return this server
+     */
+    public synchronized FakeGitHubServer start() {
+        if (server == null) {
+            server = HttpServer.create()
+                    .host("localhost")
+                    .port(properties.port())
+                    .route(routes -> routes.get("/users/{username}/{resource}", this::handle))
+                    .bindNow();
+        }
+        return this;
+    }
+
+    /**
+     * Base URL to configure as {@code github.api.base-url}, e.g. {@code http://localhost:9090}.
+     *
+     * @return the base URL of the running server
+     */
+    public String baseUrl() {
+        return "http://localhost:" + port();
+    }
+
+    /**
+     * Port the server is bound to.
+     *
+     * @return the bound port
+     */
+    public synchronized int port() {
+        if (server == null) {
+            throw new IllegalStateException("Server not started");
+        }
+        return server.port();
+    }
+
+    /**
+     * Number of requests received since start, including rejected ones.
+     *
+     * @return request count
+     */
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        requests.increment();
+        Mono<Void> reply = Mono.defer(() -> reply(request, response));
+        Duration delay = delay();
+        return delay.isZero() ? reply : Mono.delay(delay).then(reply);
+    }
+
+    private Mono<Void> reply(HttpServerRequest request, HttpServerResponse response) {
+        String username = request.param("username");
+        String resource = request.param("resource");
+        if (username == null || !RESOURCES.contains(resource)) {
+            return sendJson(response, HttpResponseStatus.NOT_FOUND, "{\"message\":\"Not Found\"}");
+        }
+        QueryStringDecoder query = new QueryStringDecoder(request.uri());
+        int perPage = Math.max(1, Math.min(MAX_PER_PAGE, intParam(query, "per_page", DEFAULT_PER_PAGE)));
+        int page = Math.max(1, intParam(query, "page", 1));
+
+        List<String> items = items(username, resource);
+        String eTag = "W/\"" + Integer.toHexString((username.toLowerCase() + '/' + resource + '/' + perPage + '/'
+                + page + '/' + items.size() + '/' + newestEvent).hashCode()) + "\"";
+        RateBudget budget = budgets.computeIfAbsent(
+                String.valueOf(request.requestHeaders().get(HttpHeaders.AUTHORIZATION)), key -> new RateBudget());
+
+        boolean notModified = eTag.equals(request.requestHeaders().get(HttpHeaders.IF_NONE_MATCH))
+                && ThreadLocalRandom.current().nextDouble() < properties.notModifiedRate();
+        if (!budget.tryAcquire(!notModified)) {
+            budget.applyTo(response);
+            return sendJson(response, HttpResponseStatus.FORBIDDEN,
+                    "{\"message\":\"API rate limit exceeded\",\"documentation_url\":\"https://docs.github.com/rest\"}");
+        }
+        budget.applyTo(response);
+        if (ThreadLocalRandom.current().nextDouble() < properties.errorRate()) {
+            return sendJson(response, HttpResponseStatus.BAD_GATEWAY, "{\"message\":\"Server Error\"}");
+        }
+        if (missingUsers.contains(username.toLowerCase())) {
+            return sendJson(response, HttpResponseStatus.NOT_FOUND, "{\"message\":\"Not Found\"}");
+        }
+        if ("events".equals(resource)) {
+            response.header("X-Poll-Interval", String.valueOf(properties.pollInterval().toSeconds()));
+        }
+        response.header(HttpHeaders.ETAG, eTag);
+        if (notModified) {
+            return response.status(HttpResponseStatus.NOT_MODIFIED).send();
+        }
+
+        int lastPage = Math.max(1, (items.size() + perPage - 1) / perPage);
+        String link = link(request, username, resource, perPage, page, lastPage);
+        if (link != null) {
+            response.header(HttpHeaders.LINK, link);
+        }
+        int from = Math.min(items.size(), (page - 1) * perPage);
+        int to = Math.min(items.size(), from + perPage);
+        return sendJson(response, HttpResponseStatus.OK, "[" + String.join(",", items.subList(from, to)) + "]");
+    }
+
+    /**
+     * All items of a user's collection: the recorded fixture if one exists, otherwise generated ones.
+     */
+    private List<String> items(String username, String resource) {
+        Optional<List<String>> fixture = properties.fixturesDir() == null ? Optional.empty()
+                : recorded.computeIfAbsent(username + '/' + resource, key -> readFixture(username, resource));
+        return fixture.orElseGet(() -> generate(username, resource));
+    }
+
+    private Optional<List<String>> readFixture(String username, String resource) {
+        Path file = Path.of(properties.fixturesDir(), username, resource + ".json");
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            List<String> items = new ArrayList<>();
+            for (JsonNode item : objectMapper.readTree(file.toFile())) {
+                items.add(item.toString());
+            }
+            return Optional.of(List.copyOf(items));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable fixture " + file, e);
+        }
+    }
+
+    private List<String> generate(String username, String resource) {
+        long seed = username.toLowerCase().hashCode();
+        return switch (resource) {
+            case "events" -> new GeneratedList(properties.eventsPerUser(),
+                    index -> GitHubFixtures.event(seed, index, username, properties.mix(), newestEvent));
+            case "repos" -> new GeneratedList(properties.repositoriesPerUser(),
+                    index -> GitHubFixtures.repository(seed, index, username));
+            default -> new GeneratedList(properties.starredPerUser(),
+                    index -> GitHubFixtures.repository(seed + 1, index, "maintainer-" + index % 17));
+        };
+    }
+
+    private static String link(HttpServerRequest request, String username, String resource,
+                               int perPage, int page, int lastPage) {
+        String host = request.requestHeaders().get(HttpHeaders.HOST);
+        String base = "http://" + host + "/users/" + username + "/" + resource + "?per_page=" + perPage + "&page=";
+        List<String> links = new ArrayList<>(4);
+        if (page < lastPage) {
+            links.add("<" + base + (page + 1) + ">; rel=\"next\"");
+            links.add("<" + base + lastPage + ">; rel=\"last\"");
+        }
+        if (page > 1) {
+            links.add("<" + base + 1 + ">; rel=\"first\"");
+            links.add("<" + base + (page - 1) + ">; rel=\"prev\"");
+        }
+        return links.isEmpty() ? null : String.join(", ", links);
+    }
+
+    private static Mono<Void> sendJson(HttpServerResponse response, HttpResponseStatus status, String body) {
+        return response.status(status)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + "; charset=utf-8")
+                .sendString(Mono.just(body))
+                .then();
+    }
+
+    private static int intParam(QueryStringDecoder query, String name, int defaultValue) {
+        List<String> values = query.parameters().get(name);
+        if (values == null || values.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(values.get(0));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private Duration delay() {
+        long jitterMillis = properties.jitter().toMillis();
+        long extra = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+        return properties.latency().plusMillis(extra);
+    }
+
+    /**
+     * A lazily generated, immutable list; items are built only for the pages actually requested.
+     */
+    private static final class GeneratedList extends AbstractList<String> {
+        private final int size;
+        private final IntFunction<String> generator;
+
+        private GeneratedList(int size, IntFunction<String> generator) {
+            this.size = size;
+            this.generator = generator;
+        }
+
+        @Override
+        public String get(int index) {
+            return generator.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Rate-limit window of one token. Guarded by its own monitor.
+     */
+    private final class RateBudget {
+        private int used;
+        private long resetAt;
+
+        /**
+         * Opens a new window if the current one has expired, then takes one call from it if {@code charge} is set.
+         *
+         * @return {@code false} if the budget is exhausted
+         */
+        synchronized boolean tryAcquire(boolean charge) {
+            long now = clock.millis();
+            if (now >= resetAt) {
+                used = 0;
+                resetAt = now + properties.rateLimitWindow().toMillis();
+            }
+            if (used >= properties.rateLimit()) {
+                return false;
+            }
+            if (charge) {
+                used++;
+            }
+            return true;
+        }
+
+        synchronized void applyTo(HttpServerResponse response) {
+            response.header("X-RateLimit-Limit", String.valueOf(properties.rateLimit()))
+                    .header("X-RateLimit-Remaining", String.valueOf(properties.rateLimit() - used))
+                    .header("X-RateLimit-Used", String.valueOf(used))
+                    .header("X-RateLimit-Reset", String.valueOf(Math.ceilDiv(resetAt, 1000)))
+                    .header("X-RateLimit-Resource", "core");
+        }
+    }
+}
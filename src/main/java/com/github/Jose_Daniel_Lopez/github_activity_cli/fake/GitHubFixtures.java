@@ -0,0 +1,206 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.fake;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of GitHub-shaped API items, used by {@link FakeGitHubServer} and the JMH benchmarks.
+ * <p>
+ * Events carry the same envelope GitHub returns ({@code id}, {@code actor}, {@code repo}, {@code payload},
+ * {@code public}, {@code created_at}, {@code org}) and repositories carry the many URL and flag fields this
+ * application ignores, so decode costs are representative. Every item is derived from {@code (seed, index)} alone:
+ * the same inputs always produce the same JSON, and any page can be generated without generating the ones before it.
+ * </p>
+ * <p>Events are ordered newest first, like the Events API: event {@code index} is {@code index} minutes older
+ * than {@code newest} and has a correspondingly smaller {@code id}.</p>
+ *
+ * @since 1.0
+ */
+public final class GitHubFixtures {
+
+    /** Creation time of the newest event in offline fixtures. */
+    public static final Instant FIXED_NEWEST = Instant.parse("2025-01-31T12:00:00Z");
+
+    /**
+     * Distribution of event types. Types are drawn uniformly from the listed names, so repeating a name raises its
+     * share.
+     */
+    public enum Mix {
+        /** Roughly what an active developer's feed looks like: mostly pushes, a bit of everything else. */
+        MIXED("PushEvent", "PushEvent", "PushEvent", "PushEvent", "WatchEvent", "IssuesEvent", "IssueCommentEvent",
+                "PullRequestEvent", "CreateEvent", "DeleteEvent", "ForkEvent", "ReleaseEvent", "MemberEvent",
+                "PublicEvent"),
+        /** Pushes only; exercises the largest payloads (commit lists). */
+        PUSH_HEAVY("PushEvent"),
+        /** Issue and pull request triage. */
+        ISSUE_HEAVY("IssuesEvent", "IssuesEvent", "IssueCommentEvent", "IssueCommentEvent", "IssueCommentEvent",
+                "PullRequestEvent", "WatchEvent");
+
+        private final String[] types;
+
+        Mix(String... types) {
+            this.types = types;
+        }
+    }
+
+    private GitHubFixtures() {
+    }
+
+    /**
+     * Builds a JSON array of {@code size} events created up to {@link #FIXED_NEWEST}.
+     *
+     * @param size number of events
+     * @param mix  type distribution
+     * @param seed seed selecting types and sizes
+     * @return the page as JSON
+     */
+    public static String eventsPage(int size, Mix mix, long seed) {
+        StringBuilder json = new StringBuilder(size * 1024).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendEvent(json, seed, i, "octocat", mix, FIXED_NEWEST);
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Builds a JSON array of {@code size} repositories owned by {@code octocat}.
+     *
+     * @param size number of repositories
+     * @param seed seed selecting counts and optional fields
+     * @return the page as JSON
+     */
+    public static String repositoriesPage(int size, long seed) {
+        StringBuilder json = new StringBuilder(size * 2048).append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendRepository(json, seed, i, "octocat");
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Builds a single event.
+     *
+     * @param seed   per-user seed
+     * @param index  position in the user's feed, 0 being the newest
+     * @param login  the acting user
+     * @param mix    type distribution
+     * @param newest creation time of event 0
+     * @return the event as JSON
+     */
+    public static String event(long seed, int index, String login, Mix mix, Instant newest) {
+        StringBuilder json = new StringBuilder(1024);
+        appendEvent(json, seed, index, login, mix, newest);
+        return json.toString();
+    }
+
+    /**
+     * Builds a single repository.
+     *
+     * @param seed  per-user seed
+     * @param index position in the listing
+     * @param owner owner login
+     * @return the repository as JSON
+     */
+    public static String repository(long seed, int index, String owner) {
+        StringBuilder json = new StringBuilder(2048);
+        appendRepository(json, seed, index, owner);
+        return json.toString();
+    }
+
+    private static SplittableRandom random(long seed, int index) {
+        return new SplittableRandom(seed * 31 + index);
+    }
+
+    private static void appendEvent(StringBuilder json, long seed, int index, String login, Mix mix, Instant newest) {
+        SplittableRandom random = random(seed, index);
+        String type = mix.types[random.nextInt(mix.types.length)];
+        String repo = login + "/project-" + random.nextInt(20);
+        Instant createdAt = newest.minus(Duration.ofMinutes(index));
+        json.append("{\"id\":\"").append(40_000_000_000L + newest.getEpochSecond() / 60 - index).append("\",")
+                .append("\"type\":\"").append(type).append("\",")
+                .append("\"actor\":{\"id\":583231,\"login\":\"").append(login).append("\",\"display_login\":\"")
+                .append(login).append("\",\"gravatar_id\":\"\",\"url\":\"https://api.github.com/users/")
+                .append(login).append("\",\"avatar_url\":\"https://avatars.githubusercontent.com/u/583231?\"},")
+                .append("\"repo\":{\"id\":").append(1_000_000 + index).append(",\"name\":\"").append(repo)
+                .append("\",\"url\":\"https://api.github.com/repos/").append(repo).append("\"},")
+                .append("\"payload\":");
+        appendPayload(json, type, repo, index, random);
+        json.append(",\"public\":true,\"created_at\":\"").append(createdAt).append('"')
+                .append(",\"org\":{\"id\":9919,\"login\":\"github\",\"url\":\"https://api.github.com/orgs/github\"}}");
+    }
+
+    private static void appendPayload(StringBuilder json, String type, String repo, int index,
+                                      SplittableRandom random) {
+        switch (type) {
+            case "PushEvent" -> {
+                int commits = 1 + random.nextInt(5);
+                json.append("{\"repository_id\":").append(index).append(",\"push_id\":").append(index * 7L)
+                        .append(",\"size\":").append(commits).append(",\"distinct_size\":").append(commits)
+                        .append(",\"ref\":\"refs/heads/main\",\"head\":\"7a8f3ac\",\"before\":\"1b2c3d4\",\"commits\":[");
+                for (int c = 0; c < commits; c++) {
+                    if (c > 0) {
+                        json.append(',');
+                    }
+                    json.append("{\"sha\":\"").append(Integer.toHexString(random.nextInt()))
+                            .append("\",\"author\":{\"email\":\"octocat@github.com\",\"name\":\"The Octocat\"},")
+                            .append("\"message\":\"Commit message number ").append(c)
+                            .append(" with a realistic length\",\"distinct\":true,\"url\":\"https://api.github.com/repos/")
+                            .append(repo).append("/commits/abc\"}");
+                }
+                json.append("]}");
+            }
+            case "IssuesEvent" -> json.append("{\"action\":\"opened\",\"issue\":{\"id\":").append(index)
+                    .append(",\"number\":").append(index).append(",\"title\":\"Issue title ").append(index)
+                    .append("\",\"state\":\"open\",\"labels\":[{\"name\":\"bug\"}],\"body\":\"Steps to reproduce...\"}}");
+            case "IssueCommentEvent" -> json.append("{\"action\":\"created\",\"issue\":{\"number\":").append(index)
+                    .append(",\"title\":\"Issue\"},\"comment\":{\"id\":").append(index)
+                    .append(",\"body\":\"Thanks for the report, looking into it.\"}}");
+            case "PullRequestEvent" -> json.append("{\"action\":\"opened\",\"number\":").append(index)
+                    .append(",\"pull_request\":{\"id\":").append(index).append(",\"title\":\"Pull request ")
+                    .append(index).append("\",\"state\":\"open\",\"additions\":12,\"deletions\":3,")
+                    .append("\"head\":{\"ref\":\"feature\"},\"base\":{\"ref\":\"main\"}}}");
+            case "CreateEvent" -> json.append("{\"ref\":\"feature-").append(index)
+                    .append("\",\"ref_type\":\"branch\",\"master_branch\":\"main\",\"pusher_type\":\"user\"}");
+            case "DeleteEvent" -> json.append("{\"ref\":\"old-").append(index)
+                    .append("\",\"ref_type\":\"branch\",\"pusher_type\":\"user\"}");
+            case "ForkEvent" -> json.append("{\"forkee\":{\"id\":").append(index)
+                    .append(",\"name\":\"project\",\"full_name\":\"someone/project-").append(index)
+                    .append("\",\"private\":false,\"fork\":true}}");
+            case "ReleaseEvent" -> json.append("{\"action\":\"published\",\"release\":{\"id\":").append(index)
+                    .append(",\"tag_name\":\"v1.").append(index).append("\",\"name\":\"Release 1.").append(index)
+                    .append("\",\"draft\":false,\"prerelease\":false}}");
+            case "MemberEvent" -> json.append("{\"action\":\"added\",\"member\":{\"id\":").append(index)
+                    .append(",\"login\":\"collaborator").append(index).append("\"}}");
+            default -> json.append("{}");
+        }
+    }
+
+    private static void appendRepository(StringBuilder json, long seed, int index, String owner) {
+        SplittableRandom random = random(seed, index);
+        String fullName = owner + "/project-" + index;
+        json.append("{\"id\":").append(2_000_000 + index).append(",\"node_id\":\"R_kgDO").append(index)
+                .append("\",\"name\":\"project-").append(index).append("\",\"full_name\":\"").append(fullName)
+                .append("\",\"private\":false,\"owner\":{\"login\":\"").append(owner).append("\",\"id\":583231,")
+                .append("\"type\":\"User\",\"site_admin\":false},\"html_url\":\"https://github.com/")
+                .append(fullName).append("\",\"description\":")
+                .append(random.nextInt(4) == 0 ? "null" : "\"Description of project " + index + "\"")
+                .append(",\"fork\":false,\"url\":\"https://api.github.com/repos/").append(fullName)
+                .append("\",\"forks_url\":\"https://api.github.com/repos/").append(fullName).append("/forks\",")
+                .append("\"created_at\":\"2023-05-01T10:00:00Z\",\"updated_at\":\"2025-01-15T10:00:00Z\",")
+                .append("\"pushed_at\":\"2025-01-15T10:00:00Z\",\"size\":").append(random.nextInt(50_000))
+                .append(",\"stargazers_count\":").append(random.nextInt(5_000))
+                .append(",\"watchers_count\":").append(random.nextInt(5_000))
+                .append(",\"language\":").append(random.nextInt(3) == 0 ? "null" : "\"Java\"")
+                .append(",\"has_issues\":true,\"has_wiki\":true,\"forks_count\":").append(random.nextInt(500))
+                .append(",\"archived\":false,\"open_issues_count\":").append(random.nextInt(50))
+                .append(",\"topics\":[\"spring\",\"github\"],\"visibility\":\"public\",")
+                .append("\"default_branch\":\"main\"}");
+    }
+}
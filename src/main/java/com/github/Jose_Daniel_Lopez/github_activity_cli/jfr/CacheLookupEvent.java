@@ -0,0 +1,37 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a lookup in one of the in-memory caches in front of the GitHub API.
+ * <p>Emitted by {@link com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache} and, for usernames
+ * known not to exist, by {@link com.github.Jose_Daniel_Lopez.github_activity_cli.service.GitHubApiService}.</p>
+ *
+ * @since 1.0
+ */
+@Name("github.activity.CacheLookup")
+@Label("Cache Lookup")
+@Category({"GitHub Activity", "Cache"})
+@Description("Lookup in an in-memory cache in front of the GitHub API")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Username")
+    public String username;
+
+    @Label("Outcome")
+    @Description("hit, stale (served while refreshing) or miss")
+    public String outcome;
+
+    @Label("Items")
+    @Description("Number of items served from the cache, or 0 on a miss")
+    public int items;
+}
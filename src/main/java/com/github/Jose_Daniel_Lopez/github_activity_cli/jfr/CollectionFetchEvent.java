@@ -0,0 +1,39 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for streaming one paginated GitHub collection (a user's events, repositories or starred
+ * repositories) across all of its pages.
+ * <p>Emitted by {@link com.github.Jose_Daniel_Lopez.github_activity_cli.service.GitHubApiService}; the individual
+ * page requests appear as nested {@link UpstreamFetchEvent}s.</p>
+ *
+ * @since 1.0
+ */
+@Name("github.activity.CollectionFetch")
+@Label("Collection Fetch")
+@Category({"GitHub Activity", "Upstream"})
+@Description("Paginated GitHub collection streamed to a caller")
+@StackTrace(false)
+public class CollectionFetchEvent extends Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("URL")
+    @Description("Collection path, without pagination parameters")
+    public String url;
+
+    @Label("Items")
+    @Description("Number of items emitted")
+    public int items;
+
+    @Label("Outcome")
+    @Description("How the stream ended: onComplete, onError or cancel")
+    public String outcome;
+}
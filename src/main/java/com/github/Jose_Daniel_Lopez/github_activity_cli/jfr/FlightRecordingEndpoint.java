@@ -0,0 +1,250 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Actuator endpoint ({@code /actuator/flightrecording}) that controls a Java Flight Recorder recording of the running
+ * service, including the application's own events ({@link UpstreamFetchEvent}, {@link CollectionFetchEvent},
+ * {@link CacheLookupEvent}, {@link ProcessingEvent}) next to the JVM's GC, allocation and thread events.
+ * <ul>
+ *   <li>{@code GET /actuator/flightrecording}: state of the current recording.</li>
+ *   <li>{@code POST /actuator/flightrecording}: starts a recording; optional {@code settings} ({@code default} or
+ *   {@code profile}, default {@code github.jfr.settings}).</li>
+ *   <li>{@code GET /actuator/flightrecording/dump}: writes the data recorded so far to {@code github.jfr.dump-directory}
+ *   and downloads it, without stopping the recording.</li>
+ *   <li>{@code DELETE /actuator/flightrecording}: dumps the recording as above, then stops it.</li>
+ * </ul>
+ * <p>The recording keeps at most {@code github.jfr.max-age} / {@code github.jfr.max-size} of data, so it can stay on
+ * permanently; set {@code github.jfr.start-on-startup=true} to start it with the application. Dumped files are kept
+ * on disk for later analysis with JDK Mission Control or {@code jfr print}; only the newest
+ * {@code github.jfr.max-dumps} are kept, older ones are deleted after each dump.</p>
+ * <p><strong>Security:</strong> Recordings contain usernames, URLs and thread stacks, and every dump writes to disk,
+ * so the endpoint is not exposed over HTTP by default. Use it over JMX, or add it to
+ * {@code management.endpoints.web.exposure.include} only behind a secured management port.</p>
+ * <p><strong>Thread Safety:</strong> Operations are serialized on this endpoint.</p>
+ *
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+    private static final String RECORDING_NAME = "github-activity";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private static final Pattern DUMP_FILE = Pattern.compile(RECORDING_NAME + "-\\d{8}-\\d{9}\\.jfr");
+
+    private final String defaultSettings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDirectory;
+    private final int maxDumps;
+    private final boolean startOnStartup;
+
+    private Recording recording;
+    private String settings;
+
+    @Autowired
+    public FlightRecordingEndpoint(@Value("${github.jfr.settings:profile}") String defaultSettings,
+                                   @Value("${github.jfr.max-age:1h}") Duration maxAge,
+                                   @Value("${github.jfr.max-size:100MB}") DataSize maxSize,
+                                   @Value("${github.jfr.dump-directory:${java.io.tmpdir}}") Path dumpDirectory,
+                                   @Value("${github.jfr.max-dumps:5}") int maxDumps,
+                                   @Value("${github.jfr.start-on-startup:false}") boolean startOnStartup) {
+        if (maxDumps < 1) {
+            throw new IllegalArgumentException("github.jfr.max-dumps must be at least 1: " + maxDumps);
+        }
+        this.defaultSettings = defaultSettings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dumpDirectory = dumpDirectory;
+        this.maxDumps = maxDumps;
+        this.startOnStartup = startOnStartup;
+    }
+
+    /**
+     * Returns the state of the current recording.
+     *
+     * @return {@code state} ({@code NEW} if none was started), and for a started recording its settings, start time,
+     * duration, size and limits
+     */
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", RecordingState.NEW.name());
+            return status;
+        }
+        status.put("state", recording.getState().name());
+        status.put("settings", settings);
+        status.put("startTime", recording.getStartTime());
+        Instant end = recording.getStopTime() != null ? recording.getStopTime() : Instant.now();
+        status.put("durationSeconds", Duration.between(recording.getStartTime(), end).toSeconds());
+        status.put("sizeBytes", recording.getSize());
+        status.put("maxAge", maxAge.toString());
+        status.put("maxSizeBytes", maxSize.toBytes());
+        return status;
+    }
+
+    /**
+     * Starts a recording, unless one is already running.
+     *
+     * @param settings predefined JFR configuration name ({@code default} or {@code profile}); {@code null} for
+     *                 {@code github.jfr.settings}
+     * @return the recording state; {@code 400} for an unknown configuration
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status());
+        }
+        String name = settings != null ? settings : defaultSettings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Unknown JFR configuration: " + name),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (recording != null) {
+            recording.close();
+        }
+        recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+        this.settings = name;
+        log.info("Started flight recording with '{}' settings (max age {}, max size {})", name, maxAge, maxSize);
+        return new WebEndpointResponse<>(status());
+    }
+
+    /**
+     * Writes the data recorded so far to a file and returns it, leaving the recording running.
+     *
+     * @param action must be {@code dump}
+     * @return the {@code .jfr} file; {@code 404} if nothing has been recorded or {@code action} is unknown
+     * @throws IOException if the file cannot be written
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String action) throws IOException {
+        if (!"dump".equals(action) || recording == null || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(dumpToFile()));
+    }
+
+    /**
+     * Dumps the current recording to a file and stops it.
+     *
+     * @return the path of the dumped file; {@code 404} if no recording is running
+     * @throws IOException if the file cannot be written
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = dumpToFile();
+        recording.stop();
+        Map<String, Object> status = status();
+        status.put("file", file.toString());
+        log.info("Stopped flight recording; data written to {}", file);
+        return new WebEndpointResponse<>(status);
+    }
+
+    /**
+     * Starts the recording with the application when {@code github.jfr.start-on-startup} is set.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnStartup() {
+        if (startOnStartup) {
+            start(null);
+        }
+    }
+
+    /**
+     * Discards the recording when the application shuts down; data not dumped before is lost.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Dumps the recording to a new timestamped file, then deletes all but the newest {@code github.jfr.max-dumps}.
+     */
+    private Path dumpToFile() throws IOException {
+        Files.createDirectories(dumpDirectory);
+        Instant at = Instant.now();
+        Path file = dumpFile(at);
+        while (Files.exists(file)) {
+            at = at.plusMillis(1);
+            file = dumpFile(at);
+        }
+        recording.dump(file);
+        deleteOldDumps();
+        return file;
+    }
+
+    private Path dumpFile(Instant at) {
+        return dumpDirectory.resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(at) + ".jfr");
+    }
+
+    private void deleteOldDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            // Timestamps are fixed-width, so name order is age order
+            dumps = files.filter(path -> DUMP_FILE.matcher(path.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        }
+        for (Path old : dumps.subList(Math.min(maxDumps, dumps.size()), dumps.size())) {
+            Files.deleteIfExists(old);
+            log.debug("Deleted old flight recording dump {}", old);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one in-process stage of building a response (filtering, DTO mapping, formatting or
+ * summarizing fetched events).
+ * <p>Emitted by {@link com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ProcessingMetrics}.</p>
+ *
+ * @since 1.0
+ */
+@Name("github.activity.Processing")
+@Label("Processing Stage")
+@Category({"GitHub Activity", "Processing"})
+@Description("In-process stage of building a response")
+@StackTrace(false)
+public class ProcessingEvent extends Event {
+
+    @Label("Endpoint")
+    public String endpoint;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Username")
+    public String username;
+
+    @Label("Input")
+    @Description("Number of events the stage received")
+    public int input;
+
+    @Label("Output")
+    @Description("Number of items the stage produced")
+    public int output;
+}
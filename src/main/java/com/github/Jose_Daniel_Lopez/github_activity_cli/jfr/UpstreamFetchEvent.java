@@ -0,0 +1,38 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a single HTTP call to the GitHub API, from sending the request until its body has been
+ * read completely (or the call failed or was cancelled).
+ * <p>Emitted by {@link com.github.Jose_Daniel_Lopez.github_activity_cli.client.UpstreamMetrics}.</p>
+ *
+ * @since 1.0
+ */
+@Name("github.activity.UpstreamFetch")
+@Label("Upstream Fetch")
+@Category({"GitHub Activity", "Upstream"})
+@Description("HTTP call to the GitHub API, until the response body has been read")
+@StackTrace(false)
+public class UpstreamFetchEvent extends Event {
+
+    @Label("Username")
+    public String username;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status")
+    @Description("HTTP status code, or 0 if no response was received")
+    public int status;
+
+    @Label("Body Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,103 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures the time spent by the subscribers of a {@link Publisher} handling its elements.
+ * <p>
+ * Work done synchronously in {@code onNext} downstream — such as decoding response {@code DataBuffer}s into items or
+ * encoding values into {@code DataBuffer}s — is summed over all elements and recorded once per subscription when it
+ * terminates or is cancelled. Time spent waiting for elements is not included, so the measurement isolates CPU work
+ * from network latency. Subscriptions that saw no elements are not recorded.
+ * </p>
+ *
+ * @since 1.0
+ */
+public final class ConsumerTiming {
+
+    private ConsumerTiming() {
+    }
+
+    /**
+     * Wraps {@code source} so the time its subscribers spend handling elements is recorded in {@code timer}.
+     *
+     * @param source the publisher whose consumers to measure
+     * @param timer  receives one sample per subscription
+     * @return the measured {@link Flux}
+     */
+    public static <T> Flux<T> record(Publisher<T> source, Timer timer) {
+        return Flux.from(source).transform(Operators.<T, T>lift((scannable, actual) -> new TimingSubscriber<>(actual, timer)));
+    }
+
+    private static final class TimingSubscriber<T> implements CoreSubscriber<T>, Subscription {
+
+        private final CoreSubscriber<? super T> actual;
+        private final Timer timer;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+        private Subscription upstream;
+        private volatile long elapsedNanos;
+        private volatile long elements;
+
+        TimingSubscriber(CoreSubscriber<? super T> actual, Timer timer) {
+            this.actual = actual;
+            this.timer = timer;
+        }
+
+        @Override
+        public Context currentContext() {
+            return actual.currentContext();
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            actual.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T element) {
+            long start = System.nanoTime();
+            actual.onNext(element);
+            elapsedNanos += System.nanoTime() - start;
+            elements++;
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            record();
+            actual.onError(error);
+        }
+
+        @Override
+        public void onComplete() {
+            record();
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            record();
+            upstream.cancel();
+        }
+
+        private void record() {
+            if (elements > 0 && recorded.compareAndSet(false, true)) {
+                timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
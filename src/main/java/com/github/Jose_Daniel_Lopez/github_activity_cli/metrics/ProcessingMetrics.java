@@ -0,0 +1,87 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.metrics;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.jfr.ProcessingEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Times the in-process stages that turn fetched GitHub data into an endpoint's response.
+ * <p>
+ * Each stage is recorded in the {@value #PROCESSING} timer, tagged with the endpoint (e.g. {@code commits}) and the
+ * {@link Stage}. Together with {@code http.server.requests} (whole request), {@code github.client.requests}
+ * (upstream round trip) and {@code activity.serialization} (response encoding) this shows where a request's time goes.
+ * </p>
+ * <p>While a Flight Recorder recording is running, each stage is also emitted as a {@link ProcessingEvent} carrying
+ * the username and the number of events in and items out.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class ProcessingMetrics {
+
+    /** Name of the stage timer. */
+    public static final String PROCESSING = "activity.processing";
+
+    /**
+     * A processing stage.
+     */
+    public enum Stage {
+        /** Selecting the events of one type ({@code EventProcessingService#filterEventsByType}). */
+        FILTER("filter"),
+        /** Mapping events to DTOs ({@code EventProcessingService#processXxxEvents}). */
+        PROCESS("process"),
+        /** Rendering events as text ({@code EventFormatter#format}). */
+        FORMAT("format"),
+        /** Building every view of the summary endpoint ({@code EventProcessingService#summarize}). */
+        SUMMARIZE("summarize");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final MeterRegistry registry;
+
+    @Autowired
+    public ProcessingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Runs {@code work} and records its duration.
+     *
+     * @param endpoint short endpoint name used as the {@code endpoint} tag
+     * @param stage    the stage being run
+     * @param username the user the response is for (recorded in the Flight Recorder event only)
+     * @param input    number of events the stage receives
+     * @param work     the stage itself
+     * @return the result of {@code work}
+     */
+    public <T> T record(String endpoint, Stage stage, String username, int input, Supplier<T> work) {
+        ProcessingEvent event = new ProcessingEvent();
+        event.begin();
+        T result = Timer.builder(PROCESSING)
+                .description("Time spent in an in-process stage of building a response")
+                .tag("endpoint", endpoint)
+                .tag("stage", stage.tag)
+                .register(registry)
+                .record(work);
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.stage = stage.tag;
+            event.username = username;
+            event.input = input;
+            event.output = result instanceof Collection<?> items ? items.size() : 1;
+            event.commit();
+        }
+        return result;
+    }
+}
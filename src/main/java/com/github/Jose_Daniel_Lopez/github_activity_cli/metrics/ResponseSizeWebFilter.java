@@ -0,0 +1,86 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link WebFilter} that records the number of body bytes written for every response in the {@value #RESPONSE_SIZE}
+ * distribution summary, tagged like {@code http.server.requests} with the route template ({@code uri}) and status.
+ * <p>Bytes are counted as the encoded {@link DataBuffer}s are handed to the server, so streamed responses are
+ * measured in full without being buffered. Error responses rendered after the filter chain are not counted.</p>
+ *
+ * @since 1.0
+ */
+public class ResponseSizeWebFilter implements WebFilter, Ordered {
+
+    /** Name of the response size summary. */
+    public static final String RESPONSE_SIZE = "activity.response.size";
+
+    private final MeterRegistry registry;
+
+    public ResponseSizeWebFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        AtomicLong bytes = new AtomicLong();
+        ServerHttpResponse response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(count(body, bytes));
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return super.writeAndFlushWith(Flux.from(body).map(buffers -> count(buffers, bytes)));
+            }
+        };
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> DistributionSummary.builder(RESPONSE_SIZE)
+                        .description("Size of response bodies")
+                        .baseUnit("bytes")
+                        .tag("uri", uri(exchange))
+                        .tag("status", status(response.getStatusCode()))
+                        .register(registry)
+                        .record(bytes.get()));
+    }
+
+    /**
+     * Returns the route template the exchange was mapped to, for use as a low-cardinality {@code uri} tag.
+     *
+     * @param exchange the current exchange
+     * @return the matched pattern (e.g. {@code /api/commits/{username}}), or {@code UNKNOWN} if no handler matched
+     */
+    static String uri(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String status(HttpStatusCode status) {
+        return status != null ? String.valueOf(status.value()) : "200";
+    }
+
+    private static Flux<? extends DataBuffer> count(Publisher<? extends DataBuffer> body, AtomicLong bytes) {
+        return Flux.from(body).doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()));
+    }
+}
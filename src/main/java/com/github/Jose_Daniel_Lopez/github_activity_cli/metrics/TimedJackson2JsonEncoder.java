@@ -0,0 +1,63 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.util.MimeType;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+
+/**
+ * {@link Jackson2JsonEncoder} that records how long encoding each response body takes in the
+ * {@value #SERIALIZATION} timer, tagged with the route template ({@code uri}) of the request being answered.
+ * <p>Single-value bodies (e.g. a list of DTOs) are timed exactly. For streamed bodies the time spent encoding every
+ * element and handing it to the server is summed (see {@link ConsumerTiming}); waiting for elements is excluded.</p>
+ * <p>The route is read from the exchange published in the Reactor context by {@link ServerWebExchangeContextFilter};
+ * encodings outside a server request are tagged {@code NONE}.</p>
+ *
+ * @since 1.0
+ */
+public class TimedJackson2JsonEncoder extends Jackson2JsonEncoder {
+
+    /** Name of the serialization timer. */
+    public static final String SERIALIZATION = "activity.serialization";
+
+    private final MeterRegistry registry;
+
+    public TimedJackson2JsonEncoder(ObjectMapper mapper, MeterRegistry registry) {
+        super(mapper);
+        this.registry = registry;
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return Flux.deferContextual(context -> {
+            Timer timer = timer(context);
+            if (inputStream instanceof Mono<?> value) {
+                return value.map(body -> timer.record(() -> encodeValue(body, bufferFactory, elementType, mimeType, hints)))
+                        .flux();
+            }
+            return super.encode(ConsumerTiming.record(inputStream, timer), bufferFactory, elementType, mimeType, hints);
+        });
+    }
+
+    private Timer timer(ContextView context) {
+        String uri = ServerWebExchangeContextFilter.getExchange(context)
+                .map(ResponseSizeWebFilter::uri)
+                .orElse("NONE");
+        return Timer.builder(SERIALIZATION)
+                .description("Time spent encoding response bodies as JSON")
+                .tag("uri", uri)
+                .register(registry);
+    }
+}
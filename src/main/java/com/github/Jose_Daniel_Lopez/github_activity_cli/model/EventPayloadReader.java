@@ -0,0 +1,228 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.*;
+
+import java.io.IOException;
+
+/**
+ * Reads the typed {@link EventPayload} of an event without bean introspection.
+ * <p>
+ * Each payload is read by a token loop in the style of {@link RepoDeserializer}: the fields its class declares are
+ * taken from the stream and everything else, nested objects included, is skipped with
+ * {@link JsonParser#skipChildren()}. A value of an unexpected shape (e.g. an object where a string is expected) is
+ * skipped and leaves its field {@code null} instead of failing the whole event; a payload that is not an object binds
+ * {@link UnknownPayload}.
+ * </p>
+ * <p>A {@code PushEvent} that omits {@code size} takes the commit count from the length of its {@code commits}
+ * array; the commits themselves are skipped, as no DTO reads them.</p>
+ * <p><strong>Thread Safety:</strong> Stateless.</p>
+ *
+ * @since 1.0
+ */
+final class EventPayloadReader {
+
+    private EventPayloadReader() {
+    }
+
+    /**
+     * Reads the payload the parser is positioned on.
+     *
+     * @param p    parser positioned on the payload's first token
+     * @param type the event's type, which selects the payload class
+     * @return the payload, never {@code null}
+     * @throws IOException if the input is not valid JSON
+     */
+    static EventPayload read(JsonParser p, EventType type) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            p.skipChildren();
+            return new UnknownPayload();
+        }
+        return switch (type) {
+            case PUSH -> readPush(p);
+            case ISSUES -> readIssues(p);
+            case ISSUE_COMMENT -> readIssueComment(p);
+            case PULL_REQUEST -> readPullRequest(p);
+            case FORK -> readFork(p);
+            case RELEASE -> readRelease(p);
+            case CREATE, DELETE -> readRef(p);
+            case MEMBER -> readMember(p);
+            default -> {
+                p.skipChildren();
+                yield new UnknownPayload();
+            }
+        };
+    }
+
+    private static PushPayload readPush(JsonParser p) throws IOException {
+        int size = -1;
+        int commits = 0;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "size" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT) {
+                        size = p.getIntValue();
+                    }
+                }
+                case "commits" -> commits = countElements(p, value);
+                default -> p.skipChildren();
+            }
+        }
+        return new PushPayload(size >= 0 ? size : commits);
+    }
+
+    private static IssuesPayload readIssues(JsonParser p) throws IOException {
+        String action = null;
+        IssuesPayload.Issue issue = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "action" -> action = text(p, value);
+                case "issue" -> issue = value == JsonToken.START_OBJECT
+                        ? new IssuesPayload.Issue(nestedText(p, "title")) : skip(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new IssuesPayload(action, issue);
+    }
+
+    private static IssueCommentPayload readIssueComment(JsonParser p) throws IOException {
+        IssueCommentPayload.Comment comment = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("comment".equals(field) && value == JsonToken.START_OBJECT) {
+                comment = new IssueCommentPayload.Comment(nestedText(p, "body"));
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new IssueCommentPayload(comment);
+    }
+
+    private static PullRequestPayload readPullRequest(JsonParser p) throws IOException {
+        String action = null;
+        PullRequestPayload.PullRequest pullRequest = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "action" -> action = text(p, value);
+                case "pull_request" -> pullRequest = value == JsonToken.START_OBJECT
+                        ? new PullRequestPayload.PullRequest(nestedText(p, "title")) : skip(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new PullRequestPayload(action, pullRequest);
+    }
+
+    private static ForkPayload readFork(JsonParser p) throws IOException {
+        ForkPayload.Forkee forkee = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("forkee".equals(field) && value == JsonToken.START_OBJECT) {
+                forkee = new ForkPayload.Forkee(nestedText(p, "full_name"));
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new ForkPayload(forkee);
+    }
+
+    private static ReleasePayload readRelease(JsonParser p) throws IOException {
+        String action = null;
+        ReleasePayload.Release release = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "action" -> action = text(p, value);
+                case "release" -> release = value == JsonToken.START_OBJECT
+                        ? new ReleasePayload.Release(nestedText(p, "name")) : skip(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new ReleasePayload(action, release);
+    }
+
+    private static RefPayload readRef(JsonParser p) throws IOException {
+        String refType = null;
+        String ref = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "ref_type" -> refType = text(p, value);
+                case "ref" -> ref = text(p, value);
+                default -> p.skipChildren();
+            }
+        }
+        return new RefPayload(refType, ref);
+    }
+
+    private static MemberPayload readMember(JsonParser p) throws IOException {
+        String action = null;
+        MemberPayload.Member member = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "action" -> action = text(p, value);
+                case "member" -> member = value == JsonToken.START_OBJECT
+                        ? new MemberPayload.Member(nestedText(p, "login")) : skip(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new MemberPayload(action, member);
+    }
+
+    /**
+     * Reads one string field of the object the parser is positioned on, skipping the rest of the object.
+     */
+    private static String nestedText(JsonParser p, String name) throws IOException {
+        String result = null;
+        for (JsonToken token = p.nextToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if (name.equals(field)) {
+                result = text(p, value);
+            } else {
+                p.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts the elements of the array the parser is positioned on without materializing them.
+     */
+    private static int countElements(JsonParser p, JsonToken value) throws IOException {
+        if (value != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return 0;
+        }
+        int count = 0;
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            p.skipChildren();
+            count++;
+        }
+        return count;
+    }
+
+    private static String text(JsonParser p, JsonToken value) throws IOException {
+        if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+            return p.getText();
+        }
+        return skip(p);
+    }
+
+    private static <T> T skip(JsonParser p) throws IOException {
+        p.skipChildren();
+        return null;
+    }
+}
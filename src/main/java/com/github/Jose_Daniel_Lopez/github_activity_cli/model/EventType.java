@@ -0,0 +1,78 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GitHub event types this application distinguishes, keyed by the {@code type} string of the Events API.
+ * <p>
+ * {@link GitHubEvent} resolves its type to this enum once, when {@code type} is set during deserialization, so
+ * downstream code can classify events by identity comparison or {@code EnumMap} lookup instead of repeated string
+ * comparisons. Types without dedicated handling map to {@link #OTHER}. Each type also names the
+ * {@link EventPayload} class its {@code payload} is bound to.
+ * </p>
+ *
+ * @since 1.0
+ */
+public enum EventType {
+    PUSH("PushEvent", PushPayload.class),
+    WATCH("WatchEvent", UnknownPayload.class),
+    ISSUES("IssuesEvent", IssuesPayload.class),
+    ISSUE_COMMENT("IssueCommentEvent", IssueCommentPayload.class),
+    PULL_REQUEST("PullRequestEvent", PullRequestPayload.class),
+    FORK("ForkEvent", ForkPayload.class),
+    RELEASE("ReleaseEvent", ReleasePayload.class),
+    PUBLIC("PublicEvent", UnknownPayload.class),
+    CREATE("CreateEvent", RefPayload.class),
+    DELETE("DeleteEvent", RefPayload.class),
+    MEMBER("MemberEvent", MemberPayload.class),
+    OTHER(null, UnknownPayload.class);
+
+    private static final Map<String, EventType> BY_NAME = new HashMap<>();
+
+    static {
+        for (EventType type : values()) {
+            if (type.apiName != null) {
+                BY_NAME.put(type.apiName, type);
+            }
+        }
+    }
+
+    private final String apiName;
+    private final Class<? extends EventPayload> payloadType;
+
+    EventType(String apiName, Class<? extends EventPayload> payloadType) {
+        this.apiName = apiName;
+        this.payloadType = payloadType;
+    }
+
+    /**
+     * The event type as named by the GitHub API (e.g. {@code "PushEvent"}), or {@code null} for {@link #OTHER}.
+     *
+     * @return the GitHub API name
+     */
+    public String getApiName() {
+        return apiName;
+    }
+
+    /**
+     * The class the {@code payload} of events of this type is bound to.
+     *
+     * @return the payload class; {@link UnknownPayload} for types whose payload is not read
+     */
+    public Class<? extends EventPayload> getPayloadType() {
+        return payloadType;
+    }
+
+    /**
+     * Resolves a GitHub API event type name.
+     *
+     * @param apiName the {@code type} field of a GitHub event (may be null)
+     * @return the matching type, or {@link #OTHER} if unknown or null
+     */
+    public static EventType fromApiName(String apiName) {
+        return apiName == null ? OTHER : BY_NAME.getOrDefault(apiName, OTHER);
+    }
+}
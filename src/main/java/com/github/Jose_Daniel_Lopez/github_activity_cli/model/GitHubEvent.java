@@ -1,14 +1,24 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.EventPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.IssuesPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PushPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.UnknownPayload;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 
 /**
  * Domain model representing a raw GitHub event as returned by the GitHub Events API.
@@ -21,13 +31,37 @@ import java.time.Instant;
  * with future GitHub API changes.</p>
  * <p><strong>Note:</strong> Although setters are generated via Lombok, instances of this class
  * are typically treated as immutable after deserialization. Avoid modifying instances in multi-threaded contexts.</p>
+ * <p><strong>Deserialization:</strong> Uses {@link GitHubEventDeserializer}, which binds {@code payload} to the
+ * class matching {@code type}.</p>
+ * <p><strong>Classification:</strong> {@link #setType} also resolves {@link #getEventType()}, so the type string is
+ * mapped to {@link EventType} exactly once per event, at ingest.</p>
+ * <p><strong>Ordering:</strong> {@link #setId} and {@link #setCreatedAt} likewise derive {@link #getNumericId()} and
+ * {@link #getCreatedAtInstant()} once, at ingest, for watermark comparisons and time-based filtering.</p>
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true) // Defensive: ignore new fields GitHub may add
+@JsonDeserialize(using = GitHubEventDeserializer.class)
 public class GitHubEvent {
 
+    /**
+     * Unique identifier of the event, assigned by GitHub in increasing order over time.
+     * <p>Example: "22249084947"</p>
+     * <p>JSON field: {@code "id"}</p>
+     */
+    @JsonProperty("id")
+    private String id;
+
+    /**
+     * {@link #id} parsed as a number; derived, not part of the JSON. {@code -1} if the id is missing or not numeric.
+     * <p>Comparing these orders events by when GitHub recorded them.</p>
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private long numericId = -1;
+
     /**
      * Type of GitHub event (e.g., "PushEvent", "IssuesEvent", "ForkEvent").
      * Used to determine how to interpret the {@code payload} field.
@@ -35,6 +69,15 @@ public class GitHubEvent {
      */
     private String type;
 
+    /**
+     * {@link #type} resolved to an {@link EventType}; derived, not part of the JSON.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private EventType eventType = EventType.OTHER;
+
     /**
      * Repository context for the event.
      * Contains {@code name} (e.g., "spring-boot") and {@code url}.
@@ -44,18 +87,20 @@ public class GitHubEvent {
     private Repo repo;
 
     /**
-     * Event-specific payload data. Structure varies depending on {@code type}.
+     * Event-specific payload data, typed by {@code type}.
      * <p>Examples:
      * <ul>
-     *   <li>For {@code PushEvent}: contains commits, ref, etc.</li>
-     *   <li>For {@code IssuesEvent}: contains issue title, action, etc.</li>
+     *   <li>For {@code PushEvent}: {@link PushPayload} with the commit count.</li>
+     *   <li>For {@code IssuesEvent}: {@link IssuesPayload} with the issue title and action.</li>
      * </ul>
      * </p>
      * <p>JSON field: {@code "payload"}</p>
-     * <p><strong>Note:</strong> Deserialized as generic {@code Object} — cast or convert downstream based on {@code type}.</p>
+     * <p><strong>Note:</strong> The payload class is chosen from the sibling {@code type} property via
+     * {@link EventType#getPayloadType()}, and binds only the fields downstream DTOs use; everything else is skipped
+     * while parsing. Unknown event types yield {@link UnknownPayload}.</p>
      */
     @JsonProperty("payload")
-    private Object payload;
+    private EventPayload payload;
 
     /**
      * ISO 8601 timestamp indicating when the event occurred.
@@ -67,4 +112,69 @@ public class GitHubEvent {
     @JsonProperty("created_at")
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private String createdAt;
-}
\ No newline at end of file
+
+    /**
+     * {@link #createdAt} parsed; derived, not part of the JSON. {@code null} if the timestamp is missing or malformed.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Setter(AccessLevel.NONE)
+    private Instant createdAtInstant;
+
+    /**
+     * Creates an event from its JSON fields; {@link #getEventType()} is derived from {@code type}.
+     */
+    public GitHubEvent(String type, Repo repo, EventPayload payload, String createdAt) {
+        setType(type);
+        this.repo = repo;
+        this.payload = payload;
+        setCreatedAt(createdAt);
+    }
+
+    /**
+     * Sets the event id and parses {@link #getNumericId()}.
+     *
+     * @param id GitHub event id, e.g. {@code "22249084947"}
+     */
+    public void setId(String id) {
+        this.id = id;
+        long parsed = -1;
+        if (id != null) {
+            try {
+                parsed = Long.parseLong(id);
+            } catch (NumberFormatException e) {
+                // Not a GitHub-assigned id; leave unordered
+            }
+        }
+        this.numericId = parsed;
+    }
+
+    /**
+     * Sets the creation timestamp and parses {@link #getCreatedAtInstant()}.
+     *
+     * @param createdAt ISO 8601 timestamp, e.g. {@code "2025-04-01T12:34:56Z"}
+     */
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+        Instant parsed = null;
+        if (createdAt != null) {
+            try {
+                parsed = Instant.parse(createdAt);
+            } catch (DateTimeParseException e) {
+                // Keep the raw string only
+            }
+        }
+        this.createdAtInstant = parsed;
+    }
+
+    /**
+     * Sets the GitHub event type and resolves the corresponding {@link EventType}.
+     *
+     * @param type GitHub API event type, e.g. {@code "PushEvent"}
+     */
+    public void setType(String type) {
+        this.type = type;
+        this.eventType = EventType.fromApiName(type);
+    }
+}
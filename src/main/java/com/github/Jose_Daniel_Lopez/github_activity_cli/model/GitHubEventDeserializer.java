@@ -0,0 +1,72 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+
+/**
+ * Deserializes a {@link GitHubEvent}, binding {@code payload} to the class declared by its {@link EventType}.
+ * <p>
+ * GitHub writes {@code type} before {@code payload}, so the payload is normally parsed straight from the stream
+ * into its typed class. If {@code payload} comes first it is buffered as tokens (never as a {@code Map} tree) until
+ * the type is known. Unknown top-level fields are skipped without being materialized, {@code repo} is read by
+ * {@link RepoDeserializer} and {@code payload} by {@link EventPayloadReader}, so no bean introspection or
+ * deserializer lookup is involved at any level of the event.
+ * </p>
+ * <p>A missing {@code payload} leaves it {@code null}; a missing or unknown {@code type} binds
+ * {@link com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.UnknownPayload}.</p>
+ *
+ * @since 1.0
+ */
+public class GitHubEventDeserializer extends StdDeserializer<GitHubEvent> {
+
+    private static final RepoDeserializer REPO = new RepoDeserializer();
+
+    public GitHubEventDeserializer() {
+        super(GitHubEvent.class);
+    }
+
+    @Override
+    public GitHubEvent deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        GitHubEvent event = new GitHubEvent();
+        boolean typeSeen = false;
+        TokenBuffer bufferedPayload = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            switch (field) {
+                case "id" -> event.setId(value == JsonToken.VALUE_NULL ? null : p.getText());
+                case "type" -> {
+                    event.setType(value == JsonToken.VALUE_NULL ? null : p.getText());
+                    typeSeen = true;
+                }
+                case "repo" -> event.setRepo(value == JsonToken.VALUE_NULL ? null : REPO.deserialize(p, ctxt));
+                case "created_at" -> event.setCreatedAt(value == JsonToken.VALUE_NULL ? null : p.getText());
+                case "payload" -> {
+                    if (value == JsonToken.VALUE_NULL) {
+                        event.setPayload(null);
+                    } else if (typeSeen) {
+                        event.setPayload(EventPayloadReader.read(p, event.getEventType()));
+                    } else {
+                        bufferedPayload = ctxt.bufferAsCopyOfValue(p);
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        }
+        if (bufferedPayload != null) {
+            try (JsonParser buffered = bufferedPayload.asParserOnFirstToken()) {
+                event.setPayload(EventPayloadReader.read(buffered, event.getEventType()));
+            }
+        }
+        return event;
+    }
+}
@@ -1,11 +1,13 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.*;
 
 
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonDeserialize(using = RepoDeserializer.class)
 public class Repo {
 
     @JsonProperty("name")
@@ -0,0 +1,44 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Deserializes a {@link Repo} without bean introspection.
+ * <p>
+ * Only {@code name} is read; every other field (e.g. {@code id}, {@code url}) is skipped without being
+ * materialized. {@link GitHubEventDeserializer} calls this directly for the {@code repo} of each event, so the
+ * nested object costs no deserializer lookup either.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class RepoDeserializer extends StdDeserializer<Repo> {
+
+    public RepoDeserializer() {
+        super(Repo.class);
+    }
+
+    @Override
+    public Repo deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+        String name = null;
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String field = p.currentName();
+            JsonToken value = p.nextToken();
+            if ("name".equals(field)) {
+                name = value == JsonToken.VALUE_NULL ? null : p.getText();
+            } else {
+                p.skipChildren();
+            }
+        }
+        return new Repo(name);
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+/**
+ * Typed {@code payload} of a GitHub event, selected by the event's {@code type}.
+ * <p>
+ * Each implementation binds only the fields the DTOs in {@code dto/} read. All other fields — including the large
+ * nested {@code pull_request}, {@code issue} and {@code forkee} objects — are skipped token by token during parsing
+ * instead of being materialized as {@code Map} trees. Event types without a dedicated payload class deserialize to
+ * {@link UnknownPayload}, which skips the whole object.
+ * </p>
+ * <p>The class for each event type is declared by {@code EventType#getPayloadType()}. Payloads fetched from GitHub
+ * are read by the hand-written token loops of {@code EventPayloadReader}; the Jackson annotations on the
+ * implementations serve the event store, which writes and reads payloads as Smile.</p>
+ *
+ * @since 1.0
+ */
+public interface EventPayload {
+}
@@ -0,0 +1,31 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code ForkEvent}: only the full name of the created fork.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ForkPayload implements EventPayload {
+
+    /**
+     * The created fork; only its full name is bound.
+     */
+    private Forkee forkee;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Forkee {
+        @JsonProperty("full_name")
+        private String fullName;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of an {@code IssueCommentEvent}: only the comment body.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IssueCommentPayload implements EventPayload {
+
+    /**
+     * The comment; only its body is bound.
+     */
+    private Comment comment;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Comment {
+        private String body;
+    }
+}
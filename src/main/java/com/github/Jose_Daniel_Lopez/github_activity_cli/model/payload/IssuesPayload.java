@@ -0,0 +1,34 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of an {@code IssuesEvent}: the action and the issue title.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class IssuesPayload implements EventPayload {
+
+    /**
+     * Action performed, e.g. "opened", "closed".
+     */
+    private String action;
+
+    /**
+     * The issue; only its title is bound.
+     */
+    private Issue issue;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Issue {
+        private String title;
+    }
+}
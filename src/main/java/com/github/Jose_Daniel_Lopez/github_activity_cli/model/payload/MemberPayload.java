@@ -0,0 +1,34 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code MemberEvent}: the action and the collaborator's login.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemberPayload implements EventPayload {
+
+    /**
+     * Action performed, e.g. "added".
+     */
+    private String action;
+
+    /**
+     * The collaborator; only the login is bound.
+     */
+    private Member member;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Member {
+        private String login;
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code PullRequestEvent}: the action and the pull request title.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PullRequestPayload implements EventPayload {
+
+    /**
+     * Action performed, e.g. "opened", "closed".
+     */
+    private String action;
+
+    /**
+     * The pull request; only its title is bound.
+     */
+    @JsonProperty("pull_request")
+    private PullRequest pullRequest;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PullRequest {
+        private String title;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code PushEvent}: only the number of pushed commits.
+ * <p>The commits themselves are not kept. When GitHub omits {@code size}, it is taken from the length of the
+ * {@code commits} array.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PushPayload implements EventPayload {
+
+    /**
+     * Number of commits in the push.
+     */
+    private int size;
+}
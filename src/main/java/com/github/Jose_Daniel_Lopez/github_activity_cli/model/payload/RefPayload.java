@@ -0,0 +1,28 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code CreateEvent} or {@code DeleteEvent}: the kind and name of the Git ref.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RefPayload implements EventPayload {
+
+    /**
+     * Kind of ref: "repository", "branch" or "tag".
+     */
+    @JsonProperty("ref_type")
+    private String refType;
+
+    /**
+     * Name of the branch or tag; {@code null} for repositories.
+     */
+    private String ref;
+}
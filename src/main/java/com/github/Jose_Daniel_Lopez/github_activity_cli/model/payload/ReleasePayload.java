@@ -0,0 +1,34 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of a {@code ReleaseEvent}: the action and the release name.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ReleasePayload implements EventPayload {
+
+    /**
+     * Action performed, e.g. "published".
+     */
+    private String action;
+
+    /**
+     * The release; only its name is bound.
+     */
+    private Release release;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Release {
+        private String name;
+    }
+}
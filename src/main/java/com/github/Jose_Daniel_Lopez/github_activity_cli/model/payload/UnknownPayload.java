@@ -0,0 +1,14 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Payload of event types no DTO reads (e.g. {@code WatchEvent}, {@code PublicEvent}); every field is skipped.
+ */
+@EqualsAndHashCode
+@ToString
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class UnknownPayload implements EventPayload {
+}
@@ -1,11 +1,11 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
 
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PushPayload;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.util.AnsiColor;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-
 /**
  * Utility service for formatting GitHub events into human-readable, colorized strings for CLI output.
  * <p>
@@ -13,7 +13,8 @@ import java.util.Map;
  * Intended for terminal/console display — not for API responses or logs.
  * </p>
  * <p><strong>Thread Safety:</strong> This class is stateless. All methods are effectively static and thread-safe.</p>
- * <p><strong>Extensibility:</strong> To support new event types, add cases to the {@code switch} in {@link #format}.</p>
+ * <p><strong>Extensibility:</strong> To support new event types, add cases to the {@code switch} over {@link EventType}
+ * in {@link #format}.</p>
  *
  * @since 1.0
  */
@@ -39,24 +40,24 @@ public class EventFormatter {
 
         final String repoName = event.getRepo().getName();
 
-        return switch (event.getType()) {
-            case "PushEvent" -> {
+        return switch (event.getEventType()) {
+            case PUSH -> {
                 int size = getPushSize(event);
                 yield AnsiColor.BOLD_GREEN + AnsiColor.ICON_PUSH +
                         "Pushed " + size + " commits to " + repoName +
                         AnsiColor.RESET + " -> " + event.getCreatedAt();
             }
-            case "WatchEvent" -> // Starred
+            case WATCH -> // Starred
                     AnsiColor.BOLD_YELLOW + AnsiColor.ICON_STAR +
                             "Starred " + repoName +
                             AnsiColor.RESET;
-            case "IssuesEvent" -> AnsiColor.BOLD_PURPLE + AnsiColor.ICON_ISSUE +
+            case ISSUES -> AnsiColor.BOLD_PURPLE + AnsiColor.ICON_ISSUE +
                     "Opened an issue in " + repoName +
                     AnsiColor.RESET;
-            case "ForkEvent" -> AnsiColor.BOLD_BLUE + AnsiColor.ICON_FORK +
+            case FORK -> AnsiColor.BOLD_BLUE + AnsiColor.ICON_FORK +
                     "Forked " + repoName +
                     AnsiColor.RESET;
-            case "PullRequestEvent" -> AnsiColor.CYAN + AnsiColor.ICON_PR +
+            case PULL_REQUEST -> AnsiColor.CYAN + AnsiColor.ICON_PR +
                     "Created a pull request in " + repoName +
                     AnsiColor.RESET;
             default -> AnsiColor.WHITE + AnsiColor.ICON_DEFAULT +
@@ -67,25 +68,12 @@ public class EventFormatter {
 
     /**
      * Helper method to safely extract the number of commits from a PushEvent payload.
-     * <p>Returns 0 if payload is malformed or missing {@code size} field.</p>
-     * <p>Gracefully handles any exception — never throws.</p>
+     * <p>Returns 0 if the payload is missing or not a {@link PushPayload}.</p>
      *
      * @param event the PushEvent to extract size from
      * @return number of commits, or 0 if unavailable
      */
     private static int getPushSize(GitHubEvent event) {
-        try {
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object size = map.get("size");
-                if (size instanceof Number) {
-                    return ((Number) size).intValue();
-                }
-            }
-        } catch (Exception e) {
-            // Graceful degradation: ignore and return 0
-            // Consider logging.warn("Failed to extract push size", e) in future
-        }
-        return 0;
+        return event.getPayload() instanceof PushPayload payload ? payload.getSize() : 0;
     }
-}
\ No newline at end of file
+}
@@ -1,37 +1,65 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
 
 import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.*;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.*;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Service responsible for processing and transforming raw GitHub events into typed DTOs.
  * <p>
  * This class handles:
  * <ul>
- *   <li>Filtering events by type</li>
- *   <li>Extracting and validating data from untyped {@code payload} maps</li>
+ *   <li>Classifying events by {@link EventType} in a single pass</li>
+ *   <li>Extracting data from typed event payloads (see {@link EventPayload})</li>
  *   <li>Converting event data into presentation-ready DTOs</li>
  * </ul>
  * </p>
  * <p><strong>Assumptions:</strong>
  * <ul>
- *   <li>GitHub event {@code payload} is deserialized as {@code Map<?, ?>}.</li>
+ *   <li>GitHub event {@code payload} is deserialized to the {@link EventPayload} class matching its
+ *       {@code type}; repository API responses are still {@code Map<?, ?>}.</li>
  *   <li>Repository names follow {@code "owner/repo"} format.</li>
  * </ul>
  * </p>
+ * <p><strong>Processor registry:</strong> Each event type with a dedicated DTO has one per-event converter registered
+ * in a type-keyed {@code EnumMap}. {@link #processAll} walks the buckets produced by {@link #classifyEvents} and converts each
+ * through its registered converter, so a multi-view response costs one classification pass plus one pass per
+ * bucket, instead of a full scan and a copy per view. The per-type {@code processXxxEvents} methods share the same
+ * converters.</p>
  * <p><strong>Thread Safety:</strong> This service is stateless and thread-safe. Safe to inject and reuse.</p>
- * <p><strong>Performance Note:</strong> For very large event lists, consider parallelStream() — but not needed for GitHub's 300-event limit.</p>
  *
  * @since 1.0
  */
 @Service
 public class EventProcessingService {
 
+    /**
+     * Per-event converters keyed by event type; {@link EventType#PUSH} maps to {@link PushEventDto}.
+     */
+    private final Map<EventType, Function<GitHubEvent, ?>> processors = new EnumMap<>(EventType.class);
+
+    public EventProcessingService() {
+        processors.put(EventType.PUSH, this::toPushEventDto);
+        processors.put(EventType.ISSUES, this::toIssueEventDto);
+        processors.put(EventType.PULL_REQUEST, this::toPullRequestEventDto);
+        processors.put(EventType.FORK, this::toForkEventDto);
+        processors.put(EventType.RELEASE, this::toReleaseEventDto);
+        processors.put(EventType.ISSUE_COMMENT, this::toCommentEventDto);
+        processors.put(EventType.PUBLIC, this::toPublicEventDto);
+        processors.put(EventType.CREATE, this::toCreateEventDto);
+        processors.put(EventType.DELETE, this::toDeleteEventDto);
+        processors.put(EventType.MEMBER, this::toMemberEventDto);
+    }
+
     /**
      * Extracts repository name and owner from a full repository name in "owner/repo" format.
      * <p><strong>Example:</strong> Input: {@code "spring-projects/spring-boot"} → Returns: {@code ["spring-boot", "spring-projects"]}</p>
@@ -74,12 +102,18 @@ public class EventProcessingService {
 
     /**
      * Filters an array of GitHub events by event type.
+     * <p>Known types are matched via {@link #filterEventsByType(GitHubEvent[], EventType)}; other names fall back
+     * to comparing the raw {@code type} string.</p>
      *
      * @param events    array of GitHub events (may be null)
      * @param eventType the event type to filter by (e.g., "PushEvent")
      * @return list of events matching the type; never null
      */
     public List<GitHubEvent> filterEventsByType(GitHubEvent[] events, String eventType) {
+        EventType type = EventType.fromApiName(eventType);
+        if (type != EventType.OTHER) {
+            return filterEventsByType(events, type);
+        }
         List<GitHubEvent> filteredEvents = new ArrayList<>();
         if (events != null) {
             for (GitHubEvent event : events) {
@@ -91,52 +125,110 @@ public class EventProcessingService {
         return filteredEvents;
     }
 
+    /**
+     * Filters an array of GitHub events by their pre-resolved {@link EventType}.
+     *
+     * @param events    array of GitHub events (may be null)
+     * @param eventType the event type to filter by
+     * @return list of events matching the type; never null
+     */
+    public List<GitHubEvent> filterEventsByType(GitHubEvent[] events, EventType eventType) {
+        List<GitHubEvent> filteredEvents = new ArrayList<>();
+        if (events != null) {
+            for (GitHubEvent event : events) {
+                if (event.getEventType() == eventType) {
+                    filteredEvents.add(event);
+                }
+            }
+        }
+        return filteredEvents;
+    }
+
+    /**
+     * Buckets events by {@link EventType} in a single pass, preserving their order within each bucket.
+     *
+     * @param events array of GitHub events (may be null)
+     * @return events by type; types without events are absent. Never null
+     */
+    public Map<EventType, List<GitHubEvent>> classifyEvents(GitHubEvent[] events) {
+        Map<EventType, List<GitHubEvent>> buckets = new EnumMap<>(EventType.class);
+        if (events != null) {
+            for (GitHubEvent event : events) {
+                buckets.computeIfAbsent(event.getEventType(), type -> new ArrayList<>()).add(event);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Converts every classified bucket that has a registered processor into its DTOs.
+     * <p>Buckets without a processor (e.g. {@link EventType#WATCH}, {@link EventType#OTHER}) are skipped.</p>
+     *
+     * @param classified events by type, as returned by {@link #classifyEvents}
+     * @return DTO lists by event type, in {@link EventType} order; never null
+     */
+    public Map<EventType, List<?>> processAll(Map<EventType, List<GitHubEvent>> classified) {
+        Map<EventType, List<?>> results = new EnumMap<>(EventType.class);
+        for (Map.Entry<EventType, List<GitHubEvent>> bucket : classified.entrySet()) {
+            Function<GitHubEvent, ?> processor = processors.get(bucket.getKey());
+            if (processor != null) {
+                results.put(bucket.getKey(), map(bucket.getValue(), processor));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Builds every per-type view of a user's activity from one events array, classifying it in a single pass.
+     *
+     * @param username     GitHub username the data belongs to
+     * @param events       the user's recent events (may be null)
+     * @param repositories the user's repositories, already converted
+     * @param starred      the user's starred repositories, already converted
+     * @return the combined summary; views without events are empty lists
+     */
+    @SuppressWarnings("unchecked")
+    public ActivitySummaryDto summarize(String username, GitHubEvent[] events,
+                                        List<RepositoryDto> repositories, List<StarEventDto> starred) {
+        Map<EventType, List<GitHubEvent>> classified = classifyEvents(events);
+        Map<EventType, List<?>> views = processAll(classified);
+        return new ActivitySummaryDto(
+                username,
+                processCommitEvents(classified.getOrDefault(EventType.PUSH, List.of())),
+                (List<PushEventDto>) views.getOrDefault(EventType.PUSH, List.of()),
+                (List<IssueEventDto>) views.getOrDefault(EventType.ISSUES, List.of()),
+                (List<PullRequestEventDto>) views.getOrDefault(EventType.PULL_REQUEST, List.of()),
+                (List<ForkEventDto>) views.getOrDefault(EventType.FORK, List.of()),
+                (List<ReleaseEventDto>) views.getOrDefault(EventType.RELEASE, List.of()),
+                (List<IssueCommentEventDto>) views.getOrDefault(EventType.ISSUE_COMMENT, List.of()),
+                (List<CreateEventDto>) views.getOrDefault(EventType.CREATE, List.of()),
+                (List<DeleteEventDto>) views.getOrDefault(EventType.DELETE, List.of()),
+                (List<MemberEventDto>) views.getOrDefault(EventType.MEMBER, List.of()),
+                (List<PublicEventDto>) views.getOrDefault(EventType.PUBLIC, List.of()),
+                repositories,
+                starred);
+    }
+
     /**
      * Processes PushEvents and converts them to {@link CommitEventDto}.
-     * <p><strong>Note:</strong> Nearly identical to {@link #processPushEvents} — consider consolidation if business logic permits.</p>
+     * <p><strong>Note:</strong> Same source events as {@link #processPushEvents}; only the DTO type differs.</p>
      *
      * @param pushEvents list of PushEvent GitHub events
      * @return list of {@link CommitEventDto}
      */
     public List<CommitEventDto> processCommitEvents(List<GitHubEvent> pushEvents) {
-        List<CommitEventDto> commitEvents = new ArrayList<>();
-        for (GitHubEvent event : pushEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            int commitCount = 0;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object size = map.get("size");
-                if (size instanceof Number) {
-                    commitCount = ((Number) size).intValue();
-                }
-            }
-            commitEvents.add(new CommitEventDto(repoInfo[0], repoInfo[1], commitCount, event.getCreatedAt()));
-        }
-        return commitEvents;
+        return map(pushEvents, this::toCommitEventDto);
     }
 
     /**
      * Processes PushEvents and converts them to {@link PushEventDto}.
-     * <p><strong>Note:</strong> Nearly identical to {@link #processCommitEvents} — consider consolidation if business logic permits.</p>
+     * <p><strong>Note:</strong> Same source events as {@link #processCommitEvents}; only the DTO type differs.</p>
      *
      * @param pushEvents list of PushEvent GitHub events
      * @return list of {@link PushEventDto}
      */
     public List<PushEventDto> processPushEvents(List<GitHubEvent> pushEvents) {
-        List<PushEventDto> pushEventDtos = new ArrayList<>();
-        for (GitHubEvent event : pushEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            int commitCount = 0;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object size = map.get("size");
-                if (size instanceof Number) {
-                    commitCount = ((Number) size).intValue();
-                }
-            }
-            pushEventDtos.add(new PushEventDto(repoInfo[0], repoInfo[1], commitCount, event.getCreatedAt()));
-        }
-        return pushEventDtos;
+        return map(pushEvents, this::toPushEventDto);
     }
 
     /**
@@ -146,22 +238,7 @@ public class EventProcessingService {
      * @return list of {@link IssueEventDto}
      */
     public List<IssueEventDto> processIssueEvents(List<GitHubEvent> issueEvents) {
-        List<IssueEventDto> issueEventDtos = new ArrayList<>();
-        for (GitHubEvent event : issueEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String issueTitle = null;
-            String action = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object issueObj = map.get("issue");
-                if (issueObj instanceof Map<?, ?> issueMap) {
-                    issueTitle = getStringValue(issueMap, "title");
-                }
-                action = getStringValue(map, "action");
-            }
-            issueEventDtos.add(new IssueEventDto(repoInfo[0], repoInfo[1], issueTitle, action, event.getCreatedAt()));
-        }
-        return issueEventDtos;
+        return map(issueEvents, this::toIssueEventDto);
     }
 
     /**
@@ -177,15 +254,25 @@ public class EventProcessingService {
         if (starredRepos != null) {
             for (Object repoObj : starredRepos) {
                 if (repoObj instanceof Map<?, ?> repo) {
-                    String fullName = getStringValue(repo, "full_name");
-                    String[] repoInfo = extractRepoInfo(fullName);
-                    starEvents.add(new StarEventDto(repoInfo[0], repoInfo[1], "Unknown"));
+                    starEvents.add(toStarEventDto(repo));
                 }
             }
         }
         return starEvents;
     }
 
+    /**
+     * Streaming variant of {@link #processStarredRepos(Object[])}: converts each starred repository as it arrives.
+     *
+     * @param starredRepos stream of starred repository objects from GitHub API
+     * @return stream of {@link StarEventDto} (with placeholder timestamp)
+     */
+    public Flux<StarEventDto> processStarredRepos(Flux<?> starredRepos) {
+        return starredRepos
+                .ofType(Map.class)
+                .map(this::toStarEventDto);
+    }
+
     /**
      * Processes repositories and converts them to {@link RepositoryDto}.
      *
@@ -197,23 +284,45 @@ public class EventProcessingService {
         if (repos != null) {
             for (Object repoObj : repos) {
                 if (repoObj instanceof Map<?, ?> repo) {
-                    String name = getStringValue(repo, "name");
-                    String fullName = getStringValue(repo, "full_name");
-                    String description = getStringValue(repo, "description");
-                    String language = getStringValue(repo, "language");
-                    int stargazersCount = getIntValue(repo, "stargazers_count");
-                    int forksCount = getIntValue(repo, "forks_count");
-                    String createdAt = getStringValue(repo, "created_at");
-                    String updatedAt = getStringValue(repo, "updated_at");
-
-                    repositories.add(new RepositoryDto(name, fullName, description, language,
-                            stargazersCount, forksCount, createdAt, updatedAt));
+                    repositories.add(toRepositoryDto(repo));
                 }
             }
         }
         return repositories;
     }
 
+    /**
+     * Streaming variant of {@link #processRepositories(Object[])}: converts each repository as it arrives.
+     *
+     * @param repos stream of repository objects from GitHub API
+     * @return stream of {@link RepositoryDto}
+     */
+    public Flux<RepositoryDto> processRepositories(Flux<?> repos) {
+        return repos
+                .ofType(Map.class)
+                .map(this::toRepositoryDto);
+    }
+
+    private StarEventDto toStarEventDto(Map<?, ?> repo) {
+        String fullName = getStringValue(repo, "full_name");
+        String[] repoInfo = extractRepoInfo(fullName);
+        return new StarEventDto(repoInfo[0], repoInfo[1], "Unknown");
+    }
+
+    private RepositoryDto toRepositoryDto(Map<?, ?> repo) {
+        String name = getStringValue(repo, "name");
+        String fullName = getStringValue(repo, "full_name");
+        String description = getStringValue(repo, "description");
+        String language = getStringValue(repo, "language");
+        int stargazersCount = getIntValue(repo, "stargazers_count");
+        int forksCount = getIntValue(repo, "forks_count");
+        String createdAt = getStringValue(repo, "created_at");
+        String updatedAt = getStringValue(repo, "updated_at");
+
+        return new RepositoryDto(name, fullName, description, language,
+                stargazersCount, forksCount, createdAt, updatedAt);
+    }
+
     /**
      * Processes ForkEvents and converts them to {@link ForkEventDto}.
      *
@@ -221,20 +330,7 @@ public class EventProcessingService {
      * @return list of {@link ForkEventDto}
      */
     public List<ForkEventDto> processForkEvents(List<GitHubEvent> forkEvents) {
-        List<ForkEventDto> forkEventDtos = new ArrayList<>();
-        for (GitHubEvent event : forkEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String forkedRepoName = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object forkeeObj = map.get("forkee");
-                if (forkeeObj instanceof Map<?, ?> forkeeMap) {
-                    forkedRepoName = getStringValue(forkeeMap, "full_name");
-                }
-            }
-            forkEventDtos.add(new ForkEventDto(repoInfo[0], repoInfo[1], forkedRepoName, event.getCreatedAt()));
-        }
-        return forkEventDtos;
+        return map(forkEvents, this::toForkEventDto);
     }
 
     /**
@@ -244,22 +340,7 @@ public class EventProcessingService {
      * @return list of {@link PullRequestEventDto}
      */
     public List<PullRequestEventDto> processPullRequestEvents(List<GitHubEvent> prEvents) {
-        List<PullRequestEventDto> prEventDtos = new ArrayList<>();
-        for (GitHubEvent event : prEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String prTitle = null;
-            String action = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object prObj = map.get("pull_request");
-                if (prObj instanceof Map<?, ?> prMap) {
-                    prTitle = getStringValue(prMap, "title");
-                }
-                action = getStringValue(map, "action");
-            }
-            prEventDtos.add(new PullRequestEventDto(repoInfo[0], repoInfo[1], prTitle, action, event.getCreatedAt()));
-        }
-        return prEventDtos;
+        return map(prEvents, this::toPullRequestEventDto);
     }
 
     /**
@@ -269,22 +350,7 @@ public class EventProcessingService {
      * @return list of {@link ReleaseEventDto}
      */
     public List<ReleaseEventDto> processReleaseEvents(List<GitHubEvent> releaseEvents) {
-        List<ReleaseEventDto> releaseEventDtos = new ArrayList<>();
-        for (GitHubEvent event : releaseEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String releaseName = null;
-            String action = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object releaseObj = map.get("release");
-                if (releaseObj instanceof Map<?, ?> releaseMap) {
-                    releaseName = getStringValue(releaseMap, "name");
-                }
-                action = getStringValue(map, "action");
-            }
-            releaseEventDtos.add(new ReleaseEventDto(repoInfo[0], repoInfo[1], releaseName, action, event.getCreatedAt()));
-        }
-        return releaseEventDtos;
+        return map(releaseEvents, this::toReleaseEventDto);
     }
 
     /**
@@ -294,20 +360,7 @@ public class EventProcessingService {
      * @return list of {@link IssueCommentEventDto}
      */
     public List<IssueCommentEventDto> processCommentEvents(List<GitHubEvent> commentEvents) {
-        List<IssueCommentEventDto> commentEventDtos = new ArrayList<>();
-        for (GitHubEvent event : commentEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String commentBody = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object commentObj = map.get("comment");
-                if (commentObj instanceof Map<?, ?> commentMap) {
-                    commentBody = getStringValue(commentMap, "body");
-                }
-            }
-            commentEventDtos.add(new IssueCommentEventDto(repoInfo[0], repoInfo[1], commentBody, event.getCreatedAt()));
-        }
-        return commentEventDtos;
+        return map(commentEvents, this::toCommentEventDto);
     }
 
     /**
@@ -317,12 +370,7 @@ public class EventProcessingService {
      * @return list of {@link PublicEventDto}
      */
     public List<PublicEventDto> processPublicEvents(List<GitHubEvent> publicEvents) {
-        List<PublicEventDto> publicEventDtos = new ArrayList<>();
-        for (GitHubEvent event : publicEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            publicEventDtos.add(new PublicEventDto(repoInfo[0], repoInfo[1], event.getCreatedAt()));
-        }
-        return publicEventDtos;
+        return map(publicEvents, this::toPublicEventDto);
     }
 
     /**
@@ -332,19 +380,7 @@ public class EventProcessingService {
      * @return list of {@link DeleteEventDto}
      */
     public List<DeleteEventDto> processDeleteEvents(List<GitHubEvent> deleteEvents) {
-        List<DeleteEventDto> deleteEventDtos = new ArrayList<>();
-        for (GitHubEvent event : deleteEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String refType = null;
-            String ref = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                refType = getStringValue(map, "ref_type");
-                ref = getStringValue(map, "ref");
-            }
-            deleteEventDtos.add(new DeleteEventDto(repoInfo[0], repoInfo[1], refType, ref, event.getCreatedAt()));
-        }
-        return deleteEventDtos;
+        return map(deleteEvents, this::toDeleteEventDto);
     }
 
     /**
@@ -354,19 +390,7 @@ public class EventProcessingService {
      * @return list of {@link CreateEventDto}
      */
     public List<CreateEventDto> processCreateEvents(List<GitHubEvent> createEvents) {
-        List<CreateEventDto> createEventDtos = new ArrayList<>();
-        for (GitHubEvent event : createEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String refType = null;
-            String ref = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                refType = getStringValue(map, "ref_type");
-                ref = getStringValue(map, "ref");
-            }
-            createEventDtos.add(new CreateEventDto(repoInfo[0], repoInfo[1], refType, ref, event.getCreatedAt()));
-        }
-        return createEventDtos;
+        return map(createEvents, this::toCreateEventDto);
     }
 
     /**
@@ -376,21 +400,134 @@ public class EventProcessingService {
      * @return list of {@link MemberEventDto}
      */
     public List<MemberEventDto> processMemberEvents(List<GitHubEvent> memberEvents) {
-        List<MemberEventDto> memberEventDtos = new ArrayList<>();
-        for (GitHubEvent event : memberEvents) {
-            String[] repoInfo = extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
-            String memberLogin = null;
-            String action = null;
-            Object payload = event.getPayload();
-            if (payload instanceof Map<?, ?> map) {
-                Object memberObj = map.get("member");
-                if (memberObj instanceof Map<?, ?> memberMap) {
-                    memberLogin = getStringValue(memberMap, "login");
-                }
-                action = getStringValue(map, "action");
+        return map(memberEvents, this::toMemberEventDto);
+    }
+
+    // ========== PER-EVENT CONVERTERS ==========
+
+    private CommitEventDto toCommitEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        return new CommitEventDto(repoInfo[0], repoInfo[1], pushSize(event), event.getCreatedAt());
+    }
+
+    private PushEventDto toPushEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        return new PushEventDto(repoInfo[0], repoInfo[1], pushSize(event), event.getCreatedAt());
+    }
+
+    private IssueEventDto toIssueEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String issueTitle = null;
+        String action = null;
+        if (event.getPayload() instanceof IssuesPayload payload) {
+            if (payload.getIssue() != null) {
+                issueTitle = payload.getIssue().getTitle();
             }
-            memberEventDtos.add(new MemberEventDto(repoInfo[0], repoInfo[1], memberLogin, action, event.getCreatedAt()));
+            action = payload.getAction();
         }
-        return memberEventDtos;
+        return new IssueEventDto(repoInfo[0], repoInfo[1], issueTitle, action, event.getCreatedAt());
+    }
+
+    private ForkEventDto toForkEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String forkedRepoName = null;
+        if (event.getPayload() instanceof ForkPayload payload && payload.getForkee() != null) {
+            forkedRepoName = payload.getForkee().getFullName();
+        }
+        return new ForkEventDto(repoInfo[0], repoInfo[1], forkedRepoName, event.getCreatedAt());
+    }
+
+    private PullRequestEventDto toPullRequestEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String prTitle = null;
+        String action = null;
+        if (event.getPayload() instanceof PullRequestPayload payload) {
+            if (payload.getPullRequest() != null) {
+                prTitle = payload.getPullRequest().getTitle();
+            }
+            action = payload.getAction();
+        }
+        return new PullRequestEventDto(repoInfo[0], repoInfo[1], prTitle, action, event.getCreatedAt());
+    }
+
+    private ReleaseEventDto toReleaseEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String releaseName = null;
+        String action = null;
+        if (event.getPayload() instanceof ReleasePayload payload) {
+            if (payload.getRelease() != null) {
+                releaseName = payload.getRelease().getName();
+            }
+            action = payload.getAction();
+        }
+        return new ReleaseEventDto(repoInfo[0], repoInfo[1], releaseName, action, event.getCreatedAt());
+    }
+
+    private IssueCommentEventDto toCommentEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String commentBody = null;
+        if (event.getPayload() instanceof IssueCommentPayload payload && payload.getComment() != null) {
+            commentBody = payload.getComment().getBody();
+        }
+        return new IssueCommentEventDto(repoInfo[0], repoInfo[1], commentBody, event.getCreatedAt());
+    }
+
+    private PublicEventDto toPublicEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        return new PublicEventDto(repoInfo[0], repoInfo[1], event.getCreatedAt());
+    }
+
+    private DeleteEventDto toDeleteEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String refType = null;
+        String ref = null;
+        if (event.getPayload() instanceof RefPayload payload) {
+            refType = payload.getRefType();
+            ref = payload.getRef();
+        }
+        return new DeleteEventDto(repoInfo[0], repoInfo[1], refType, ref, event.getCreatedAt());
+    }
+
+    private CreateEventDto toCreateEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String refType = null;
+        String ref = null;
+        if (event.getPayload() instanceof RefPayload payload) {
+            refType = payload.getRefType();
+            ref = payload.getRef();
+        }
+        return new CreateEventDto(repoInfo[0], repoInfo[1], refType, ref, event.getCreatedAt());
+    }
+
+    private MemberEventDto toMemberEventDto(GitHubEvent event) {
+        String[] repoInfo = repoInfo(event);
+        String memberLogin = null;
+        String action = null;
+        if (event.getPayload() instanceof MemberPayload payload) {
+            if (payload.getMember() != null) {
+                memberLogin = payload.getMember().getLogin();
+            }
+            action = payload.getAction();
+        }
+        return new MemberEventDto(repoInfo[0], repoInfo[1], memberLogin, action, event.getCreatedAt());
+    }
+
+    /**
+     * Converts events with the given converter into a new list sized for the input.
+     */
+    private static <D> List<D> map(List<GitHubEvent> events, Function<GitHubEvent, D> converter) {
+        List<D> results = new ArrayList<>(events.size());
+        for (GitHubEvent event : events) {
+            results.add(converter.apply(event));
+        }
+        return results;
+    }
+
+    private String[] repoInfo(GitHubEvent event) {
+        return extractRepoInfo(event.getRepo() != null ? event.getRepo().getName() : null);
+    }
+
+    private static int pushSize(GitHubEvent event) {
+        return event.getPayload() instanceof PushPayload payload ? payload.getSize() : 0;
     }
-}
\ No newline at end of file
+}
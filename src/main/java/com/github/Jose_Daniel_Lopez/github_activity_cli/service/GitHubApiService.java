@@ -1,61 +1,648 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
 
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ConditionalResponseCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.EventWatermarks;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.InFlightRequestTable;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.NegativeUserCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.SeenEventIds;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.jfr.CacheLookupEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.jfr.CollectionFetchEvent;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.store.EventStore;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.util.LinkHeader;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.util.LongHashSet;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpResponseDecorator;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 @Service
 public class GitHubApiService {
 
+    /** GitHub's maximum page size for list endpoints. */
+    private static final int MAX_PER_PAGE = 100;
+
+    /** Number of pages buffered ahead of the consumer while streaming. */
+    private static final int PAGE_PREFETCH = 2;
+
+    /** Number of recent events GitHub lists per user. */
+    private static final int EVENTS_WINDOW = 300;
+
+    /** Response header carrying the minimum interval GitHub asks event pollers to keep, in seconds. */
+    private static final String POLL_INTERVAL_HEADER = "X-Poll-Interval";
+
     private final WebClient webClient;
+    private final ConditionalResponseCache responseCache;
+    private final InFlightRequestTable inFlightRequests;
+    private final ActivityCache activityCache;
+    private final NegativeUserCache negativeUserCache;
+    private final EventStore eventStore;
+    private final EventWatermarks watermarks;
+    private final SeenEventIds seenEventIds;
+    private final int pageConcurrency;
 
     @Autowired
-    public GitHubApiService(WebClient webClient) {
+    public GitHubApiService(WebClient webClient,
+                            ConditionalResponseCache responseCache,
+                            InFlightRequestTable inFlightRequests,
+                            ActivityCache activityCache,
+                            NegativeUserCache negativeUserCache,
+                            EventStore eventStore,
+                            EventWatermarks watermarks,
+                            SeenEventIds seenEventIds,
+                            @Value("${github.pagination.concurrency:4}") int pageConcurrency) {
         this.webClient = webClient;
+        this.responseCache = responseCache;
+        this.inFlightRequests = inFlightRequests;
+        this.activityCache = activityCache;
+        this.negativeUserCache = negativeUserCache;
+        this.eventStore = eventStore;
+        this.watermarks = watermarks;
+        this.seenEventIds = seenEventIds;
+        this.pageConcurrency = pageConcurrency;
+    }
+
+    /**
+     * Fetches user events from GitHub API, following pagination up to GitHub's 300-event limit.
+     * <p>Served from {@link ActivityCache} while fresh; otherwise concurrent calls for the same user share one
+     * upstream fetch and receive the same array.</p>
+     * <p>When the {@link EventStore} is enabled, only events newer than the user's {@link EventWatermarks watermark}
+     * are fetched (see {@link #fetchNewUserEvents}) and added to it, and the user's stored history is returned, so
+     * events GitHub no longer lists are still included.</p>
+     */
+    public Mono<GitHubEvent[]> fetchUserEvents(String username) {
+        String url = "/users/" + username + "/events";
+        return activityCache.getOrLoad(ActivityCache.Resource.EVENTS, username,
+                () -> inFlightRequests.join(url, () -> retain(username)));
+    }
+
+    /**
+     * Fetches the user's events and answers from their stored history when the store is enabled.
+     * <p>If the upstream fetch fails for any reason other than the user not existing, the stored history is served
+     * instead, when there is one. A failure to store the new events is not masked that way: it is propagated and the
+     * events will be fetched again (see {@link #commitNewEvents}). Store I/O runs on the bounded elastic scheduler,
+     * off the event loop.</p>
+     *
+     * @param username GitHub username
+     * @return the stored history, newest first; all fetched events if the store is disabled
+     */
+    private Mono<GitHubEvent[]> retain(String username) {
+        if (!eventStore.isEnabled()) {
+            return streamUserEvents(username, 0)
+                    .collectList()
+                    .doOnNext(events -> watermarks.advance(username, highestId(events)))
+                    .map(events -> events.toArray(GitHubEvent[]::new));
+        }
+        return sightNewEvents(username, new AtomicReference<>())
+                .map(Optional::of)
+                .onErrorResume(e -> !(e instanceof WebClientResponseException.NotFound) && eventStore.contains(username),
+                        e -> Mono.just(Optional.empty()))
+                .publishOn(Schedulers.boundedElastic())
+                .map(fetched -> fetched.isPresent()
+                        ? commitNewEvents(username, fetched.get(), events -> appendAndRead(username, events))
+                        : eventStore.read(username).toArray(GitHubEvent[]::new));
+    }
+
+    /**
+     * Fetches only the user's events newer than their {@link EventWatermarks watermark}, newest first.
+     * <p>Pages are requested one after another, and the next one only after the current page has been read without
+     * reaching an already seen event, so a poll costs a single page unless more than a page of activity happened.
+     * Without a watermark (first fetch) the whole window GitHub offers is fetched.</p>
+     * <p>Events already ingested by an earlier poll within {@code github.dedup.window} (see {@link SeenEventIds}) are
+     * dropped as well, so overlapping or concurrent polls never hand the same event downstream twice. The watermark
+     * advances to the newest event once all new events have been fetched; if the fetch fails, nothing is marked as
+     * seen.</p>
+     *
+     * @param username GitHub username
+     * @return a {@link Flux} of the new events
+     */
+    public Flux<GitHubEvent> fetchNewUserEvents(String username) {
+        return sightNewEvents(username, new AtomicReference<>())
+                .map(events -> commitNewEvents(username, events, Function.identity()))
+                .flatMapIterable(events -> events);
+    }
+
+    /**
+     * Brings the user's cached events up to date with one incremental poll, so reads served from
+     * {@link ActivityCache} do not have to wait for GitHub.
+     * <p>Only events above the user's watermark are fetched (see {@link #fetchNewUserEvents}); with conditional
+     * requests an unchanged first page costs a {@code 304} that GitHub does not count against the rate limit. The
+     * new events are added to the {@link EventStore} and the stored history is cached when the store is enabled;
+     * otherwise they are prepended to the cached events, keeping GitHub's {@value #EVENTS_WINDOW}-event window. Users
+     * with nothing cached yet get a full fetch. Either way the cache entry's TTLs restart.</p>
+     *
+     * @param username GitHub username
+     * @return the interval GitHub asks pollers to wait before polling again ({@code X-Poll-Interval}), or empty if
+     * it did not send one
+     */
+    public Mono<Duration> refreshUserEvents(String username) {
+        return Mono.defer(() -> {
+            AtomicReference<Duration> pollInterval = new AtomicReference<>();
+            GitHubEvent[] cached = activityCache.peek(ActivityCache.Resource.EVENTS, username);
+            Mono<GitHubEvent[]> refreshed;
+            if (eventStore.isEnabled()) {
+                refreshed = sightNewEvents(username, pollInterval)
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(fetched -> commitNewEvents(username, fetched, events -> appendAndRead(username, events)));
+            } else if (cached != null) {
+                refreshed = sightNewEvents(username, pollInterval)
+                        .map(fetched -> commitNewEvents(username, fetched, events -> prepend(events, cached)));
+            } else {
+                refreshed = eventsAbove(username, -1, pollInterval)
+                        .collectList()
+                        .doOnNext(events -> watermarks.advance(username, highestId(events)))
+                        .map(events -> events.toArray(GitHubEvent[]::new));
+            }
+            return refreshed
+                    .doOnNext(events -> activityCache.put(ActivityCache.Resource.EVENTS, username, events))
+                    .then(Mono.fromSupplier(pollInterval::get));
+        });
+    }
+
+    /**
+     * Fetches the user's events above their watermark and drops those already ingested, marking the rest as seen.
+     * <p>The caller must hand the result to {@link #commitNewEvents}. If the fetch fails or is cancelled, the events
+     * marked so far are forgotten again, so a later poll does not drop them as duplicates.</p>
+     *
+     * @param username     GitHub username
+     * @param pollInterval receives the first page's {@code X-Poll-Interval}
+     * @return a {@link Mono} of the new events, newest first
+     */
+    private Mono<List<GitHubEvent>> sightNewEvents(String username, AtomicReference<Duration> pollInterval) {
+        return Mono.defer(() -> {
+            List<GitHubEvent> sighted = new ArrayList<>();
+            return eventsAbove(username, watermarks.get(username), pollInterval)
+                    .filter(event -> seenEventIds.firstSighting(username, event.getNumericId()))
+                    .doOnNext(sighted::add)
+                    .collectList()
+                    .doOnError(e -> forget(username, sighted))
+                    .doOnCancel(() -> forget(username, sighted));
+        });
+    }
+
+    /**
+     * Persists freshly sighted events and only then advances the user's watermark.
+     * <p>If {@code persist} throws, the events are forgotten by {@link SeenEventIds} and the watermark stays where it
+     * was, so the next poll fetches them again; the exception is rethrown.</p>
+     *
+     * @param username GitHub username
+     * @param events   the result of {@link #sightNewEvents}
+     * @param persist  stores or caches the events
+     * @return the result of {@code persist}
+     */
+    private <R> R commitNewEvents(String username, List<GitHubEvent> events, Function<List<GitHubEvent>, R> persist) {
+        R result;
+        try {
+            result = persist.apply(events);
+        } catch (RuntimeException e) {
+            forget(username, events);
+            throw e;
+        }
+        watermarks.advance(username, highestId(events));
+        return result;
+    }
+
+    private void forget(String username, List<GitHubEvent> events) {
+        for (GitHubEvent event : events) {
+            seenEventIds.forget(username, event.getNumericId());
+        }
     }
 
     /**
-     * Fetches user events from GitHub API
+     * Adds the events to the {@link EventStore} and returns the user's stored history. Blocking.
      */
-    public GitHubEvent[] fetchUserEvents(String username) {
-        String url = "https://api.github.com/users/" + username + "/events";
-        return webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(GitHubEvent[].class)
-                .block(); // Using block() for synchronous behavior
+    private GitHubEvent[] appendAndRead(String username, List<GitHubEvent> events) {
+        eventStore.append(username, events);
+        return eventStore.read(username).toArray(GitHubEvent[]::new);
     }
 
     /**
-     * Fetches user starred repositories from GitHub API
+     * Streams the user's events with ids above {@code watermark}, paginating no further than needed.
+     *
+     * @param username     GitHub username
+     * @param watermark    highest id already known, or {@code -1} to fetch everything GitHub lists
+     * @param pollInterval receives the first page's {@code X-Poll-Interval}
+     * @return a {@link Flux} of the events, newest first
      */
-    public Object[] fetchUserStarredRepos(String username) {
-        String url = "https://api.github.com/users/" + username + "/starred";
-        return webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(Object[].class)
-                .block();
+    private Flux<GitHubEvent> eventsAbove(String username, long watermark, AtomicReference<Duration> pollInterval) {
+        String url = "/users/" + username + "/events";
+        Predicate<GitHubEvent> seen = event -> event.getNumericId() >= 0 && event.getNumericId() <= watermark;
+        return rejectKnownMissing(username,
+                recordFetch(username, url, distinctIds(fetchUntil(url, GitHubEvent.class, seen, pollInterval))));
+    }
+
+    /**
+     * Streams user events from GitHub API page by page
+     *
+     * @param maxItems maximum number of events to emit, or 0 for no limit
+     */
+    public Flux<GitHubEvent> streamUserEvents(String username, int maxItems) {
+        String url = "/users/" + username + "/events";
+        return rejectKnownMissing(username, distinctIds(fetchPaginated(username, url, GitHubEvent.class, maxItems)));
+    }
+
+    /**
+     * Drops events whose id already appeared earlier in the same fetch.
+     * <p>Events created while later pages are being requested shift GitHub's page boundaries, so an event listed at
+     * the end of one page can be listed again at the start of the next. Ids are tracked in a {@link LongHashSet}
+     * local to the subscription.</p>
+     *
+     * @param events one fetch of a user's events
+     * @return the events, each id at most once
+     */
+    private static Flux<GitHubEvent> distinctIds(Flux<GitHubEvent> events) {
+        return Flux.defer(() -> {
+            LongHashSet ids = new LongHashSet(MAX_PER_PAGE);
+            return events.filter(event -> event.getNumericId() < 0 || ids.add(event.getNumericId()));
+        });
+    }
+
+    /**
+     * Streams all user starred repositories from GitHub API, replaying them from {@link ActivityCache} while fresh
+     */
+    public Flux<Object> fetchUserStarredRepos(String username) {
+        return activityCache.getOrLoadMany(ActivityCache.Resource.STARRED, username,
+                () -> fetchUserStarredRepos(username, 0));
+    }
+
+    /**
+     * Streams user starred repositories from GitHub API page by page
+     *
+     * @param maxItems maximum number of repositories to emit, or 0 for no limit
+     */
+    public Flux<Object> fetchUserStarredRepos(String username, int maxItems) {
+        String url = "/users/" + username + "/starred";
+        return rejectKnownMissing(username, fetchPaginated(username, url, Object.class, maxItems));
+    }
+
+    /**
+     * Streams all user repositories from GitHub API, replaying them from {@link ActivityCache} while fresh
+     */
+    public Flux<Object> fetchUserRepositories(String username) {
+        return activityCache.getOrLoadMany(ActivityCache.Resource.REPOSITORIES, username,
+                () -> fetchUserRepositories(username, 0));
+    }
+
+    /**
+     * Streams user repositories from GitHub API page by page
+     *
+     * @param maxItems maximum number of repositories to emit, or 0 for no limit
+     */
+    public Flux<Object> fetchUserRepositories(String username, int maxItems) {
+        String url = "/users/" + username + "/repos";
+        return rejectKnownMissing(username, fetchPaginated(username, url, Object.class, maxItems));
+    }
+
+    /**
+     * Fails fast with a synthetic {@code 404} for usernames recently found not to exist, and records new 404s.
+     * <p>The rejection is indistinguishable from a real GitHub 404 for {@link #handleGitHubApiException}.</p>
+     *
+     * @param username GitHub username
+     * @param fetch    the upstream fetch to guard
+     * @return {@code fetch}, or an immediate {@code 404} error
+     */
+    private <T> Flux<T> rejectKnownMissing(String username, Flux<T> fetch) {
+        return Flux.defer(() -> {
+            boolean missing = negativeUserCache.isKnownMissing(username);
+            CacheLookupEvent lookup = new CacheLookupEvent();
+            if (lookup.shouldCommit()) {
+                lookup.cache = "negative-users";
+                lookup.username = username;
+                lookup.outcome = missing ? "hit" : "miss";
+                lookup.commit();
+            }
+            if (missing) {
+                return Flux.error(WebClientResponseException.create(
+                        HttpStatus.NOT_FOUND.value(), "Not Found (cached)", HttpHeaders.EMPTY, new byte[0], null));
+            }
+            return fetch.doOnError(WebClientResponseException.NotFound.class,
+                    e -> negativeUserCache.recordMissing(username));
+        });
     }
 
     /**
-     * Fetches user repositories from GitHub API
+     * Streams the items of a paginated GitHub collection.
+     * <p>Each item is emitted as soon as it has been decoded from the response body, while later pages are already
+     * being requested. At most {@value #PAGE_PREFETCH} pages are buffered ahead of the consumer (plus up to
+     * {@code github.pagination.concurrency} pages in flight), so memory stays bounded regardless of collection size.</p>
+     * <p>When {@code maxItems} is reached, outstanding page requests are cancelled and no further pages are fetched.
+     * Pages whose headers already arrived are read to the end in the background so their connection is released and
+     * their body can still be revalidated later.</p>
+     * <p>Each subscription is emitted as a {@link CollectionFetchEvent} to Java Flight Recorder while a recording is
+     * running.</p>
+     *
+     * @param username the user the collection belongs to, for the recorded event
+     * @param url      the collection path (relative to the base URL) or URL, without pagination parameters
+     * @param itemType the type of a single item
+     * @param maxItems maximum number of items to emit, or 0 for no limit
+     * @return a {@link Flux} of items across all pages, in GitHub's order
      */
-    public Object[] fetchUserRepositories(String username) {
-        String url = "https://api.github.com/users/" + username + "/repos";
-        return webClient.get()
-                .uri(url)
-                .retrieve()
-                .bodyToMono(Object[].class)
-                .block();
+    private <T> Flux<T> fetchPaginated(String username, String url, Class<T> itemType, int maxItems) {
+        int perPage = maxItems > 0 ? Math.min(maxItems, MAX_PER_PAGE) : MAX_PER_PAGE;
+        String firstPageUrl = url + "?per_page=" + perPage;
+        Flux<T> items = fetchPage(firstPageUrl, itemType)
+                .flatMapMany(first -> Flux.concat(Mono.just(first), fetchRemainingPages(first, itemType, perPage, maxItems)))
+                .concatMap(Page::items, PAGE_PREFETCH)
+                .doOnDiscard(Page.class, page -> page.items().subscribe());
+        return recordFetch(username, url, maxItems > 0 ? items.take(maxItems) : items);
+    }
+
+    /**
+     * Streams the leading items of a paginated GitHub collection, up to the first one already {@code seen}.
+     * <p>Unlike {@link #fetchPaginated}, pages are fetched strictly one after another: the {@code rel="next"} page is
+     * requested only once the current page has been decoded and found to contain no seen item.</p>
+     *
+     * @param url          the collection path (relative to the base URL) or URL, without pagination parameters
+     * @param itemType     the type of a single item
+     * @param seen         matches the items at which fetching stops
+     * @param pollInterval receives the first page's {@code X-Poll-Interval}, if present
+     * @return a {@link Flux} of the items before the first seen one, in GitHub's order
+     */
+    private <T> Flux<T> fetchUntil(String url, Class<T> itemType, Predicate<T> seen,
+                                   AtomicReference<Duration> pollInterval) {
+        return fetchPage(url + "?per_page=" + MAX_PER_PAGE, itemType)
+                .doOnNext(first -> pollInterval.set(first.pollInterval()))
+                .expand(page -> page.next() == null ? Mono.empty() : page.items().any(seen)
+                        .flatMap(reached -> reached ? Mono.<Page<T>>empty() : fetchPage(page.next(), itemType)))
+                .concatMap(Page::items, 1)
+                .doOnDiscard(Page.class, page -> page.items().subscribe())
+                .takeWhile(seen.negate());
+    }
+
+    /**
+     * Emits each subscription to {@code items} as a {@link CollectionFetchEvent} while a recording is running.
+     *
+     * @param username the user the collection belongs to
+     * @param url      the collection path
+     * @param items    the collection fetch
+     * @return {@code items}, recorded
+     */
+    private static <T> Flux<T> recordFetch(String username, String url, Flux<T> items) {
+        return Flux.defer(() -> {
+            CollectionFetchEvent event = new CollectionFetchEvent();
+            event.begin();
+            AtomicInteger emitted = new AtomicInteger();
+            return items
+                    .doOnNext(item -> emitted.incrementAndGet())
+                    .doFinally(signal -> {
+                        if (event.shouldCommit()) {
+                            event.username = username;
+                            event.url = url;
+                            event.items = emitted.get();
+                            event.outcome = signal.toString();
+                            event.commit();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Fetches the pages following the first one.
+     * <p>When the first page reveals the page count through {@code Link: rel="last"} and
+     * {@code github.pagination.concurrency} is greater than 1, pages 2..N are requested concurrently and
+     * re-emitted in page order as soon as each predecessor has landed. Otherwise {@code rel="next"} links are
+     * followed one after another.</p>
+     *
+     * @param first    the already fetched first page
+     * @param itemType the type of a single item
+     * @param perPage  the page size used for the first page
+     * @param maxItems maximum number of items required, or 0 for no limit (bounds the number of pages fetched)
+     * @return a {@link Flux} of the remaining pages, in order
+     */
+    private <T> Flux<Page<T>> fetchRemainingPages(Page<T> first, Class<T> itemType, int perPage, int maxItems) {
+        int lastPage = pageNumber(first.last());
+        if (pageConcurrency > 1 && lastPage > 1) {
+            if (maxItems > 0) {
+                lastPage = Math.min(lastPage, (maxItems + perPage - 1) / perPage);
+            }
+            String lastPageUrl = first.last();
+            return Flux.range(2, Math.max(0, lastPage - 1))
+                    .flatMapSequential(page -> fetchPage(withPageNumber(lastPageUrl, page), itemType), pageConcurrency);
+        }
+        if (first.next() == null) {
+            return Flux.empty();
+        }
+        return fetchPage(first.next(), itemType)
+                .expand(page -> page.next() != null ? fetchPage(page.next(), itemType) : Mono.empty());
+    }
+
+    /**
+     * Fetches a single page, revalidating any cached copy of it.
+     * <p>The page is returned as soon as its headers arrive. Its items are decoded one at a time from the response
+     * {@code DataBuffer}s as they are received, so the body is never aggregated into a single buffer or array
+     * before the first item is emitted. Streaming is per element: the tokenizer buffers each array element's complete
+     * token stream before it is bound to {@code itemType}, so nothing is skipped at that stage. Events are then bound
+     * by {@link com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEventDeserializer}, which skips unused
+     * fields while reading the buffered tokens; repositories and stars are bound as generic maps with every
+     * field.</p>
+     * <p>The decoded items are replayed to every subscriber of the page, which lets concurrent requests for the same
+     * page URL share one upstream call. While the body streams in, its raw bytes are copied aside and stored for
+     * revalidation once it has been read completely; a {@code 304 Not Modified} decodes the stored bytes instead of
+     * downloading them again.</p>
+     *
+     * @param url      the page URL
+     * @param itemType the type of a single item
+     * @return a {@link Mono} of the page and its {@code next}/{@code last} links; an empty page if GitHub returned no body
+     */
+    private <T> Mono<Page<T>> fetchPage(String url, Class<T> itemType) {
+        return inFlightRequests.join(url, () -> Mono.defer(() -> {
+            ConditionalResponseCache.Entry cached = responseCache.get(url);
+            return webClient.get()
+                    .uri(url)
+                    .headers(headers -> {
+                        if (cached != null) {
+                            cached.applyTo(headers);
+                        }
+                    })
+                    .retrieve()
+                    .toEntityFlux(pageBody(url, itemType, cached))
+                    .map(response -> {
+                        HttpHeaders headers = response.getHeaders();
+                        Flux<T> items = (response.getBody() != null ? response.getBody() : Flux.<T>empty()).cache();
+                        if (isNotModified(response.getStatusCode()) && cached != null) {
+                            return new Page<>(items, cached.next(), cached.last(), pollInterval(headers));
+                        }
+                        String link = headers.getFirst(HttpHeaders.LINK);
+                        return new Page<>(items, LinkHeader.find(link, "next"), LinkHeader.find(link, "last"),
+                                pollInterval(headers));
+                    });
+        }));
+    }
+
+    /**
+     * Decodes a page body into items, keeping a copy of the raw bytes for revalidation.
+     * <p>On a {@code 304} with a cached entry, the cached bytes are decoded in place of the (empty) response body.
+     * Otherwise every received buffer is copied before the decoder consumes it, and the copy is stored in the
+     * {@link ConditionalResponseCache} once the body completes; a body that is cancelled half-way is not stored.</p>
+     *
+     * @param url      the page URL, used as cache key
+     * @param itemType the type of a single item
+     * @param cached   the entry sent for revalidation, or {@code null}
+     * @return an extractor emitting the page's items
+     */
+    private <T> BodyExtractor<Flux<T>, ClientHttpResponse> pageBody(String url, Class<T> itemType,
+                                                                    ConditionalResponseCache.Entry cached) {
+        return (response, context) -> {
+            Flux<DataBuffer> body;
+            HttpHeaders headers = response.getHeaders();
+            if (isNotModified(response.getStatusCode()) && cached != null) {
+                body = response.getBody()
+                        .doOnNext(DataBufferUtils::release)
+                        .thenMany(Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cached.body()))));
+                HttpHeaders replayed = new HttpHeaders();
+                replayed.addAll(headers);
+                replayed.setContentType(MediaType.APPLICATION_JSON);
+                headers = replayed;
+            } else {
+                ByteArrayOutputStream copy = new ByteArrayOutputStream();
+                String link = headers.getFirst(HttpHeaders.LINK);
+                HttpHeaders validators = headers;
+                body = response.getBody()
+                        .doOnNext(buffer -> copyTo(copy, buffer))
+                        .doOnComplete(() -> responseCache.put(url, validators, copy.toByteArray(),
+                                LinkHeader.find(link, "next"), LinkHeader.find(link, "last")));
+            }
+            HttpHeaders bodyHeaders = headers;
+            ClientHttpResponse decorated = new ClientHttpResponseDecorator(response) {
+                @Override
+                public HttpHeaders getHeaders() {
+                    return bodyHeaders;
+                }
+
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    return body;
+                }
+            };
+            return BodyExtractors.toFlux(itemType).extract(decorated, context);
+        };
+    }
+
+    /**
+     * Appends the readable bytes of {@code buffer} to {@code copy} without moving its read position.
+     */
+    private static void copyTo(ByteArrayOutputStream copy, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext()) {
+                ByteBuffer chunk = chunks.next();
+                byte[] bytes = new byte[chunk.remaining()];
+                chunk.get(bytes);
+                copy.writeBytes(bytes);
+            }
+        }
+    }
+
+    private static boolean isNotModified(HttpStatusCode status) {
+        return status.isSameCodeAs(HttpStatus.NOT_MODIFIED);
+    }
+
+    /**
+     * Parses the {@code X-Poll-Interval} header.
+     *
+     * @return the interval, or {@code null} if absent or malformed
+     */
+    private static Duration pollInterval(HttpHeaders headers) {
+        String value = headers.getFirst(POLL_INTERVAL_HEADER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code newer} followed by {@code older}, truncated to GitHub's event window.
+     */
+    private static GitHubEvent[] prepend(List<GitHubEvent> newer, GitHubEvent[] older) {
+        if (newer.isEmpty()) {
+            return older;
+        }
+        int length = Math.min(EVENTS_WINDOW, newer.size() + older.length);
+        GitHubEvent[] merged = newer.toArray(new GitHubEvent[length]);
+        if (newer.size() < length) {
+            System.arraycopy(older, 0, merged, newer.size(), length - newer.size());
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the highest numeric id among the events, or {@code -1} if none has one.
+     */
+    private static long highestId(List<GitHubEvent> events) {
+        long highest = -1;
+        for (GitHubEvent event : events) {
+            highest = Math.max(highest, event.getNumericId());
+        }
+        return highest;
+    }
+
+    /**
+     * Extracts the {@code page} query parameter from a page URL.
+     *
+     * @param url the page URL (may be null)
+     * @return the page number, or 0 if absent or malformed
+     */
+    private static int pageNumber(String url) {
+        if (url == null) {
+            return 0;
+        }
+        String page = UriComponentsBuilder.fromUriString(url).build().getQueryParams().getFirst("page");
+        try {
+            return page != null ? Integer.parseInt(page) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the given page URL with its {@code page} query parameter replaced.
+     *
+     * @param url        a page URL of the same collection (typically the {@code rel="last"} link)
+     * @param pageNumber the page to point at
+     * @return the URL of the requested page
+     */
+    private static String withPageNumber(String url, int pageNumber) {
+        return UriComponentsBuilder.fromUriString(url)
+                .replaceQueryParam("page", pageNumber)
+                .build(true)
+                .toUriString();
     }
 
     /**
      * Handles common GitHub API exceptions
      */
-    public RuntimeException handleGitHubApiException(Exception e, String username) {
+    public RuntimeException handleGitHubApiException(Throwable e, String username) {
         if (e instanceof WebClientResponseException webEx) {
             if (webEx.getStatusCode().value() == 404) {
                 return new RuntimeException("User not found: " + username);
@@ -65,4 +652,15 @@ public class GitHubApiService {
         }
         return new RuntimeException("Unexpected error: " + e.getMessage());
     }
+
+    /**
+     * A single page of a paginated collection.
+     *
+     * @param items        the items on this page, decoded as they arrive and replayed to every subscriber
+     * @param next         URL of the following page, or {@code null} on the last page
+     * @param last         URL of the last page, or {@code null} if GitHub did not advertise it
+     * @param pollInterval the {@code X-Poll-Interval} GitHub sent with the page, or {@code null}
+     */
+    private record Page<T>(Flux<T> items, String next, String last, Duration pollInterval) {
+    }
 }
@@ -0,0 +1,247 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.TokenPool;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.PrefetchProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.util.FrequencySketch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Refreshes the events of the most frequently requested users shortly before their {@link ActivityCache} entries go
+ * stale, so hot users are always served fresh from cache without a hand-maintained watch list.
+ * <p>
+ * Every event read is counted in a lock-free {@link FrequencySketch}, which ages its counts so popularity follows
+ * recent traffic. On the request path a read only updates the sketch, and a user whose estimate reaches
+ * {@code github.prefetch.min-requests} and beats the coldest tracked user is noted as a candidate; a long tail of
+ * one-off usernames costs a sketch update and nothing more. Candidates are admitted on the timer, which keeps the
+ * {@code github.prefetch.max-hot-users} hottest users, so ranking and eviction never run on an event-loop thread.
+ * </p>
+ * <p>Every {@code github.prefetch.check-interval}, hot users whose entry expires within {@code github.prefetch.lead}
+ * (or that have nothing cached) are refreshed with {@link GitHubApiService#refreshUserEvents}, hottest first.
+ * Refreshes are paid for with credits that accrue at {@code budget-share × remaining / time-until-reset} per second
+ * from the budget {@link TokenPool} last saw, so prefetching spends at most about {@code github.prefetch.budget-share}
+ * of what is left in each rate-limit window and slows down by itself as user traffic uses up the rest. Each refresh
+ * costs one credit even though unchanged users are answered with a {@code 304} that GitHub does not charge, which
+ * keeps the estimate conservative. Nothing is prefetched until GitHub has reported a budget.</p>
+ * <p><strong>Configuration:</strong> see {@link PrefetchProperties}.</p>
+ * <p><strong>Thread Safety:</strong> {@link #recordRequest} and {@link #stats} are safe for concurrent use and do not
+ * lock; {@link #prefetchDue} runs on the timer only.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class HotUserPrefetcher {
+
+    private static final Logger log = LoggerFactory.getLogger(HotUserPrefetcher.class);
+
+    private final GitHubApiService gitHubApiService;
+    private final ActivityCache activityCache;
+    private final TokenPool tokenPool;
+    private final PrefetchProperties properties;
+    private final Clock clock;
+    private final FrequencySketch sketch;
+    /** Tracked users by lower-cased name; only modified by {@link #prefetchDue}. */
+    private final Map<String, Candidate> hotUsers = new ConcurrentHashMap<>();
+    /**
+     * Users noted by {@link #recordRequest} since the last check, lower-cased name to name as requested. Drained by
+     * every check; each entry took {@code min-requests} reads, so it stays small between checks.
+     */
+    private final Map<String, String> candidates = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder prefetches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder budgetSkips = new LongAdder();
+
+    /** Lowest frequency among the tracked users while all places are taken, as of the last check. */
+    private volatile int admissionFloor;
+    /** Refreshes that may be sent now; only touched by {@link #prefetchDue}. */
+    private double credits;
+    private long creditedAt;
+    private Disposable timer;
+
+    @Autowired
+    public HotUserPrefetcher(GitHubApiService gitHubApiService, ActivityCache activityCache, TokenPool tokenPool,
+                             PrefetchProperties properties) {
+        this(gitHubApiService, activityCache, tokenPool, properties, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a prefetcher reading time from the given clock (for tests).
+     */
+    public HotUserPrefetcher(GitHubApiService gitHubApiService, ActivityCache activityCache, TokenPool tokenPool,
+                             PrefetchProperties properties, Clock clock) {
+        if (properties.budgetShare() <= 0 || properties.budgetShare() > 1) {
+            throw new IllegalArgumentException("github.prefetch.budget-share must be in (0, 1]: "
+                    + properties.budgetShare());
+        }
+        this.gitHubApiService = gitHubApiService;
+        this.activityCache = activityCache;
+        this.tokenPool = tokenPool;
+        this.properties = properties;
+        this.clock = clock;
+        this.sketch = new FrequencySketch(Math.max(1, properties.maxHotUsers()));
+        this.creditedAt = clock.millis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.enabled() || timer != null) {
+            return;
+        }
+        timer = Flux.interval(properties.checkInterval())
+                .onBackpressureDrop()
+                .subscribe(tick -> prefetchDue());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (timer != null) {
+            timer.dispose();
+            timer = null;
+        }
+    }
+
+    /**
+     * Counts one read of the user's events. Lock-free: the user is only noted as a candidate here and admitted by the
+     * next {@link #prefetchDue}.
+     *
+     * @param username GitHub username (case-insensitive)
+     */
+    public void recordRequest(String username) {
+        if (!properties.enabled()) {
+            return;
+        }
+        int frequency = sketch.increment(username);
+        if (frequency < properties.minRequests() || frequency <= admissionFloor) {
+            return;
+        }
+        String key = key(username);
+        if (!hotUsers.containsKey(key)) {
+            candidates.putIfAbsent(key, username);
+        }
+    }
+
+    /**
+     * Refreshes the hot users whose cached events are about to go stale, as far as the budget allows. Called by the
+     * timer; visible for tests.
+     */
+    void prefetchDue() {
+        addCredits();
+        for (Candidate candidate : rankHotUsers()) {
+            String key = key(candidate.username);
+            Duration timeToStale = activityCache.timeToStale(ActivityCache.Resource.EVENTS, candidate.username);
+            if (timeToStale != null && timeToStale.compareTo(properties.lead()) > 0 || refreshing.contains(key)) {
+                continue;
+            }
+            if (credits < 1) {
+                budgetSkips.increment();
+                return;
+            }
+            credits--;
+            refreshing.add(key);
+            prefetches.increment();
+            gitHubApiService.refreshUserEvents(candidate.username)
+                    .doFinally(signal -> refreshing.remove(key))
+                    .subscribe(pollInterval -> {
+                    }, error -> {
+                        failures.increment();
+                        log.debug("Prefetch of events for {} failed: {}", candidate.username, error.toString());
+                    });
+        }
+    }
+
+    /**
+     * Returns how many users are tracked as hot and how many refreshes were sent, failed or skipped for budget.
+     *
+     * @return {@code hotUsers}, {@code prefetchCount}, {@code failureCount}, {@code budgetSkipCount} and
+     * {@code sketchSizeInBytes}
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hotUsers", hotUsers.size());
+        stats.put("prefetchCount", prefetches.sum());
+        stats.put("failureCount", failures.sum());
+        stats.put("budgetSkipCount", budgetSkips.sum());
+        stats.put("sketchSizeInBytes", sketch.sizeInBytes());
+        return stats;
+    }
+
+    /**
+     * Admits the noted candidates, re-reads every tracked user's aged frequency, drops those that cooled down below
+     * {@code min-requests}, keeps the {@code max-hot-users} hottest and returns them, hottest first.
+     */
+    private List<Candidate> rankHotUsers() {
+        for (String key : candidates.keySet()) {
+            String username = candidates.remove(key);
+            if (username != null) {
+                hotUsers.putIfAbsent(key, new Candidate(username, 0));
+            }
+        }
+        hotUsers.values().forEach(candidate -> candidate.frequency = sketch.frequency(candidate.username));
+        hotUsers.values().removeIf(candidate -> candidate.frequency < properties.minRequests());
+        List<Candidate> ranked = new ArrayList<>(hotUsers.values());
+        ranked.sort(Comparator.comparingInt((Candidate candidate) -> candidate.frequency).reversed());
+        if (ranked.size() > properties.maxHotUsers()) {
+            ranked.subList(properties.maxHotUsers(), ranked.size())
+                    .forEach(coldest -> hotUsers.remove(key(coldest.username)));
+            ranked = new ArrayList<>(ranked.subList(0, properties.maxHotUsers()));
+        }
+        admissionFloor = ranked.size() < properties.maxHotUsers() ? 0 : ranked.get(ranked.size() - 1).frequency;
+        return ranked;
+    }
+
+    /**
+     * Accrues credits for the time since the last check from the share of the remaining budget, capped at what the
+     * lead window needs so an idle period does not turn into a burst.
+     */
+    private void addCredits() {
+        long now = clock.millis();
+        long elapsed = now - creditedAt;
+        creditedAt = now;
+        int remaining = tokenPool.remaining();
+        long untilReset = tokenPool.resetAtMillis() - now;
+        if (remaining < 0 || untilReset <= 0) {
+            return;
+        }
+        double perMilli = properties.budgetShare() * remaining / untilReset;
+        double cap = Math.max(1, perMilli * properties.lead().toMillis());
+        credits = Math.min(cap, credits + perMilli * elapsed);
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A tracked user and their estimated frequency as of the last check. Only touched by {@link #prefetchDue}.
+     */
+    private static final class Candidate {
+        private final String username;
+        private int frequency;
+
+        private Candidate(String username, int frequency) {
+            this.username = username;
+            this.frequency = frequency;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.TokenPool;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.WatchListProperties;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the events of a configured watch list of users warm in {@link ActivityCache} (and the event store, when
+ * enabled) by polling GitHub in the background, so reads for watched users are served from cache once their first
+ * poll has completed.
+ * <p>
+ * Watched users' entries are {@linkplain ActivityCache#pin pinned}: they are held outside
+ * {@code github.cache.events.max-bytes} and cannot be evicted by other traffic, at about 600 KB of heap per user with
+ * GitHub's full 300-event window. Only as many users as fit in {@code github.watch.max-pinned-bytes} at that size are
+ * pinned (the first ones on the list); the rest are still polled, which keeps the event store and conditional cache
+ * current, but their cached entries compete for the regular budget. Reads still wait for GitHub before a user's first
+ * poll completes and once polls have failed for longer than {@code github.cache.events.hard-ttl}.
+ * </p>
+ * <p>
+ * Each user has one slot in a queue ordered by due time. Initial due times are spread evenly over
+ * {@code github.watch.interval}, so a list of {@code n} users produces a steady {@code n / interval} polls per second
+ * rather than bursts. A timer releases due slots every {@value #TICK_MILLIS} ms into a single reactive pipeline that
+ * runs at most {@code github.watch.max-concurrency} polls at once; no thread is held per user.
+ * </p>
+ * <p>A poll is a {@link GitHubApiService#refreshUserEvents} call: a conditional, incremental request. Unchanged users
+ * are answered with a {@code 304} that GitHub does not charge and the rate-limit scheduler does not pace, but every
+ * user with new activity costs a paid call. The list is therefore bounded by how many users change per hour rather
+ * than by its length: at start, a warning is logged if polling every user with new activity would exceed
+ * {@link TokenPool#hourlyLimit()}. The user's next poll is due one interval after the previous due time, or after GitHub's
+ * {@code X-Poll-Interval} if that is longer. A slot that falls more than an interval behind (e.g. while rate-limited)
+ * is rescheduled at a random point of the next interval, which spreads a backlog out again instead of releasing it
+ * at once. A user is never polled twice concurrently.</p>
+ * <p><strong>Configuration:</strong> see {@link WatchListProperties}.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class WatchListPoller implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchListPoller.class);
+
+    private static final long TICK_MILLIS = 100;
+
+    /** Most events GitHub returns for a user (its 90-day / 300-event window), used to size pinned entries. */
+    private static final int GITHUB_EVENT_WINDOW = 300;
+
+    private final GitHubApiService gitHubApiService;
+    private final ActivityCache activityCache;
+    private final TokenPool tokenPool;
+    private final WatchListProperties properties;
+    private final Ticker ticker;
+    private final PriorityQueue<Slot> queue = new PriorityQueue<>(Comparator.comparingLong(slot -> slot.dueAt));
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private Sinks.Many<Slot> released;
+    private Disposable timer;
+    private volatile Disposable pipeline;
+    private volatile List<String> watchedUsers = List.of();
+    private volatile List<String> pinnedUsers = List.of();
+
+    @Autowired
+    public WatchListPoller(GitHubApiService gitHubApiService, ActivityCache activityCache, TokenPool tokenPool,
+                           WatchListProperties properties) {
+        this(gitHubApiService, activityCache, tokenPool, properties, Ticker.systemTicker());
+    }
+
+    /**
+     * Creates a poller reading time from the given ticker (for tests).
+     */
+    public WatchListPoller(GitHubApiService gitHubApiService, ActivityCache activityCache, TokenPool tokenPool,
+                           WatchListProperties properties, Ticker ticker) {
+        this.gitHubApiService = gitHubApiService;
+        this.activityCache = activityCache;
+        this.tokenPool = tokenPool;
+        this.properties = properties;
+        this.ticker = ticker;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnReady() {
+        if (properties.enabled()) {
+            start();
+        }
+    }
+
+    /**
+     * Loads the watch list and starts polling; does nothing if already running.
+     *
+     * @throws UncheckedIOException if {@code github.watch.users-file} cannot be read
+     */
+    public synchronized void start() {
+        if (pipeline != null) {
+            return;
+        }
+        List<String> users = loadWatchList();
+        pinnedUsers = pin(users);
+        warnIfOverBudget(users.size());
+        long now = ticker.read();
+        long interval = properties.interval().toNanos();
+        synchronized (queue) {
+            released = Sinks.many().unicast().onBackpressureBuffer();
+            for (int i = 0; i < users.size(); i++) {
+                queue.add(new Slot(users.get(i), now + interval * i / users.size()));
+            }
+        }
+        watchedUsers = users;
+        pipeline = released.asFlux()
+                .flatMap(this::poll, Math.max(1, properties.maxConcurrency()))
+                .subscribe();
+        timer = Flux.interval(Duration.ofMillis(TICK_MILLIS))
+                .subscribe(tick -> releaseDue());
+        log.info("Watching {} users, polling each every {}", users.size(), properties.interval());
+    }
+
+    /**
+     * Stops polling and unpins the watched users' entries; polls in flight are cancelled.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (pipeline == null) {
+            return;
+        }
+        timer.dispose();
+        pipeline.dispose();
+        timer = null;
+        pipeline = null;
+        synchronized (queue) {
+            queue.clear();
+        }
+        pinnedUsers.forEach(username -> activityCache.unpin(ActivityCache.Resource.EVENTS, username));
+        pinnedUsers = List.of();
+        watchedUsers = List.of();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("github.watch.users", this, poller -> poller.watchedUsers.size())
+                .description("Users on the watch list")
+                .register(registry);
+        Gauge.builder("github.watch.pinned", this, poller -> poller.pinnedUsers.size())
+                .description("Watched users whose cached events are pinned outside the cache budget")
+                .register(registry);
+        Gauge.builder("github.watch.lag", this, poller -> poller.lagNanos() / 1e9)
+                .description("How late the most overdue queued poll is")
+                .baseUnit("seconds")
+                .register(registry);
+        FunctionCounter.builder("github.watch.polls", polls, LongAdder::sum)
+                .description("Background polls completed")
+                .register(registry);
+        FunctionCounter.builder("github.watch.failures", failures, LongAdder::sum)
+                .description("Background polls that failed and were rescheduled")
+                .register(registry);
+    }
+
+    /**
+     * Moves every slot that is due into the poll pipeline. Called by the timer; visible for tests.
+     */
+    void releaseDue() {
+        long now = ticker.read();
+        synchronized (queue) {
+            // Emitting under the lock also serializes emissions into the sink
+            while (!queue.isEmpty() && queue.peek().dueAt <= now) {
+                released.tryEmitNext(queue.poll());
+            }
+        }
+    }
+
+    private Mono<Void> poll(Slot slot) {
+        return gitHubApiService.refreshUserEvents(slot.username)
+                .doOnNext(pollInterval -> slot.pollInterval = pollInterval)
+                .doOnSuccess(pollInterval -> polls.increment())
+                .onErrorResume(e -> {
+                    failures.increment();
+                    log.debug("Background poll for {} failed: {}", slot.username, e.toString());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> reschedule(slot))
+                .then();
+    }
+
+    private void reschedule(Slot slot) {
+        long interval = Math.max(properties.interval().toNanos(),
+                slot.pollInterval != null ? slot.pollInterval.toNanos() : 0);
+        long now = ticker.read();
+        long next = slot.dueAt + interval;
+        if (next <= now) {
+            next = now + 1 + ThreadLocalRandom.current().nextLong(Math.max(1, interval));
+        }
+        slot.dueAt = next;
+        synchronized (queue) {
+            if (pipeline != null) {
+                queue.add(slot);
+            }
+        }
+    }
+
+    /**
+     * Pins as many users, in list order, as fit in {@code github.watch.max-pinned-bytes} with a full event window.
+     */
+    private List<String> pin(List<String> users) {
+        long bytesPerUser = (long) GITHUB_EVENT_WINDOW * ActivityCache.Resource.EVENTS.estimatedBytesPerItem();
+        int pinnable = (int) Math.min(users.size(), properties.maxPinnedBytes().toBytes() / bytesPerUser);
+        List<String> pinned = users.subList(0, pinnable);
+        pinned.forEach(username -> activityCache.pin(ActivityCache.Resource.EVENTS, username));
+        if (pinnable < users.size()) {
+            log.warn("Pinning the cached events of only the first {} of {} watched users: at about {} KB each, more "
+                            + "would exceed github.watch.max-pinned-bytes={}; the rest are polled but may be evicted",
+                    pinnable, users.size(), bytesPerUser / 1024, properties.maxPinnedBytes());
+        }
+        return List.copyOf(pinned);
+    }
+
+    /**
+     * Logs a warning if polling every watched user with new activity would cost more than the token pool may spend.
+     */
+    private void warnIfOverBudget(int users) {
+        double pollsPerHour = users * 3600.0 / Math.max(1, properties.interval().toSeconds());
+        if (pollsPerHour > tokenPool.hourlyLimit()) {
+            log.warn("Polling {} users every {} costs up to {} calls per hour when every user has new activity, more "
+                            + "than the {} the token pool allows; unchanged users are answered with free 304s, but "
+                            + "polls of changed users beyond the budget will be delayed or shed",
+                    users, properties.interval(), Math.round(pollsPerHour), tokenPool.hourlyLimit());
+        }
+    }
+
+    private long lagNanos() {
+        synchronized (queue) {
+            return queue.isEmpty() ? 0 : Math.max(0, ticker.read() - queue.peek().dueAt);
+        }
+    }
+
+    /**
+     * Returns the configured users followed by those in the users file, without duplicates (case-insensitive).
+     */
+    private List<String> loadWatchList() {
+        List<String> names = new ArrayList<>(properties.users());
+        if (properties.usersFile() != null) {
+            try {
+                for (String line : Files.readAllLines(properties.usersFile())) {
+                    int comment = line.indexOf('#');
+                    names.add(comment >= 0 ? line.substring(0, comment) : line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read watch list " + properties.usersFile(), e);
+            }
+        }
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String name : names) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                unique.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), trimmed);
+            }
+        }
+        return List.copyOf(unique.values());
+    }
+
+    /**
+     * One watched user's place in the queue. Only touched by one poll at a time.
+     */
+    private static final class Slot {
+        private final String username;
+        private volatile long dueAt;
+        private volatile Duration pollInterval;
+
+        private Slot(String username, long dueAt) {
+            this.username = username;
+            this.dueAt = dueAt;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.store;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.Repo;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.EventPayload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary encoding of one stored event.
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * int    body length (0 marks the end of the log)
+ * int    CRC-32C of the body
+ * body:
+ *   long   event id
+ *   long   created_at as epoch seconds, or Long.MIN_VALUE if absent
+ *   string username the event was fetched for
+ *   string type
+ *   string repo name
+ *   bytes  payload, Smile-encoded as its typed payload class
+ * </pre>
+ * <p>Strings are a {@code short} length followed by UTF-8 bytes; byte arrays an {@code int} length followed by the
+ * bytes. A length of {@code -1} encodes {@code null}. Only the fields the model binds are stored, so a record is a
+ * small fraction of the JSON GitHub returned for it.</p>
+ * <p><strong>Thread Safety:</strong> Stateless apart from the thread-safe Smile mapper.</p>
+ */
+final class EventRecordCodec {
+
+    /** Bytes preceding the body: length and checksum. */
+    static final int HEADER_BYTES = 8;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final ObjectMapper smile = SmileMapper.builder()
+            .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    /**
+     * Encodes an event as a complete record, header included.
+     *
+     * @param username the user the event was fetched for
+     * @param event    the event; must have a {@linkplain GitHubEvent#getNumericId() numeric id}
+     * @return the record bytes
+     */
+    byte[] encode(String username, GitHubEvent event) {
+        byte[] user = utf8(username);
+        byte[] type = utf8(event.getType());
+        byte[] repo = utf8(event.getRepo() != null ? event.getRepo().getName() : null);
+        byte[] payload = payload(event);
+        int bodyLength = 2 * Long.BYTES + stringBytes(user) + stringBytes(type) + stringBytes(repo)
+                + Integer.BYTES + (payload != null ? payload.length : 0);
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + bodyLength);
+        record.putInt(bodyLength).putInt(0);
+        Instant createdAt = event.getCreatedAtInstant();
+        record.putLong(event.getNumericId()).putLong(createdAt != null ? createdAt.getEpochSecond() : NO_TIMESTAMP);
+        putString(record, user);
+        putString(record, type);
+        putString(record, repo);
+        if (payload != null) {
+            record.putInt(payload.length).put(payload);
+        } else {
+            record.putInt(-1);
+        }
+        record.putInt(Integer.BYTES, crc(record.slice(HEADER_BYTES, bodyLength)));
+        return record.array();
+    }
+
+    /**
+     * Returns the body length of the record at {@code offset} if it is complete and its checksum matches.
+     *
+     * @param buffer the segment contents
+     * @param offset record start
+     * @param limit  end of the readable region
+     * @return the body length, or {@code -1} if there is no valid record at {@code offset}
+     */
+    int validate(ByteBuffer buffer, int offset, int limit) {
+        if (offset + HEADER_BYTES > limit) {
+            return -1;
+        }
+        int bodyLength = buffer.getInt(offset);
+        if (bodyLength <= 0 || bodyLength > limit - offset - HEADER_BYTES) {
+            return -1;
+        }
+        int crc = crc(buffer.slice(offset + HEADER_BYTES, bodyLength));
+        return crc == buffer.getInt(offset + Integer.BYTES) ? bodyLength : -1;
+    }
+
+    /**
+     * Reads the event id of the record at {@code offset}.
+     */
+    long readId(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + HEADER_BYTES);
+    }
+
+    /**
+     * Reads the username of the record at {@code offset}.
+     */
+    String readUsername(ByteBuffer buffer, int offset) {
+        ByteBuffer body = buffer.duplicate().position(offset + HEADER_BYTES + 2 * Long.BYTES);
+        return getString(body);
+    }
+
+    /**
+     * Decodes the record at {@code offset} into an event.
+     *
+     * @param buffer the segment contents
+     * @param offset record start
+     * @return the event, with {@code id}, {@code type}, {@code repo}, {@code payload} and {@code created_at}
+     */
+    GitHubEvent decode(ByteBuffer buffer, int offset) {
+        ByteBuffer body = buffer.duplicate().position(offset + HEADER_BYTES);
+        long id = body.getLong();
+        long createdAt = body.getLong();
+        getString(body); // username
+        String type = getString(body);
+        String repo = getString(body);
+        int payloadLength = body.getInt();
+        EventPayload payload = null;
+        if (payloadLength >= 0) {
+            byte[] bytes = new byte[payloadLength];
+            body.get(bytes);
+            try {
+                payload = smile.readValue(bytes, EventType.fromApiName(type).getPayloadType());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Corrupt payload in event " + id, e);
+            }
+        }
+        String timestamp = createdAt != NO_TIMESTAMP
+                ? DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(createdAt))
+                : null;
+        GitHubEvent event = new GitHubEvent(type, repo != null ? new Repo(repo) : null, payload, timestamp);
+        event.setId(Long.toString(id));
+        return event;
+    }
+
+    private byte[] payload(GitHubEvent event) {
+        if (event.getPayload() == null) {
+            return null;
+        }
+        try {
+            return smile.writeValueAsBytes(event.getPayload());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot encode payload of event " + event.getId(), e);
+        }
+    }
+
+    private static int crc(ByteBuffer body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("String too long to store: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int stringBytes(byte[] utf8) {
+        return Short.BYTES + (utf8 != null ? utf8.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] utf8) {
+        if (utf8 == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) utf8.length).put(utf8);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,310 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.store;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.EventStoreProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Append-only on-disk log of every GitHub event fetched, kept beyond the ~90 days / 300 events the Events API
+ * returns.
+ * <p><strong>Layout:</strong> The log is a sequence of fixed-size segment files ({@code 00000000.log},
+ * {@code 00000001.log}, ...) in {@code github.store.directory}. Each is preallocated to {@code github.store.segment-size}
+ * and memory-mapped whole; events are appended to the last one as compact binary records (see
+ * {@link EventRecordCodec}) and a new segment is started when a record no longer fits.</p>
+ * <p><strong>Index:</strong> Each user has an in-memory {@link UserIndex} of event ids and record positions, rebuilt
+ * by scanning the segments at startup. Events are deduplicated by id per user, so refetching overlapping pages
+ * stores nothing twice. Events without a numeric id are not stored.</p>
+ * <p><strong>Durability:</strong> Records reach the OS page cache as soon as they are appended, so they survive a
+ * crash of the service; they are forced to disk when the store closes. A record torn by a machine crash fails its
+ * checksum and is discarded, together with anything after it in that segment, on the next startup.</p>
+ * <p>Disabled by default ({@code github.store.enabled=false}); a disabled store opens no files and stores nothing.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use. Appends are serialized; reads run concurrently with
+ * appends and with each other.</p>
+ *
+ * @since 1.0
+ */
+@Component
+public class EventStore implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStore.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final EventRecordCodec codec = new EventRecordCodec();
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<String, UserIndex> indexes = new ConcurrentHashMap<>();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxEventsPerRead;
+    private int nextFileIndex;
+
+    @Autowired
+    public EventStore(EventStoreProperties properties) {
+        this.enabled = properties.enabled();
+        this.directory = properties.directory();
+        this.maxEventsPerRead = properties.maxEventsPerRead();
+        long size = properties.segmentSize().toBytes();
+        if (size < 1024 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("github.store.segment-size must be between 1KB and 2GB: " + size);
+        }
+        this.segmentSize = (int) size;
+        if (enabled) {
+            try {
+                open();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot open event store in " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the store is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stores the events not stored yet for a user.
+     *
+     * @param username GitHub username (case-insensitive)
+     * @param fetched  events as returned by GitHub, newest first
+     * @return the number of events newly stored
+     */
+    public synchronized int append(String username, List<GitHubEvent> fetched) {
+        if (!enabled) {
+            return 0;
+        }
+        String key = key(username);
+        UserIndex index = indexes.computeIfAbsent(key, k -> new UserIndex());
+        int added = 0;
+        // Oldest first, so the log is chronological and index insertions are appends
+        for (int i = fetched.size() - 1; i >= 0; i--) {
+            GitHubEvent event = fetched.get(i);
+            long id = event.getNumericId();
+            if (id < 0) {
+                continue;
+            }
+            boolean known;
+            synchronized (index) {
+                known = index.contains(id);
+            }
+            if (known) {
+                duplicates.increment();
+                continue;
+            }
+            long position = write(codec.encode(key, event));
+            synchronized (index) {
+                index.add(id, position);
+            }
+            added++;
+        }
+        events.add(added);
+        appended.add(added);
+        return added;
+    }
+
+    /**
+     * Returns a user's most recent stored events, up to {@code github.store.max-events-per-read}.
+     *
+     * @param username GitHub username (case-insensitive)
+     * @return the events, newest first; empty if none are stored or the store is disabled
+     */
+    public List<GitHubEvent> read(String username) {
+        UserIndex index = indexes.get(key(username));
+        if (index == null) {
+            return List.of();
+        }
+        long[] positions;
+        synchronized (index) {
+            positions = index.newest(maxEventsPerRead);
+        }
+        List<GitHubEvent> result = new ArrayList<>(positions.length);
+        for (long position : positions) {
+            Segment segment = segments.get((int) (position >>> 32));
+            result.add(codec.decode(segment.reader(), (int) position));
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether any events are stored for a user.
+     */
+    public boolean contains(String username) {
+        UserIndex index = indexes.get(key(username));
+        if (index == null) {
+            return false;
+        }
+        synchronized (index) {
+            return index.size() > 0;
+        }
+    }
+
+    /**
+     * Returns the highest event id stored for a user.
+     *
+     * @param username GitHub username (case-insensitive)
+     * @return the id, or {@code -1} if no events are stored
+     */
+    public long highestId(String username) {
+        UserIndex index = indexes.get(key(username));
+        if (index == null) {
+            return -1;
+        }
+        synchronized (index) {
+            return index.highestId();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        Gauge.builder("github.store.events", events, LongAdder::sum)
+                .description("Events held in the on-disk store")
+                .register(registry);
+        Gauge.builder("github.store.users", indexes, Map::size)
+                .description("Users with events in the on-disk store")
+                .register(registry);
+        Gauge.builder("github.store.segments", segments, List::size)
+                .description("Segment files of the on-disk store")
+                .register(registry);
+        Gauge.builder("github.store.size", segments, s -> s.stream().mapToLong(Segment::size).sum())
+                .description("Bytes of records written to the on-disk store")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("github.store.appended", appended, LongAdder::sum)
+                .description("Events newly written to the on-disk store")
+                .register(registry);
+        FunctionCounter.builder("github.store.duplicates", duplicates, LongAdder::sum)
+                .description("Fetched events skipped because they were already stored")
+                .register(registry);
+    }
+
+    /**
+     * Forces appended records to disk and unmaps the segments.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close event store segment {}", segment.file(), e);
+            }
+        }
+    }
+
+    /**
+     * Maps the existing segments in order and rebuilds the per-user indexes from their records.
+     */
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            Segment segment = Segment.open(segments.size(), file, segmentSize);
+            ByteBuffer reader = segment.reader();
+            long segmentBits = (long) segment.number() << 32;
+            boolean damaged = segment.recover(codec, offset -> {
+                long id = codec.readId(reader, offset);
+                String username = codec.readUsername(reader, offset);
+                if (indexes.computeIfAbsent(username, k -> new UserIndex()).add(id, segmentBits | offset)) {
+                    events.increment();
+                }
+            });
+            if (damaged) {
+                log.warn("Discarded a damaged record and everything after it in event store segment {}", file);
+            }
+            segments.add(segment);
+            nextFileIndex = Math.max(nextFileIndex, fileIndex(file) + 1);
+        }
+        if (segments.isEmpty()) {
+            roll();
+        }
+        log.info("Opened event store in {}: {} events of {} users in {} segments",
+                directory, events.sum(), indexes.size(), segments.size());
+    }
+
+    /**
+     * Appends a record to the last segment, starting a new one if it does not fit.
+     *
+     * @return the record's position: segment number in the high 32 bits, offset in the low 32 bits
+     */
+    private long write(byte[] record) {
+        Segment segment = segments.get(segments.size() - 1);
+        int offset = segment.append(record);
+        if (offset < 0) {
+            if (record.length > segmentSize) {
+                throw new IllegalArgumentException("Event record of " + record.length
+                        + " bytes exceeds github.store.segment-size");
+            }
+            segment = roll();
+            offset = segment.append(record);
+        }
+        return ((long) segment.number() << 32) | offset;
+    }
+
+    /**
+     * Starts a new segment. Its file is named after the highest index on disk rather than the segment count, so a
+     * segment file missing from the sequence cannot make a new segment reopen, and overwrite, an existing one.
+     */
+    private Segment roll() {
+        Path file = directory.resolve(String.format(Locale.ROOT, "%08d%s", nextFileIndex, SEGMENT_SUFFIX));
+        try {
+            Segment segment = Segment.open(segments.size(), file, segmentSize);
+            segments.add(segment);
+            nextFileIndex++;
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create event store segment " + file, e);
+        }
+    }
+
+    /**
+     * Parses the index a segment file is named after, or returns {@code -1} for a name this store did not create.
+     */
+    private static int fileIndex(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One fixed-size file of the event log, preallocated and memory-mapped whole.
+ * <p>Records are appended back to back from offset 0; the zero-filled remainder of the file marks the end of the log,
+ * so no separate length or footer is kept. Reads go straight to the mapping and never copy more than the record
+ * being decoded.</p>
+ * <p><strong>Thread Safety:</strong> {@link #append} must be called by one writer at a time. Readers may read any
+ * range below an offset they learned from the writer through a happens-before edge (the store's index lock).
+ * {@link #size} may be read from any thread: the write offset is volatile and published after the record's bytes.</p>
+ */
+final class Segment implements Closeable {
+
+    private final int number;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private volatile int end;
+
+    private Segment(int number, Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.number = number;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Opens or creates the segment file and maps it.
+     *
+     * @param number position of the segment in the store, encoded in record positions
+     * @param file   segment path
+     * @param size   size of a new segment; existing files keep their size
+     * @return the segment, positioned at offset 0 until {@link #recover} is called
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static Segment open(int number, Path file, int size) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long length = channel.size() > 0 ? channel.size() : size;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            return new Segment(number, file, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Scans the segment from the start, reporting each intact record, and positions the write offset after the
+     * last one.
+     * <p>The scan stops at the end marker or at the first record that is incomplete or fails its checksum — the
+     * trace of a write torn by a crash. Anything from there on is zeroed so later appends start from a clean
+     * end marker.</p>
+     *
+     * @param codec   record codec
+     * @param visitor receives the offset of every intact record, in order
+     * @return {@code true} if a damaged tail was discarded
+     */
+    boolean recover(EventRecordCodec codec, RecordVisitor visitor) {
+        int limit = buffer.capacity();
+        int offset = 0;
+        int bodyLength;
+        while ((bodyLength = codec.validate(buffer, offset, limit)) > 0) {
+            visitor.visit(offset);
+            offset += EventRecordCodec.HEADER_BYTES + bodyLength;
+        }
+        end = offset;
+        boolean damaged = offset + Integer.BYTES <= limit && buffer.getInt(offset) != 0;
+        if (damaged) {
+            for (int i = offset; i < limit; i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+        return damaged;
+    }
+
+    /**
+     * Copies a record to the end of the segment.
+     *
+     * @param record a complete record, header included
+     * @return the record's offset, or {@code -1} if it does not fit
+     */
+    int append(byte[] record) {
+        if (record.length > buffer.capacity() - end) {
+            return -1;
+        }
+        int offset = end;
+        buffer.put(offset, record);
+        end += record.length;
+        return offset;
+    }
+
+    /**
+     * Returns a view of the mapping for reading; positions and limits of the view are independent of the writer.
+     */
+    ByteBuffer reader() {
+        return buffer.duplicate();
+    }
+
+    int number() {
+        return number;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /** Bytes of records written so far. */
+    int size() {
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Receives the offsets of records found by {@link #recover}.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(int offset);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.store;
+
+import java.util.Arrays;
+
+/**
+ * Positions of one user's stored events, sorted by event id.
+ * <p>Two parallel primitive arrays keep the index at 16 bytes per event with no per-event objects. GitHub assigns
+ * ids in increasing order, so new events almost always land at the end and insertion is an amortized O(1) append;
+ * out-of-order ids are inserted in place. Looking an id up is a binary search, which is also how duplicates are
+ * rejected.</p>
+ * <p><strong>Thread Safety:</strong> Not thread-safe; {@link EventStore} guards each index with its monitor.</p>
+ */
+final class UserIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds an event unless its id is already indexed.
+     *
+     * @param id       event id
+     * @param position the record's position in the log
+     * @return {@code true} if added, {@code false} for a duplicate
+     */
+    boolean add(long id, long position) {
+        int index = size == 0 || id > ids[size - 1] ? size : Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0 && index < size) {
+            return false;
+        }
+        int insertAt = index >= 0 ? index : -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            positions = Arrays.copyOf(positions, size * 2);
+        }
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        System.arraycopy(positions, insertAt, positions, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        positions[insertAt] = position;
+        size++;
+        return true;
+    }
+
+    /**
+     * Returns whether an event id is indexed.
+     */
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Returns the positions of the newest events, newest first.
+     *
+     * @param limit maximum number of positions
+     * @return up to {@code limit} positions
+     */
+    long[] newest(int limit) {
+        int count = Math.min(limit, size);
+        long[] newest = new long[count];
+        for (int i = 0; i < count; i++) {
+            newest[i] = positions[size - 1 - i];
+        }
+        return newest;
+    }
+
+    /**
+     * Returns the highest indexed id, or {@code -1} if the index is empty.
+     */
+    long highestId() {
+        return size > 0 ? ids[size - 1] : -1;
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe Bloom filter for strings.
+ * <p>
+ * Answers "definitely not present" or "probably present" using a few bits per entry, independent of string length.
+ * Sized from the expected number of insertions and the target false-positive probability; inserting more than
+ * expected degrades the false-positive rate but never causes false negatives.
+ * </p>
+ * <p><strong>Hashing:</strong> {@link Hashing#hash}, split into two halves combined by double hashing.</p>
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+
+    /**
+     * Creates a filter sized for the given capacity and false-positive probability.
+     *
+     * @param expectedInsertions        number of distinct values expected to be inserted
+     * @param falsePositiveProbability  target false-positive probability, e.g. 0.001
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be in (0, 1): " + falsePositiveProbability);
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.numBits = words * 64L;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value the value to add
+     */
+    public void put(String value) {
+        long hash = Hashing.hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, numBits);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Returns {@code false} if the value was definitely never added, {@code true} if it probably was.
+     *
+     * @param value the value to test
+     * @return whether the value might be present
+     */
+    public boolean mightContain(String value) {
+        long hash = Hashing.hash(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long index = Math.floorMod(h1 + (long) i * h2, numBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Size of the filter in bytes (excluding object headers).
+     *
+     * @return bit array size in bytes
+     */
+    public long sizeInBytes() {
+        return numBits / 8;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Approximate, aging frequency counter for strings (a count-min sketch).
+ * <p>
+ * Each value is counted in one {@code int} counter per row of a {@value #DEPTH}-row table, and its estimate is the
+ * smallest of those counters, so estimates never undercount and only overcount when every row collides. Only the
+ * minimal counters are incremented (conservative update), which keeps collisions from inflating other values.
+ * Memory is fixed at {@code 16 * width} bytes no matter how many distinct values are counted.
+ * </p>
+ * <p><strong>Aging:</strong> after {@code 10 * width} increments every counter is halved, so frequencies reflect
+ * recent traffic and a value that stops being requested cools down within a few such periods (as in TinyLFU).</p>
+ * <p><strong>Hashing:</strong> {@link Hashing#hashIgnoreCase}, split into two halves combined by double hashing.</p>
+ * <p><strong>Thread Safety:</strong> Safe for concurrent use and lock-free: counters are updated with compare-and-set,
+ * so request threads never block each other. Under contention an increment may be counted in only some rows, and one
+ * racing with aging may escape the halving; both only make the estimate slightly less exact.</p>
+ */
+public class FrequencySketch {
+
+    private static final int DEPTH = 4;
+
+    private final AtomicIntegerArray counters;
+    private final int width;
+    private final int mask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * Creates a sketch sized to tell apart the frequencies of about {@code expectedHotValues} frequent values.
+     *
+     * @param expectedHotValues number of frequent values to be ranked
+     */
+    public FrequencySketch(int expectedHotValues) {
+        if (expectedHotValues <= 0 || expectedHotValues > 1 << 24) {
+            throw new IllegalArgumentException("expectedHotValues must be in (0, 2^24]: " + expectedHotValues);
+        }
+        this.width = Math.max(64, Integer.highestOneBit(expectedHotValues * 16 - 1) << 1);
+        this.mask = width - 1;
+        this.counters = new AtomicIntegerArray(DEPTH * width);
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Counts one occurrence of a value.
+     *
+     * @param value the value (case-insensitive)
+     * @return the value's estimated frequency, including this occurrence
+     */
+    public int increment(String value) {
+        long hash = Hashing.hashIgnoreCase(value);
+        int estimate = estimate(hash);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < DEPTH; row++) {
+            int index = row * width + ((h1 + row * h2) & mask);
+            if (estimate < Integer.MAX_VALUE) {
+                counters.compareAndSet(index, estimate, estimate + 1);
+            }
+        }
+        int added = additions.incrementAndGet();
+        // Only the thread that moves the count back down halves the counters
+        if (added >= sampleSize && additions.compareAndSet(added, added / 2)) {
+            halve();
+        }
+        return estimate + 1;
+    }
+
+    /**
+     * Returns the estimated frequency of a value.
+     *
+     * @param value the value (case-insensitive)
+     * @return an estimate that is never below the value's aged count
+     */
+    public int frequency(String value) {
+        return estimate(Hashing.hashIgnoreCase(value));
+    }
+
+    /**
+     * Size of the counter table in bytes (excluding object headers).
+     *
+     * @return table size in bytes
+     */
+    public long sizeInBytes() {
+        return (long) counters.length() * Integer.BYTES;
+    }
+
+    private int estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + ((h1 + row * h2) & mask)));
+        }
+        return estimate;
+    }
+
+    private void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, counter -> counter >>> 1);
+        }
+    }
+}
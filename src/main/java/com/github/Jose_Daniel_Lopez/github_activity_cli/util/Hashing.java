@@ -0,0 +1,66 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+/**
+ * Non-cryptographic 64-bit hashing shared by the probabilistic structures in this package.
+ * <p>
+ * Strings are hashed with 64-bit FNV-1a over their UTF-16 chars, which is cheap and allocation-free but leaves
+ * similar inputs with similar hashes; the result is therefore finalized with MurmurHash3's fmix64, which makes every
+ * output bit depend on every input bit. Callers that need several hash functions split the result into two 32-bit
+ * halves and combine them by double hashing (Kirsch–Mitzenmacher).
+ * </p>
+ * <p><strong>Thread Safety:</strong> Stateless.</p>
+ */
+public final class Hashing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private Hashing() {
+    }
+
+    /**
+     * Hashes a string.
+     *
+     * @param value the string to hash
+     * @return FNV-1a of the chars, finalized with {@link #fmix64}
+     */
+    public static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return fmix64(hash);
+    }
+
+    /**
+     * Hashes a string ignoring case, without allocating a lower-cased copy.
+     *
+     * @param value the string to hash
+     * @return the same hash for strings that differ only in case
+     */
+    public static long hashIgnoreCase(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= Character.toLowerCase(value.charAt(i));
+            hash *= FNV_PRIME;
+        }
+        return fmix64(hash);
+    }
+
+    /**
+     * MurmurHash3's 64-bit finalizer: a bijection that spreads sequential or otherwise structured values over all
+     * 64 bits.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    public static long fmix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
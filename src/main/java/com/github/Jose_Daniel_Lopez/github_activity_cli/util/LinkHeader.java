@@ -0,0 +1,39 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser for RFC 8288 {@code Link} headers as used by GitHub's paginated REST endpoints.
+ * <p><strong>Example:</strong><br>
+ * {@code <https://api.github.com/user/1/repos?page=2>; rel="next", <https://api.github.com/user/1/repos?page=5>; rel="last"}</p>
+ */
+public class LinkHeader {
+
+    private static final Pattern LINK = Pattern.compile("<([^>]*)>\\s*;\\s*rel=\"([^\"]*)\"");
+
+    private LinkHeader() {
+    }
+
+    /**
+     * Returns the target URL of the link with the given relation, or {@code null} if absent.
+     *
+     * @param header the raw {@code Link} header value (may be null)
+     * @param rel    the relation to look for (e.g., "next", "last")
+     * @return the link target, or {@code null}
+     */
+    public static String find(String header, String rel) {
+        if (header == null) {
+            return null;
+        }
+        Matcher matcher = LINK.matcher(header);
+        while (matcher.find()) {
+            for (String candidate : matcher.group(2).split("\\s+")) {
+                if (candidate.equals(rel)) {
+                    return matcher.group(1);
+                }
+            }
+        }
+        return null;
+    }
+}
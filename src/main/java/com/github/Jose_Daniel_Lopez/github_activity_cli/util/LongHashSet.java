@@ -0,0 +1,183 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive {@code long} values using open addressing with linear probing.
+ * <p>
+ * Values live directly in a single {@code long[]} table, at most 75% full, so an entry costs 11–21 bytes with no
+ * per-entry objects — against roughly 60–100 bytes for a {@code HashSet<String>} of numeric ids (entry node, boxed
+ * or string key, and table slot). Keys are spread with {@link Hashing#fmix64}, so sequential ids do not
+ * cluster.
+ * </p>
+ * <p>{@code 0} marks an empty slot; the value {@code 0} itself is tracked by a separate flag.</p>
+ * <p><strong>Thread Safety:</strong> Not thread-safe.</p>
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int mask;
+    private int resizeAt;
+    private int size;
+    private boolean containsZero;
+
+    /**
+     * Creates a set sized to hold {@code expectedSize} values without growing.
+     *
+     * @param expectedSize number of values expected to be added
+     */
+    public LongHashSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value to add
+     * @return {@code true} if the value was not present
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int slot = slot(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        if (++size > resizeAt) {
+            rehash(table.length * 2);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a value.
+     * <p>Entries displaced past the freed slot by linear probing are shifted back into it, so lookups never need
+     * tombstones.</p>
+     *
+     * @param value the value to remove
+     * @return {@code true} if the value was present
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int slot = slot(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                closeGap(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether a value has been added.
+     *
+     * @param value the value to test
+     * @return whether the set contains {@code value}
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int slot = slot(value);
+        while (table[slot] != 0) {
+            if (table[slot] == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Number of values in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all values, keeping the current table so it can be refilled without allocating.
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Size of the table in bytes (excluding object headers).
+     *
+     * @return table size in bytes
+     */
+    public long sizeInBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    private int slot(long value) {
+        return (int) Hashing.fmix64(value) & mask;
+    }
+
+    private void closeGap(int gap) {
+        for (int i = (gap + 1) & mask; table[i] != 0; i = (i + 1) & mask) {
+            // Move the entry back if its home slot does not lie cyclically between the gap and its current slot
+            if (((i - slot(table[i])) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                gap = i;
+            }
+        }
+        table[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        allocate(capacity);
+        for (long value : old) {
+            if (value != 0) {
+                int slot = slot(value);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / 0.75);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("expectedSize too large: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) Math.max(1, needed - 1)) << 1);
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ActivityCache activityCache;
+
+    @BeforeEach
+    void setUp() {
+        ActivityCacheProperties.ResourcePolicy policy = new ActivityCacheProperties.ResourcePolicy(
+                Duration.ofMinutes(1), Duration.ofMinutes(10), 1_000_000);
+        activityCache = new ActivityCache(new ActivityCacheProperties(policy, policy, policy, 3), nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("Should load once and then serve from cache")
+    void shouldLoadOnceAndServeFromCache() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat",
+                    () -> Mono.fromCallable(() -> "value-" + loads.incrementAndGet())).block();
+        }
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(2L, activityCache.stats().get("events").get("hitCount"));
+        assertEquals(1L, activityCache.stats().get("events").get("missCount"));
+    }
+
+    @Test
+    @DisplayName("Should not cache empty results")
+    void shouldNotCacheEmptyResults() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "ghost",
+                () -> Mono.fromRunnable(loads::incrementAndGet)).block();
+        activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "ghost",
+                () -> Mono.fromRunnable(loads::incrementAndGet)).block();
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache empty arrays, so a user without activity yet is loaded again")
+    void shouldNotCacheEmptyArrays() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Mono<String[]>> loader = () -> Mono.fromCallable(() -> loads.incrementAndGet() == 1
+                ? new String[0]
+                : new String[]{"PushEvent"});
+
+        // When
+        String[] first = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "newcomer", loader).block();
+        String[] second = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "newcomer", loader).block();
+        String[] third = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "newcomer", loader).block();
+
+        // Then
+        assertEquals(0, first.length);
+        assertArrayEquals(new String[]{"PushEvent"}, second);
+        assertSame(second, third);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should replay a streamed collection once it completed")
+    void shouldReplayStreamedCollection() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        List<String> first = activityCache.getOrLoadMany(ActivityCache.Resource.REPOSITORIES, "octocat",
+                () -> Flux.just("a", "b").doOnSubscribe(s -> loads.incrementAndGet())).collectList().block();
+        List<String> second = activityCache.<String>getOrLoadMany(ActivityCache.Resource.REPOSITORIES, "octocat",
+                () -> Flux.error(new IllegalStateException("should not be called"))).collectList().block();
+
+        // Then
+        assertEquals(List.of("a", "b"), first);
+        assertEquals(List.of("a", "b"), second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should pass through collections larger than the per-entry limit without caching them")
+    void shouldNotCacheOversizedCollections() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            List<Integer> items = activityCache.getOrLoadMany(ActivityCache.Resource.STARRED, "octocat",
+                    () -> Flux.range(1, 5).doOnSubscribe(s -> loads.incrementAndGet())).collectList().block();
+            assertEquals(5, items.size());
+        }
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(0L, activityCache.stats().get("starred").get("size"));
+    }
+
+    @Test
+    @DisplayName("Should serve stale value immediately and refresh it in the background after the soft TTL")
+    void shouldServeStaleWhileRevalidating() {
+        // Given
+        activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat", () -> Mono.just("v1")).block();
+        advance(Duration.ofMinutes(2));
+
+        // When
+        String stale = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat",
+                () -> Mono.just("v2")).block();
+        String refreshed = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat",
+                () -> Mono.just("v3")).block();
+
+        // Then
+        assertEquals("v1", stale);
+        assertEquals("v2", refreshed);
+        assertEquals(1L, activityCache.stats().get("events").get("staleHitCount"));
+    }
+
+    @Test
+    @DisplayName("Should keep serving stale value within the hard TTL when refresh fails")
+    void shouldServeStaleOnRefreshError() {
+        // Given
+        AtomicInteger refreshAttempts = new AtomicInteger();
+        Supplier<Mono<String>> failing = () -> Mono.defer(() -> {
+            refreshAttempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("403 rate limited"));
+        });
+        activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat", () -> Mono.just("v1")).block();
+        advance(Duration.ofMinutes(2));
+
+        // When
+        String first = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat", failing).block();
+        String second = activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat", failing).block();
+
+        // Then
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(1, refreshAttempts.get()); // retried only after another soft TTL
+        assertEquals(1L, activityCache.stats().get("events").get("refreshFailureCount"));
+    }
+
+    @Test
+    @DisplayName("Should back off for a soft TTL after a stale refresh that yields nothing to cache")
+    void shouldBackOffAfterEmptyRefresh() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Flux<String>> loader = () -> Flux.defer(() -> loads.incrementAndGet() == 1
+                ? Flux.just("a", "b")
+                : Flux.empty());
+        activityCache.getOrLoadMany(ActivityCache.Resource.STARRED, "octocat", loader).collectList().block();
+        advance(Duration.ofMinutes(2));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            activityCache.getOrLoadMany(ActivityCache.Resource.STARRED, "octocat", loader).collectList().block();
+        }
+        int loadsWithinSoftTtl = loads.get();
+        advance(Duration.ofMinutes(1));
+        List<String> stillStale = activityCache.getOrLoadMany(ActivityCache.Resource.STARRED, "octocat", loader)
+                .collectList()
+                .block();
+
+        // Then
+        assertEquals(2, loadsWithinSoftTtl); // the initial load and a single empty refresh
+        assertEquals(3, loads.get());
+        assertEquals(List.of("a", "b"), stillStale);
+    }
+
+    @Test
+    @DisplayName("Should stop serving stale value after the hard TTL")
+    void shouldNotServeBeyondHardTtl() {
+        // Given
+        activityCache.getOrLoad(ActivityCache.Resource.EVENTS, "octocat", () -> Mono.just("v1")).block();
+        advance(Duration.ofMinutes(11));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> activityCache.getOrLoad(ActivityCache.Resource.EVENTS,
+                "octocat", () -> Mono.<String>error(new IllegalStateException("502"))).block());
+    }
+
+    @Test
+    @DisplayName("Should keep pinned entries beyond the byte budget until the hard TTL")
+    void shouldKeepPinnedEntriesUntilHardTtl() {
+        // Given: 500 entries of 3 items × 2 KB weigh 3 MB against a budget of 1 MB
+        for (int i = 0; i < 500; i++) {
+            activityCache.pin(ActivityCache.Resource.EVENTS, "user-" + i);
+        }
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            activityCache.put(ActivityCache.Resource.EVENTS, "user-" + i, List.of(1, 2, 3));
+        }
+        Map<String, Object> pinned = activityCache.stats().get("events");
+        advance(Duration.ofMinutes(10));
+
+        // Then
+        assertEquals(500, pinned.get("pinnedSize"));
+        assertEquals(3_072_000L, pinned.get("pinnedWeightBytes"));
+        assertEquals(0L, pinned.get("evictionCount"));
+        for (int i = 0; i < 500; i++) {
+            assertNull(activityCache.peek(ActivityCache.Resource.EVENTS, "user-" + i));
+        }
+        assertEquals(0, activityCache.stats().get("events").get("pinnedSize"));
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalResponseCacheTest {
+
+    @Test
+    @DisplayName("Should retain the raw body, validators and links of a revalidatable response")
+    void shouldRetainRawBody() {
+        // Given
+        ConditionalResponseCache cache = new ConditionalResponseCache(1_000_000);
+        byte[] body = new byte[10_000];
+
+        // When
+        cache.put("/users/octocat/repos?per_page=100", eTag("\"abc\""), body, "/next", null);
+        cache.put("/users/octocat/starred?per_page=100", new HttpHeaders(), body, null, null);
+
+        // Then
+        ConditionalResponseCache.Entry entry = cache.get("/users/octocat/repos?per_page=100");
+        assertSame(body, entry.body());
+        assertEquals("/next", entry.next());
+        assertNull(cache.get("/users/octocat/starred?per_page=100"));
+        assertTrue(cache.sizeInBytes() >= 10_000 && cache.sizeInBytes() < 11_000, "size: " + cache.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("Should evict entries to stay within the byte budget")
+    void shouldStayWithinByteBudget() {
+        // Given
+        ConditionalResponseCache cache = new ConditionalResponseCache(100_000);
+
+        // When
+        for (int page = 1; page <= 50; page++) {
+            cache.put("/users/octocat/starred?per_page=100&page=" + page, eTag("\"" + page + "\""),
+                    new byte[10_000], null, null);
+        }
+
+        // Then
+        assertTrue(cache.sizeInBytes() <= 100_000, "size: " + cache.sizeInBytes());
+        assertTrue(cache.size() < 10, "entries: " + cache.size());
+    }
+
+    private static HttpHeaders eTag(String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(value);
+        return headers;
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InFlightRequestTableTest {
+
+    @Test
+    @DisplayName("Should fail joined callers of a hung request after the timeout and free its key")
+    void shouldTimeOutHungRequest() {
+        // Given
+        InFlightRequestTable table = new InFlightRequestTable(Duration.ofMillis(100));
+        AtomicInteger started = new AtomicInteger();
+        Mono<String> hung = table.join("/users/octocat/events", () -> {
+            started.incrementAndGet();
+            return Mono.never();
+        });
+
+        // When
+        Mono<Object> first = hung.map(value -> (Object) value).onErrorResume(Mono::just);
+        Mono<Object> second = hung.map(value -> (Object) value).onErrorResume(Mono::just);
+        Object[] results = Mono.zip(first, second).map(pair -> new Object[]{pair.getT1(), pair.getT2()}).block();
+        int inFlightAfterTimeout = table.size();
+        String retried = table.join("/users/octocat/events", () -> {
+            started.incrementAndGet();
+            return Mono.just("fresh");
+        }).block();
+
+        // Then
+        assertInstanceOf(TimeoutException.class, results[0]);
+        assertSame(results[0], results[1]);
+        assertEquals(0, inFlightAfterTimeout);
+        assertEquals("fresh", retried);
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    @DisplayName("Should cancel the request and free its key once every caller has cancelled")
+    void shouldFreeKeyWhenAllCallersCancel() {
+        // Given
+        InFlightRequestTable table = new InFlightRequestTable(Duration.ofSeconds(30));
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> request = table.join("/users/octocat/events",
+                () -> Mono.<String>never().doOnCancel(() -> cancelled.set(true)));
+        Disposable first = request.subscribe();
+        Disposable second = request.subscribe();
+
+        // When
+        first.dispose();
+        int inFlightWithOneCaller = table.size();
+        second.dispose();
+
+        // Then
+        assertEquals(1, inFlightWithOneCaller);
+        assertTrue(cancelled.get());
+        assertEquals(0, table.size());
+    }
+}
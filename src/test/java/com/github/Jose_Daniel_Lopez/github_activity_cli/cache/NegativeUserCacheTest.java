@@ -0,0 +1,64 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeUserCacheTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private NegativeUserCache negativeUserCache;
+
+    @BeforeEach
+    void setUp() {
+        negativeUserCache = new NegativeUserCache(Duration.ofMinutes(10), 1_000, 0.001, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("Should remember missing users case-insensitively")
+    void shouldRememberMissingUsers() {
+        // When
+        negativeUserCache.recordMissing("Ghost");
+
+        // Then
+        assertTrue(negativeUserCache.isKnownMissing("ghost"));
+        assertFalse(negativeUserCache.isKnownMissing("octocat"));
+        assertEquals(1L, negativeUserCache.stats().get("rejectionCount"));
+    }
+
+    @Test
+    @DisplayName("Should keep entries across one rotation and forget them after the TTL")
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        negativeUserCache.recordMissing("ghost");
+
+        // When & Then
+        advance(Duration.ofMinutes(6));
+        assertTrue(negativeUserCache.isKnownMissing("ghost"));
+        advance(Duration.ofMinutes(6));
+        assertFalse(negativeUserCache.isKnownMissing("ghost"));
+    }
+
+    @Test
+    @DisplayName("Should never reject anything when disabled")
+    void shouldBeNoOpWhenDisabled() {
+        // Given
+        NegativeUserCache disabled = new NegativeUserCache(Duration.ZERO, 1_000, 0.001, nanoTime::get);
+
+        // When
+        disabled.recordMissing("ghost");
+
+        // Then
+        assertFalse(disabled.isKnownMissing("ghost"));
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+}
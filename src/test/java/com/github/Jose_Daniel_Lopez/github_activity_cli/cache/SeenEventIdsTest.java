@@ -0,0 +1,96 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeenEventIdsTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private SeenEventIds seenEventIds;
+
+    @BeforeEach
+    void setUp() {
+        seenEventIds = new SeenEventIds(Duration.ofHours(1), 1_000, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("Should report each event once per user, case-insensitively")
+    void shouldReportEachEventOnce() {
+        // When
+        boolean first = seenEventIds.firstSighting("Octocat", 42);
+        boolean again = seenEventIds.firstSighting("octocat", 42);
+        boolean otherUser = seenEventIds.firstSighting("hubot", 42);
+
+        // Then
+        assertTrue(first);
+        assertFalse(again);
+        assertTrue(otherUser);
+        assertEquals(1L, seenEventIds.stats().get("duplicateCount"));
+        assertEquals(2, seenEventIds.stats().get("trackedCount"));
+    }
+
+    @Test
+    @DisplayName("Should remember events that keep reappearing and forget them a window after the last sighting")
+    void shouldExpireAfterWindow() {
+        // Given
+        seenEventIds.firstSighting("octocat", 42);
+
+        // When & Then
+        advance(Duration.ofMinutes(40));
+        assertFalse(seenEventIds.firstSighting("octocat", 42));
+        advance(Duration.ofMinutes(40));
+        assertFalse(seenEventIds.firstSighting("octocat", 42));
+        advance(Duration.ofMinutes(70));
+        assertTrue(seenEventIds.firstSighting("octocat", 42));
+    }
+
+    @Test
+    @DisplayName("Should bound memory by rotating early when a generation is full")
+    void shouldBoundTrackedIds() {
+        // When
+        for (long id = 0; id < 10_000; id++) {
+            seenEventIds.firstSighting("octocat", id);
+        }
+
+        // Then
+        assertTrue((int) seenEventIds.stats().get("trackedCount") <= 1_000);
+        assertTrue(seenEventIds.firstSighting("octocat", 0));
+    }
+
+    @Test
+    @DisplayName("Should treat every event as new when disabled")
+    void shouldBeNoOpWhenDisabled() {
+        // Given
+        SeenEventIds disabled = new SeenEventIds(Duration.ZERO, 1_000, nanoTime::get);
+
+        // When & Then
+        assertTrue(disabled.firstSighting("octocat", 42));
+        assertTrue(disabled.firstSighting("octocat", 42));
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("Should accept a forgotten event again")
+    void shouldForgetSighting() {
+        // Given
+        seenEventIds.firstSighting("octocat", 42);
+        seenEventIds.firstSighting("octocat", 43);
+
+        // When
+        seenEventIds.forget("Octocat", 42);
+
+        // Then
+        assertTrue(seenEventIds.firstSighting("octocat", 42));
+        assertFalse(seenEventIds.firstSighting("octocat", 43));
+    }
+}
@@ -0,0 +1,253 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final TokenPool tokenPool = new TokenPool(new String[0], clock);
+
+    @Test
+    @DisplayName("Should not pace calls before any budget is known")
+    void shouldNotPaceWithoutBudget() {
+        // Given
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 1, Duration.ZERO, clock);
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.OK, null, null, null);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+        }
+
+        // Then
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(0L, scheduler.stats().get("queuedCount"));
+    }
+
+    @Test
+    @DisplayName("Should shed calls locally once the budget is exhausted until reset")
+    void shouldShedWhenBudgetExhausted() {
+        // Given
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 20, Duration.ofSeconds(5), clock);
+        long reset = NOW.plus(Duration.ofMinutes(30)).getEpochSecond();
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.FORBIDDEN, "0", String.valueOf(reset), null);
+        assertThrows(WebClientResponseException.Forbidden.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+
+        // When
+        WebClientResponseException shed = assertThrows(WebClientResponseException.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, shed.getStatusCode());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1L, scheduler.stats().get("shedCount"));
+        assertEquals(0, scheduler.stats().get("remaining"));
+        assertEquals(1800L, scheduler.stats().get("blockedForSeconds"));
+    }
+
+    @Test
+    @DisplayName("Should honor Retry-After by shedding calls that would wait past the queue limit")
+    void shouldHonorRetryAfter() {
+        // Given
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 20, Duration.ofSeconds(5), clock);
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.TOO_MANY_REQUESTS, null, null, "60");
+        assertThrows(WebClientResponseException.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+
+        // When & Then
+        assertThrows(WebClientResponseException.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1L, scheduler.stats().get("shedCount"));
+    }
+
+    @Test
+    @DisplayName("Should spread the remaining budget over the reset window beyond the burst allowance")
+    void shouldPaceBeyondBurst() {
+        // Given: 10 calls left for 100 seconds -> one call every 10 seconds, burst of 2
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 2, Duration.ofSeconds(5), clock);
+        long reset = NOW.plus(Duration.ofSeconds(100)).getEpochSecond();
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.OK, "10", String.valueOf(reset), null);
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+
+        // When
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+
+        // Then: both budgeted calls used the burst, the next one would wait 10 seconds and is shed
+        assertThrows(WebClientResponseException.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(1L, scheduler.stats().get("shedCount"));
+    }
+
+    @Test
+    @DisplayName("Should not pace or charge conditional calls answered with 304")
+    void shouldNotChargeNotModifiedRevalidations() {
+        // Given: 10 calls left for 100 seconds -> one call every 10 seconds, burst of 2
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 2, Duration.ofSeconds(5), clock);
+        long reset = NOW.plus(Duration.ofSeconds(100)).getEpochSecond();
+        WebClient webClient = WebClient.builder()
+                .filter(scheduler)
+                .filter(tokenPool)
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    if (request.headers().getIfNoneMatch().contains("\"abc\"")) {
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header("X-RateLimit-Remaining", "10")
+                            .header("X-RateLimit-Reset", String.valueOf(reset))
+                            .build());
+                })
+                .build();
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+
+        // When
+        List<Mono<ResponseEntity<Void>>> revalidations = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            revalidations.add(webClient.get().uri("https://api.github.com/users/user-" + i + "/events")
+                    .ifNoneMatch("\"abc\"")
+                    .retrieve()
+                    .toBodilessEntity());
+        }
+        List<ResponseEntity<Void>> notModified = Flux.merge(revalidations).collectList().block();
+
+        // Then: no revalidation was shed, and the burst for paid calls is still intact
+        assertEquals(50, notModified.size());
+        assertTrue(notModified.stream().allMatch(response -> response.getStatusCode() == HttpStatus.NOT_MODIFIED));
+        assertEquals(0L, scheduler.stats().get("shedCount"));
+        assertEquals(10, scheduler.stats().get("remaining"));
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+        assertEquals(53, upstreamCalls.get());
+        assertEquals(0L, scheduler.stats().get("shedCount"));
+    }
+
+    @Test
+    @DisplayName("Should charge a conditional call that GitHub answered with a changed resource")
+    void shouldChargeChangedRevalidations() {
+        // Given: 10 calls left for 100 seconds -> one call every 10 seconds, burst of 2
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 2, Duration.ofSeconds(5), clock);
+        long reset = NOW.plus(Duration.ofSeconds(100)).getEpochSecond();
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.OK, "10", String.valueOf(reset), null);
+        webClient.get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            webClient.get().uri("https://api.github.com/users/octocat").ifNoneMatch("\"abc\"")
+                    .retrieve().toBodilessEntity().block();
+        }
+
+        // Then: the two charged revalidations used up the burst
+        assertThrows(WebClientResponseException.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+        assertEquals(1L, scheduler.stats().get("shedCount"));
+    }
+
+    @Test
+    @DisplayName("Should delay calls that fit within the queue limit")
+    void shouldQueueShortWaits() {
+        // Given: Retry-After of one second with a five second queue limit
+        TokenPool tokenPool = new TokenPool(new String[0], Clock.systemUTC());
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 20, Duration.ofSeconds(5), Clock.systemUTC());
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.TOO_MANY_REQUESTS, null, null, "1");
+        assertThrows(WebClientResponseException.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+
+        // When
+        assertThrows(WebClientResponseException.TooManyRequests.class, () -> webClient.get()
+                .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+
+        // Then
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(1L, scheduler.stats().get("queuedCount"));
+        assertEquals(0, scheduler.stats().get("queueDepth"));
+        assertTrue((Long) scheduler.stats().get("maxWaitMillis") > 0);
+    }
+
+    @Test
+    @DisplayName("Should publish the budget and shed calls as meters")
+    void shouldPublishMeters() {
+        // Given
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, true, 20, Duration.ofSeconds(5), clock);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        scheduler.bindTo(registry);
+        long reset = NOW.plus(Duration.ofMinutes(30)).getEpochSecond();
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.FORBIDDEN, "0", String.valueOf(reset), null);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            assertThrows(WebClientResponseException.class, () -> webClient.get()
+                    .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+        }
+
+        // Then
+        assertEquals(0.0, registry.get("github.rate-limit.remaining").gauge().value());
+        assertEquals(1800.0, registry.get("github.rate-limit.blocked").gauge().value());
+        assertEquals(1.0, registry.get("github.rate-limit.shed").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should pass calls through untouched when disabled")
+    void shouldPassThroughWhenDisabled() {
+        // Given
+        RateLimitScheduler scheduler = new RateLimitScheduler(tokenPool, false, 20, Duration.ZERO, clock);
+        long reset = NOW.plus(Duration.ofMinutes(30)).getEpochSecond();
+        WebClient webClient = webClient(scheduler, tokenPool, HttpStatus.FORBIDDEN, "0", String.valueOf(reset), null);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            assertThrows(WebClientResponseException.Forbidden.class, () -> webClient.get()
+                    .uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block());
+        }
+
+        // Then
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private WebClient webClient(RateLimitScheduler scheduler, TokenPool tokenPool, HttpStatus status,
+                                String remaining, String reset, String retryAfter) {
+        return WebClient.builder()
+                .filter(scheduler)
+                .filter(tokenPool)
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    ClientResponse.Builder response = ClientResponse.create(status);
+                    if (remaining != null) {
+                        response.header("X-RateLimit-Remaining", remaining);
+                    }
+                    if (reset != null) {
+                        response.header("X-RateLimit-Reset", reset);
+                    }
+                    if (retryAfter != null) {
+                        response.header("Retry-After", retryAfter);
+                    }
+                    return Mono.just(response.build());
+                })
+                .build();
+    }
+}
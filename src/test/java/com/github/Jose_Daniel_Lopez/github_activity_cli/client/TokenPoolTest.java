@@ -0,0 +1,129 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenPoolTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final long RESET = NOW.plus(Duration.ofMinutes(30)).getEpochSecond();
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final List<String> authorizations = new ArrayList<>();
+    private final Map<String, Integer> budgets = new HashMap<>();
+
+    @Test
+    @DisplayName("Should send calls unauthenticated when no tokens are configured")
+    void shouldSendAnonymousCallsWithoutTokens() {
+        // Given
+        TokenPool tokenPool = new TokenPool(new String[]{""}, clock);
+
+        // When
+        call(tokenPool);
+
+        // Then
+        assertEquals(List.of("none"), authorizations);
+        assertEquals("anonymous", tokenPool.stats().get(0).get("token"));
+    }
+
+    @Test
+    @DisplayName("Should route each call to the token with the most remaining budget")
+    void shouldRouteToTokenWithMostHeadroom() {
+        // Given
+        TokenPool tokenPool = new TokenPool(new String[]{"token-aaaa1111", "token-bbbb2222"}, clock);
+        budgets.put("Bearer token-aaaa1111", 100);
+        budgets.put("Bearer token-bbbb2222", 4000);
+        call(tokenPool);
+        call(tokenPool);
+        authorizations.clear();
+
+        // When
+        call(tokenPool);
+        call(tokenPool);
+
+        // Then
+        assertEquals(List.of("Bearer token-bbbb2222", "Bearer token-bbbb2222"), authorizations);
+        assertEquals(4100 - 4, tokenPool.remaining());
+        assertEquals("…2222", tokenPool.stats().get(1).get("token"));
+    }
+
+    @Test
+    @DisplayName("Should park an exhausted token until its reset and use the others")
+    void shouldParkExhaustedToken() {
+        // Given
+        TokenPool tokenPool = new TokenPool(new String[]{"token-aaaa1111", "token-bbbb2222"}, clock);
+        budgets.put("Bearer token-aaaa1111", 1);
+        budgets.put("Bearer token-bbbb2222", 1);
+
+        // When
+        call(tokenPool);
+        call(tokenPool);
+
+        // Then
+        assertEquals(0, tokenPool.remaining());
+        assertEquals(RESET * 1000, tokenPool.blockedUntilMillis());
+        assertEquals(1800L, tokenPool.stats().get(0).get("parkedForSeconds"));
+    }
+
+    @Test
+    @DisplayName("Should not block while at least one token is usable")
+    void shouldNotBlockWhileAnyTokenIsUsable() {
+        // Given
+        TokenPool tokenPool = new TokenPool(new String[]{"token-aaaa1111", "token-bbbb2222"}, clock);
+        budgets.put("Bearer token-aaaa1111", 1);
+        budgets.put("Bearer token-bbbb2222", 50);
+        call(tokenPool);
+        call(tokenPool);
+        authorizations.clear();
+
+        // When
+        call(tokenPool);
+
+        // Then
+        assertEquals(0, tokenPool.blockedUntilMillis());
+        assertEquals(List.of("Bearer token-bbbb2222"), authorizations);
+    }
+
+    /**
+     * Sends one call through the pool; the stub consumes one unit of the calling token's budget.
+     */
+    @Test
+    @DisplayName("Should report GitHub's primary hourly limit for the configured tokens")
+    void shouldReportHourlyLimit() {
+        // When & Then
+        assertEquals(60, new TokenPool(new String[0], clock).hourlyLimit());
+        assertEquals(10_000, new TokenPool(new String[]{"token-aaaa1111", "token-bbbb2222"}, clock).hourlyLimit());
+    }
+
+    private void call(TokenPool tokenPool) {
+        WebClient.builder()
+                .filter(tokenPool)
+                .exchangeFunction(request -> {
+                    String authorization = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+                    authorizations.add(authorization == null ? "none" : authorization);
+                    int remaining = budgets.merge(String.valueOf(authorization), -1, Integer::sum);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header("X-RateLimit-Remaining", String.valueOf(Math.max(0, remaining)))
+                            .header("X-RateLimit-Reset", String.valueOf(RESET))
+                            .build());
+                })
+                .build()
+                .get().uri("https://api.github.com/users/octocat").retrieve().toBodilessEntity().block();
+    }
+}
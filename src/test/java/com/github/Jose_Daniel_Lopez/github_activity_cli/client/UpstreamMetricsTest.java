@@ -0,0 +1,79 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UpstreamMetrics upstreamMetrics = new UpstreamMetrics(registry);
+
+    @Test
+    @DisplayName("Should time calls and count body bytes per resource and status")
+    void shouldTimeCallsPerResourceAndStatus() {
+        // Given
+        String body = "[{\"name\":\"a\"},{\"name\":\"b\"}]";
+        WebClient webClient = webClient(Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build()));
+
+        // When
+        List<Map> items = webClient.get().uri("https://api.github.com/users/octocat/repos?per_page=100")
+                .retrieve().bodyToFlux(Map.class).collectList().block();
+
+        // Then
+        assertEquals(2, items.size());
+        assertEquals(1, registry.get(UpstreamMetrics.REQUESTS).tags("resource", "repos", "status", "200").timer().count());
+        assertEquals(body.length(), registry.get(UpstreamMetrics.RESPONSE_SIZE).tag("resource", "repos").summary().totalAmount());
+        assertEquals(1, registry.get(UpstreamMetrics.DECODE).tag("resource", "repos").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count error statuses and failed connections separately")
+    void shouldCountErrorStatuses() {
+        // Given
+        WebClient notFound = webClient(Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+        WebClient unreachable = webClient(Mono.error(new IOException("Connection refused")));
+
+        // When
+        assertThrows(WebClientResponseException.NotFound.class, () -> notFound.get()
+                .uri("https://api.github.com/users/ghost/events").retrieve().toBodilessEntity().block());
+        assertThrows(RuntimeException.class, () -> unreachable.get()
+                .uri("https://api.github.com/users/octocat/events").retrieve().toBodilessEntity().block());
+
+        // Then
+        assertEquals(1, registry.get(UpstreamMetrics.REQUESTS).tags("resource", "events", "status", "404").timer().count());
+        assertEquals(1, registry.get(UpstreamMetrics.REQUESTS).tags("resource", "events", "status", "IO_ERROR").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should keep usernames out of the resource tag")
+    void shouldDeriveResourceWithoutUsername() {
+        assertEquals("starred", UpstreamMetrics.resource(URI.create("https://api.github.com/users/octocat/starred?page=3")));
+        assertEquals("events", UpstreamMetrics.resource(URI.create("https://ghe.example.com/api/v3/users/octocat/events")));
+        assertEquals("other", UpstreamMetrics.resource(URI.create("https://api.github.com/rate_limit")));
+    }
+
+    private WebClient webClient(Mono<ClientResponse> response) {
+        return WebClient.builder()
+                .filter(upstreamMetrics)
+                .exchangeFunction(request -> response)
+                .build();
+    }
+}
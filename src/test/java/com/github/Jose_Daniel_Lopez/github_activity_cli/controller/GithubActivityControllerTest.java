@@ -1,31 +1,50 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.controller;
 
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.NegativeUserCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.SeenEventIds;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.RateLimitScheduler;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ProcessingMetrics;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.Repo;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.service.GitHubApiService;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.service.EventProcessingService;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.service.HotUserPrefetcher;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.ActivitySummaryDto;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.PushEventDto;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.RepositoryDto;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.StarEventDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.ArrayList;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(GithubActivityController.class)
+@WebFluxTest(GithubActivityController.class)
+@Import({ProcessingMetrics.class, SimpleMeterRegistry.class})
 class GithubActivityControllerTest {
 
     @Autowired
-    private MockMvc mockMvc;
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @MockitoBean
     private GitHubApiService gitHubApiService;
@@ -33,12 +52,59 @@ class GithubActivityControllerTest {
     @MockitoBean
     private EventProcessingService eventProcessingService;
 
+    @MockitoBean
+    private ActivityCache activityCache;
+
+    @MockitoBean
+    private NegativeUserCache negativeUserCache;
+
+    @MockitoBean
+    private SeenEventIds seenEventIds;
+
+    @MockitoBean
+    private RateLimitScheduler rateLimitScheduler;
+
+    @MockitoBean
+    private HotUserPrefetcher hotUserPrefetcher;
+
     @Test
     @DisplayName("Should return OK for health check")
     void shouldReturnOkForHealthCheck() throws Exception {
-        mockMvc.perform(get("/api/health"))
-                .andExpect(status().isOk())
-                .andExpect(content().string("OK"));
+        webTestClient.get().uri("/api/health").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("Should expose activity cache statistics")
+    void shouldExposeActivityCacheStatistics() throws Exception {
+        // Given
+        when(activityCache.stats()).thenReturn(Map.of("events", Map.of("hitCount", 5L, "missCount", 1L)));
+        when(negativeUserCache.stats()).thenReturn(Map.of("rejectionCount", 7L));
+        when(hotUserPrefetcher.stats()).thenReturn(Map.of("hotUsers", 2));
+
+        // When & Then
+        webTestClient.get().uri("/api/cache/stats").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.events.hitCount").isEqualTo(5)
+                .jsonPath("$.events.missCount").isEqualTo(1)
+                .jsonPath("$.negativeUsers.rejectionCount").isEqualTo(7)
+                .jsonPath("$.prefetch.hotUsers").isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should expose rate-limit statistics")
+    void shouldExposeRateLimitStatistics() throws Exception {
+        // Given
+        when(rateLimitScheduler.stats()).thenReturn(Map.of("remaining", 42, "queueDepth", 3));
+
+        // When & Then
+        webTestClient.get().uri("/api/rate-limit/stats").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.remaining").isEqualTo(42)
+                .jsonPath("$.queueDepth").isEqualTo(3);
     }
 
     @Test
@@ -50,13 +116,14 @@ class GithubActivityControllerTest {
         GitHubEvent event2 = createMockEvent("WatchEvent", "user/repo2");
         GitHubEvent[] mockEvents = {event1, event2};
 
-        when(gitHubApiService.fetchUserEvents(username)).thenReturn(mockEvents);
+        when(gitHubApiService.fetchUserEvents(username)).thenReturn(Mono.just(mockEvents));
 
         // When & Then
-        mockMvc.perform(get("/api/activity/{username}", username))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+        webTestClient.get().uri("/api/activity/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").isArray()
+                .jsonPath("$.length()").isEqualTo(2);
     }
 
     @Test
@@ -64,12 +131,12 @@ class GithubActivityControllerTest {
     void shouldReturnMessageWhenUserHasNoActivity() throws Exception {
         // Given
         String username = "inactiveuser";
-        when(gitHubApiService.fetchUserEvents(username)).thenReturn(new GitHubEvent[0]);
+        when(gitHubApiService.fetchUserEvents(username)).thenReturn(Mono.just(new GitHubEvent[0]));
 
         // When & Then
-        mockMvc.perform(get("/api/activity/{username}", username))
-                .andExpect(status().isOk())
-                .andExpect(content().string("The specified user has no activity events."));
+        webTestClient.get().uri("/api/activity/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("The specified user has no activity events.");
     }
 
     @Test
@@ -79,12 +146,37 @@ class GithubActivityControllerTest {
         String username = "nonexistentuser";
         RuntimeException exception = new RuntimeException("User not found: " + username);
 
-        when(gitHubApiService.fetchUserEvents(username)).thenThrow(new RuntimeException("API Error"));
+        when(gitHubApiService.fetchUserEvents(username)).thenReturn(Mono.error(new RuntimeException("API Error")));
         when(gitHubApiService.handleGitHubApiException(any(), anyString())).thenReturn(exception);
 
         // When & Then
-        mockMvc.perform(get("/api/activity/{username}", username))
-                .andExpect(status().is5xxServerError());
+        webTestClient.get().uri("/api/activity/{username}", username).exchange()
+                .expectStatus().is5xxServerError();
+    }
+
+    @Test
+    @DisplayName("Should time filtering and mapping per endpoint")
+    void shouldTimeProcessingStagesPerEndpoint() throws Exception {
+        // Given
+        String username = "testuser";
+        GitHubEvent[] mockEvents = {createMockEvent("PushEvent", "user/repo1")};
+        List<GitHubEvent> pushEvents = List.of(mockEvents);
+        when(gitHubApiService.fetchUserEvents(username)).thenReturn(Mono.just(mockEvents));
+        when(eventProcessingService.filterEventsByType(any(), eq(EventType.PUSH))).thenReturn(pushEvents);
+        when(eventProcessingService.processPushEvents(pushEvents))
+                .thenReturn(List.of(new PushEventDto("repo1", "user", 2, "2025-09-22T10:30:00Z")));
+
+        // When
+        webTestClient.get().uri("/api/pushes/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1);
+
+        // Then
+        assertEquals(1, meterRegistry.get(ProcessingMetrics.PROCESSING)
+                .tags("endpoint", "pushes", "stage", "filter").timer().count());
+        assertEquals(1, meterRegistry.get(ProcessingMetrics.PROCESSING)
+                .tags("endpoint", "pushes", "stage", "process").timer().count());
     }
 
     @Test
@@ -92,20 +184,21 @@ class GithubActivityControllerTest {
     void shouldReturnStarEventsForValidUser() throws Exception {
         // Given
         String username = "testuser";
-        Object[] mockStarredRepos = {new Object(), new Object()};
+        Flux<Object> mockStarredRepos = Flux.just(new Object(), new Object());
         List<StarEventDto> mockStarEvents = List.of(
                 new StarEventDto("repo1", "owner1", "2025-09-22T10:00:00Z"),
                 new StarEventDto("repo2", "owner2", "2025-09-22T11:00:00Z")
         );
 
         when(gitHubApiService.fetchUserStarredRepos(username)).thenReturn(mockStarredRepos);
-        when(eventProcessingService.processStarredRepos(mockStarredRepos)).thenReturn(mockStarEvents);
+        when(eventProcessingService.processStarredRepos(mockStarredRepos)).thenReturn(Flux.fromIterable(mockStarEvents));
 
         // When & Then
-        mockMvc.perform(get("/api/stars/{username}", username))
-                .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+        webTestClient.get().uri("/api/stars/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$").isArray()
+                .jsonPath("$.length()").isEqualTo(2);
     }
 
     @Test
@@ -113,13 +206,64 @@ class GithubActivityControllerTest {
     void shouldReturnMessageWhenUserHasNoStarredRepos() throws Exception {
         // Given
         String username = "testuser";
-        when(gitHubApiService.fetchUserStarredRepos(username)).thenReturn(new Object[0]);
-        when(eventProcessingService.processStarredRepos(any())).thenReturn(new ArrayList<>());
+        when(gitHubApiService.fetchUserStarredRepos(username)).thenReturn(Flux.empty());
+        when(eventProcessingService.processStarredRepos(any(Flux.class))).thenReturn(Flux.empty());
+
+        // When & Then
+        webTestClient.get().uri("/api/stars/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("The specified user has no starred repositories.");
+    }
+
+    @Test
+    @DisplayName("Should stream repositories for valid user")
+    void shouldStreamRepositoriesForValidUser() throws Exception {
+        // Given
+        String username = "testuser";
+        Flux<Object> mockRepos = Flux.just(new Object(), new Object(), new Object());
+        when(gitHubApiService.fetchUserRepositories(username)).thenReturn(mockRepos);
+        when(eventProcessingService.processRepositories(mockRepos)).thenReturn(Flux.just(
+                new RepositoryDto("repo1", "owner/repo1", null, "Java", 1, 0, null, null),
+                new RepositoryDto("repo2", "owner/repo2", null, "Go", 2, 0, null, null),
+                new RepositoryDto("repo3", "owner/repo3", null, null, 3, 0, null, null)));
+
+        // When & Then
+        webTestClient.get().uri("/api/repositories/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[2].name").isEqualTo("repo3");
+    }
+
+    @Test
+    @DisplayName("Should combine all views of a user in one summary")
+    void shouldReturnSummaryForValidUser() throws Exception {
+        // Given
+        String username = "testuser";
+        GitHubEvent[] mockEvents = {createMockEvent("PushEvent", "user/repo1")};
+        Flux<Object> mockRepos = Flux.just(new Object());
+        Flux<Object> mockStarredRepos = Flux.empty();
+        List<RepositoryDto> repositories = List.of(new RepositoryDto("repo1", "user/repo1", null, "Java", 1, 0, null, null));
+        ActivitySummaryDto summary = new ActivitySummaryDto(username, List.of(),
+                List.of(new PushEventDto("repo1", "user", 2, "2025-09-22T10:30:00Z")),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                repositories, List.of());
+
+        when(gitHubApiService.fetchUserEvents(username)).thenReturn(Mono.just(mockEvents));
+        when(gitHubApiService.fetchUserRepositories(username)).thenReturn(mockRepos);
+        when(gitHubApiService.fetchUserStarredRepos(username)).thenReturn(mockStarredRepos);
+        when(eventProcessingService.processRepositories(mockRepos)).thenReturn(Flux.fromIterable(repositories));
+        when(eventProcessingService.processStarredRepos(mockStarredRepos)).thenReturn(Flux.empty());
+        when(eventProcessingService.summarize(username, mockEvents, repositories, List.of())).thenReturn(summary);
 
         // When & Then
-        mockMvc.perform(get("/api/stars/{username}", username))
-                .andExpect(status().isOk())
-                .andExpect(content().string("The specified user has no starred repositories."));
+        webTestClient.get().uri("/api/summary/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo(username)
+                .jsonPath("$.pushes.length()").isEqualTo(1)
+                .jsonPath("$.repositories[0].name").isEqualTo("repo1")
+                .jsonPath("$.starred").isEmpty();
     }
 
     private GitHubEvent createMockEvent(String type, String repoName) {
@@ -0,0 +1,82 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.dto;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JsonTest
+class DtoJsonSerializersTest {
+
+    /** Plain mapper using Jackson's reflective bean serializers. */
+    private final ObjectMapper reflective = new ObjectMapper();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should register a hand-written serializer for every DTO on the application ObjectMapper")
+    void shouldRegisterSerializersForAllDtos() throws JsonMappingException {
+        // Given
+        List<Class<?>> dtoTypes = List.of(ActivitySummaryDto.class, CommitEventDto.class, CreateEventDto.class,
+                DeleteEventDto.class, ForkEventDto.class, IssueCommentEventDto.class, IssueEventDto.class,
+                MemberEventDto.class, PublicEventDto.class, PullRequestEventDto.class, PushEventDto.class,
+                ReleaseEventDto.class, RepositoryDto.class, StarEventDto.class);
+
+        // When / Then
+        for (Class<?> type : dtoTypes) {
+            Object serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(type);
+            assertEquals(DtoJsonSerializers.class, serializer.getClass().getEnclosingClass(), type.getSimpleName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should write event DTOs exactly like the reflective serializer")
+    void shouldMatchReflectiveOutputForEventDtos() throws Exception {
+        // Given
+        List<Object> dtos = List.of(
+                new CommitEventDto("repo", "owner", 3, "2025-01-01T00:00:00Z"),
+                new PushEventDto("repo", "owner", 1, "2025-01-01T00:00:00Z"),
+                new IssueEventDto("repo", "owner", "Bug \"quoted\"", "opened", "2025-01-01T00:00:00Z"),
+                new PullRequestEventDto("repo", "owner", "Fix ✓", "closed", "2025-01-01T00:00:00Z"),
+                new ForkEventDto("repo", "owner", "someone/repo", "2025-01-01T00:00:00Z"),
+                new ReleaseEventDto("repo", "owner", "v1.0", "published", "2025-01-01T00:00:00Z"),
+                new IssueCommentEventDto("repo", "owner", "line\nbreak", "2025-01-01T00:00:00Z"),
+                new CreateEventDto("repo", "owner", "branch", "main", "2025-01-01T00:00:00Z"),
+                new DeleteEventDto("repo", "owner", "tag", "v0.9", "2025-01-01T00:00:00Z"),
+                new MemberEventDto("repo", "owner", "octocat", "added", "2025-01-01T00:00:00Z"),
+                new PublicEventDto("repo", "owner", "2025-01-01T00:00:00Z"),
+                new StarEventDto("repo", "owner", null),
+                new RepositoryDto("repo", "owner/repo", null, "Java", 42, 7, "2024-01-01T00:00:00Z", "2025-01-01T00:00:00Z"));
+
+        // When / Then
+        for (Object dto : dtos) {
+            assertEquals(reflective.writeValueAsString(dto), objectMapper.writeValueAsString(dto),
+                    dto.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    @DisplayName("Should write the activity summary exactly like the reflective serializer")
+    void shouldMatchReflectiveOutputForSummary() throws Exception {
+        // Given
+        ActivitySummaryDto summary = new ActivitySummaryDto("octocat",
+                List.of(new CommitEventDto("repo", "owner", 2, "2025-01-01T00:00:00Z")),
+                List.of(), List.of(new IssueEventDto("repo", "owner", "Bug", "opened", "2025-01-01T00:00:00Z")),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                List.of(new RepositoryDto("repo", "owner/repo", "desc", null, 1, 0, null, null)),
+                null);
+
+        // When
+        String json = objectMapper.writeValueAsString(summary);
+
+        // Then
+        assertEquals(reflective.writeValueAsString(summary), json);
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.fake;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ConditionalResponseCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.EventWatermarks;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.InFlightRequestTable;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.NegativeUserCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.SeenEventIds;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.EventStoreProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.service.GitHubApiService;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.store.EventStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FakeGitHubServerTest {
+
+    private FakeGitHubServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve 300 events across pages linked with rel=next and rel=last")
+    void shouldServePaginatedEvents() {
+        // Given
+        server = new FakeGitHubServer(FakeGitHubProperties.defaults()).start();
+        GitHubApiService service = apiService(server.baseUrl());
+
+        // When
+        GitHubEvent[] events = service.fetchUserEvents("octocat").block();
+
+        // Then
+        assertEquals(300, events.length);
+        assertEquals(3, server.requestCount());
+        assertTrue(events[0].getCreatedAt().compareTo(events[299].getCreatedAt()) > 0);
+        assertEquals("octocat", events[0].getRepo().getName().split("/")[0]);
+    }
+
+    @Test
+    @DisplayName("Should send Link, ETag and rate-limit headers and answer a matching If-None-Match with 304")
+    void shouldRevalidateWithETag() {
+        // Given
+        server = new FakeGitHubServer(FakeGitHubProperties.defaults()).start();
+        WebClient client = WebClient.builder().baseUrl(server.baseUrl()).build();
+
+        // When
+        ResponseEntity<String> first = client.get().uri("/users/octocat/repos?per_page=10&page=2")
+                .retrieve().toEntity(String.class).block();
+        String eTag = first.getHeaders().getETag();
+        ResponseEntity<String> second = client.get().uri("/users/octocat/repos?per_page=10&page=2")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .retrieve().toEntity(String.class).block();
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        assertTrue(first.getHeaders().getFirst(HttpHeaders.LINK).contains("page=3>; rel=\"next\""));
+        assertTrue(first.getHeaders().getFirst(HttpHeaders.LINK).contains("page=5>; rel=\"last\""));
+        assertTrue(first.getHeaders().getFirst(HttpHeaders.LINK).contains("page=1>; rel=\"prev\""));
+        assertEquals("4999", first.getHeaders().getFirst("X-RateLimit-Remaining"));
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertEquals(eTag, second.getHeaders().getETag());
+        assertEquals("4999", second.getHeaders().getFirst("X-RateLimit-Remaining"));
+    }
+
+    @Test
+    @DisplayName("Should answer 403 once a token's rate-limit budget is exhausted")
+    void shouldEnforceRateLimit() {
+        // Given
+        server = new FakeGitHubServer(properties(Duration.ZERO, 0, 2, null)).start();
+        WebClient client = WebClient.builder().baseUrl(server.baseUrl()).build();
+
+        // When
+        List<HttpStatus> statuses = List.of(status(client, "/users/a/events"), status(client, "/users/b/events"),
+                status(client, "/users/c/events"));
+
+        // Then
+        assertEquals(List.of(HttpStatus.OK, HttpStatus.OK, HttpStatus.FORBIDDEN), statuses);
+    }
+
+    @Test
+    @DisplayName("Should inject latency and errors, and 404 configured missing users")
+    void shouldInjectLatencyErrorsAndMissingUsers() {
+        // Given
+        server = new FakeGitHubServer(properties(Duration.ofMillis(100), 1, 5000, null)).start();
+        WebClient client = WebClient.builder().baseUrl(server.baseUrl()).build();
+        FakeGitHubServer missing = new FakeGitHubServer(properties(Duration.ZERO, 0, 5000, null)).start();
+
+        // When
+        long start = System.nanoTime();
+        HttpStatus failed = status(client, "/users/octocat/events");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        HttpStatus notFound = status(WebClient.create(missing.baseUrl()), "/users/Ghost/events");
+        missing.close();
+
+        // Then
+        assertEquals(HttpStatus.BAD_GATEWAY, failed);
+        assertTrue(elapsedMillis >= 100, "elapsed " + elapsedMillis + "ms");
+        assertEquals(HttpStatus.NOT_FOUND, notFound);
+    }
+
+    @Test
+    @DisplayName("Should serve recorded fixtures instead of generated items when present")
+    void shouldServeRecordedFixtures(@TempDir Path fixtures) throws Exception {
+        // Given
+        Files.createDirectories(fixtures.resolve("recorded"));
+        Files.writeString(fixtures.resolve("recorded/repos.json"),
+                "[{\"name\":\"one\",\"full_name\":\"recorded/one\"},{\"name\":\"two\",\"full_name\":\"recorded/two\"}]");
+        server = new FakeGitHubServer(properties(Duration.ZERO, 0, 5000, fixtures.toString())).start();
+        GitHubApiService service = apiService(server.baseUrl());
+
+        // When
+        List<Object> repos = service.fetchUserRepositories("recorded", 0).collectList().block();
+        List<Object> generated = service.fetchUserRepositories("octocat", 0).collectList().block();
+
+        // Then
+        assertEquals(List.of("one", "two"), repos.stream().map(repo -> ((Map<?, ?>) repo).get("name")).toList());
+        assertEquals(45, generated.size());
+    }
+
+    private static HttpStatus status(WebClient client, String uri) {
+        return HttpStatus.valueOf(client.get().uri(uri)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                .block());
+    }
+
+    private static FakeGitHubProperties properties(Duration latency, double errorRate, int rateLimit,
+                                                   String fixturesDir) {
+        FakeGitHubProperties defaults = FakeGitHubProperties.defaults();
+        return new FakeGitHubProperties(0, defaults.eventsPerUser(), defaults.repositoriesPerUser(),
+                defaults.starredPerUser(), defaults.mix(), latency, Duration.ZERO, errorRate, 1, rateLimit,
+                Duration.ofHours(1), Duration.ofSeconds(60), List.of("ghost"), fixturesDir);
+    }
+
+    private static GitHubApiService apiService(String baseUrl) {
+        EventStore eventStore = new EventStore(
+                new EventStoreProperties(false, Path.of("unused"), DataSize.ofMegabytes(1), 100));
+        ActivityCacheProperties.ResourcePolicy uncached =
+                new ActivityCacheProperties.ResourcePolicy(Duration.ZERO, Duration.ZERO, 1_000_000);
+        return new GitHubApiService(WebClient.builder().baseUrl(baseUrl).build(), new ConditionalResponseCache(1_000_000),
+                new InFlightRequestTable(Duration.ofSeconds(30)),
+                new ActivityCache(new ActivityCacheProperties(uncached, uncached, uncached, 100)),
+                new NegativeUserCache(Duration.ZERO, 1_000, 0.01),
+                eventStore, new EventWatermarks(1_000, eventStore),
+                new SeenEventIds(Duration.ofHours(1), 1_000), 4);
+    }
+}
@@ -4,21 +4,20 @@ import com.github.Jose_Daniel_Lopez.github_activity_cli.service.GitHubApiService
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
 import static org.mockito.Mockito.when;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
-@AutoConfigureWebMvc
+@AutoConfigureWebTestClient
 class GithubActivityIntegrationTest {
 
     @Autowired
-    private MockMvc mockMvc;
+    private WebTestClient webTestClient;
 
     @MockBean
     private GitHubApiService gitHubApiService;
@@ -27,9 +26,9 @@ class GithubActivityIntegrationTest {
     @DisplayName("Integration test - Should handle full application flow for health check")
     void shouldHandleFullApplicationFlowForHealthCheck() throws Exception {
         // When & Then
-        mockMvc.perform(get("/api/health"))
-                .andExpect(status().isOk())
-                .andExpect(content().string("OK"));
+        webTestClient.get().uri("/api/health").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("OK");
     }
 
     @Test
@@ -40,15 +39,15 @@ class GithubActivityIntegrationTest {
         RuntimeException exception = new RuntimeException("User not found: " + username);
 
         when(gitHubApiService.fetchUserEvents(username))
-                .thenThrow(new RuntimeException("GitHub API error"));
+                .thenReturn(Mono.error(new RuntimeException("GitHub API error")));
         when(gitHubApiService.handleGitHubApiException(
                 org.mockito.ArgumentMatchers.any(),
                 org.mockito.ArgumentMatchers.eq(username)))
                 .thenReturn(exception);
 
         // When & Then
-        mockMvc.perform(get("/api/activity/{username}", username))
-                .andExpect(status().is5xxServerError());
+        webTestClient.get().uri("/api/activity/{username}", username).exchange()
+                .expectStatus().is5xxServerError();
     }
 
     @Test
@@ -57,11 +56,11 @@ class GithubActivityIntegrationTest {
         // Given
         String username = "emptyuser";
         when(gitHubApiService.fetchUserEvents(username))
-                .thenReturn(new com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent[0]);
+                .thenReturn(Mono.just(new com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent[0]));
 
         // When & Then
-        mockMvc.perform(get("/api/activity/{username}", username))
-                .andExpect(status().isOk())
-                .andExpect(content().string("The specified user has no activity events."));
+        webTestClient.get().uri("/api/activity/{username}", username).exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("The specified user has no activity events.");
     }
 }
@@ -0,0 +1,115 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.jfr;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.metrics.ProcessingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        if (endpoint != null) {
+            endpoint.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record application events and dump them without stopping the recording")
+    void shouldRecordAndDumpApplicationEvents() throws Exception {
+        // Given
+        endpoint = new FlightRecordingEndpoint("default", Duration.ofMinutes(5), DataSize.ofMegabytes(10), dumpDirectory, 5, false);
+        endpoint.start(null);
+        new ProcessingMetrics(new SimpleMeterRegistry())
+                .record("commits", ProcessingMetrics.Stage.PROCESS, "octocat", 3, () -> List.of("a", "b"));
+
+        // When
+        WebEndpointResponse<Resource> dump = endpoint.dump("dump");
+
+        // Then
+        assertEquals(200, dump.getStatus());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump.getBody().getFile().toPath());
+        RecordedEvent processing = events.stream()
+                .filter(event -> event.getEventType().getName().equals("github.activity.Processing"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("octocat", processing.getString("username"));
+        assertEquals("process", processing.getString("stage"));
+        assertEquals(3, processing.getInt("input"));
+        assertEquals(2, processing.getInt("output"));
+        assertEquals("RUNNING", endpoint.status().get("state"));
+    }
+
+    @Test
+    @DisplayName("Should dump the recording to disk when stopped")
+    void shouldDumpWhenStopped() throws Exception {
+        // Given
+        endpoint = new FlightRecordingEndpoint("default", Duration.ofMinutes(5), DataSize.ofMegabytes(10), dumpDirectory, 5, false);
+        endpoint.start("default");
+
+        // When
+        WebEndpointResponse<Map<String, Object>> stopped = endpoint.stop();
+
+        // Then
+        assertEquals(200, stopped.getStatus());
+        assertEquals("STOPPED", stopped.getBody().get("state"));
+        assertTrue(Files.size(Path.of((String) stopped.getBody().get("file"))) > 0);
+        assertEquals(404, endpoint.stop().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown settings and report missing recordings")
+    void shouldRejectInvalidRequests() throws Exception {
+        // Given
+        endpoint = new FlightRecordingEndpoint("default", Duration.ofMinutes(5), DataSize.ofMegabytes(10), dumpDirectory, 5, false);
+
+        // When & Then
+        assertEquals(400, endpoint.start("no-such-settings").getStatus());
+        assertEquals(404, endpoint.dump("dump").getStatus());
+        assertEquals("NEW", endpoint.status().get("state"));
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest dumps on disk")
+    void shouldDeleteOldDumps() throws Exception {
+        // Given
+        endpoint = new FlightRecordingEndpoint("default", Duration.ofMinutes(5), DataSize.ofMegabytes(10), dumpDirectory, 2, false);
+        endpoint.start(null);
+        Files.writeString(dumpDirectory.resolve("unrelated.jfr"), "kept");
+
+        // When
+        Path first = endpoint.dump("dump").getBody().getFile().toPath();
+        Path second = endpoint.dump("dump").getBody().getFile().toPath();
+        Path third = endpoint.dump("dump").getBody().getFile().toPath();
+
+        // Then
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(second));
+        assertTrue(Files.exists(third));
+        assertTrue(Files.exists(dumpDirectory.resolve("unrelated.jfr")));
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            assertEquals(3, files.count());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.ForkPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.IssueCommentPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.IssuesPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.MemberPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PullRequestPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PushPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.RefPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.ReleasePayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.UnknownPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHubEventTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should bind the payload class selected by the event type")
+    void shouldBindTypedPayload() throws Exception {
+        // Given
+        String json = """
+                {"id":"1","type":"PullRequestEvent","repo":{"name":"user/repo"},
+                 "payload":{"action":"opened","number":7,
+                            "pull_request":{"title":"Fix bug","body":"long text","user":{"login":"u"},"labels":[]}},
+                 "created_at":"2025-09-22T10:30:00Z"}
+                """;
+
+        // When
+        GitHubEvent event = objectMapper.readValue(json, GitHubEvent.class);
+
+        // Then
+        assertEquals("PullRequestEvent", event.getType());
+        assertEquals(EventType.PULL_REQUEST, event.getEventType());
+        PullRequestPayload payload = assertInstanceOf(PullRequestPayload.class, event.getPayload());
+        assertEquals("opened", payload.getAction());
+        assertEquals("Fix bug", payload.getPullRequest().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should parse the event id and timestamp once at ingest")
+    void shouldParseIdAndTimestamp() throws Exception {
+        // When
+        GitHubEvent event = objectMapper.readValue(
+                "{\"id\":\"22249084947\",\"type\":\"PushEvent\",\"created_at\":\"2025-09-22T10:30:00Z\"}", GitHubEvent.class);
+        GitHubEvent malformed = objectMapper.readValue(
+                "{\"id\":\"abc\",\"type\":\"PushEvent\",\"created_at\":\"yesterday\"}", GitHubEvent.class);
+
+        // Then
+        assertEquals(22249084947L, event.getNumericId());
+        assertEquals(Instant.parse("2025-09-22T10:30:00Z"), event.getCreatedAtInstant());
+        assertEquals(-1, malformed.getNumericId());
+        assertNull(malformed.getCreatedAtInstant());
+        assertEquals("yesterday", malformed.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should resolve the payload class even when the payload precedes the type")
+    void shouldBindPayloadBeforeType() throws Exception {
+        // Given
+        String json = """
+                {"payload":{"forkee":{"full_name":"me/fork","owner":{"login":"me"}}},"type":"ForkEvent"}
+                """;
+
+        // When
+        GitHubEvent event = objectMapper.readValue(json, GitHubEvent.class);
+
+        // Then
+        assertEquals(EventType.FORK, event.getEventType());
+        assertEquals("me/fork", assertInstanceOf(ForkPayload.class, event.getPayload()).getForkee().getFullName());
+    }
+
+    @Test
+    @DisplayName("Should share one payload class between create and delete events")
+    void shouldBindRefPayloadForCreateAndDelete() throws Exception {
+        // When
+        GitHubEvent create = objectMapper.readValue(
+                "{\"type\":\"CreateEvent\",\"payload\":{\"ref_type\":\"branch\",\"ref\":\"main\",\"description\":null}}",
+                GitHubEvent.class);
+        GitHubEvent delete = objectMapper.readValue(
+                "{\"type\":\"DeleteEvent\",\"payload\":{\"ref_type\":\"tag\",\"ref\":\"v1\"}}", GitHubEvent.class);
+
+        // Then
+        assertEquals(new RefPayload("branch", "main"), create.getPayload());
+        assertEquals(new RefPayload("tag", "v1"), delete.getPayload());
+    }
+
+    @Test
+    @DisplayName("Should count commits when a push payload omits its size")
+    void shouldCountCommitsWithoutSize() throws Exception {
+        // When
+        GitHubEvent sized = objectMapper.readValue("""
+                {"type":"PushEvent","payload":{"size":5,"distinct_size":2,
+                 "commits":[{"sha":"a","message":"one","author":{"name":"me"}}]}}
+                """, GitHubEvent.class);
+        GitHubEvent unsized = objectMapper.readValue("""
+                {"type":"PushEvent","payload":{"ref":"refs/heads/main",
+                 "commits":[{"sha":"a","message":"one"},{"sha":"b","message":"two"},{"sha":"c"}]}}
+                """, GitHubEvent.class);
+
+        // Then
+        assertEquals(new PushPayload(5), sized.getPayload());
+        assertEquals(new PushPayload(3), unsized.getPayload());
+    }
+
+    @Test
+    @DisplayName("Should bind the nested field of each payload and skip values of an unexpected shape")
+    void shouldBindNestedPayloadFields() throws Exception {
+        // When
+        GitHubEvent issues = objectMapper.readValue("""
+                {"type":"IssuesEvent","payload":{"action":{"unexpected":true},
+                 "issue":{"number":3,"labels":[{"name":"bug"}],"title":"Crash"}}}
+                """, GitHubEvent.class);
+        GitHubEvent comment = objectMapper.readValue("""
+                {"type":"IssueCommentEvent","payload":{"issue":{"title":"x"},"comment":{"body":"LGTM"}}}
+                """, GitHubEvent.class);
+        GitHubEvent release = objectMapper.readValue("""
+                {"type":"ReleaseEvent","payload":{"action":"published","release":{"name":"v1"}}}
+                """, GitHubEvent.class);
+        GitHubEvent member = objectMapper.readValue("""
+                {"type":"MemberEvent","payload":{"action":"added","member":"octocat"}}
+                """, GitHubEvent.class);
+
+        // Then
+        assertEquals(new IssuesPayload(null, new IssuesPayload.Issue("Crash")), issues.getPayload());
+        assertEquals(new IssueCommentPayload(new IssueCommentPayload.Comment("LGTM")), comment.getPayload());
+        assertEquals(new ReleasePayload("published", new ReleasePayload.Release("v1")), release.getPayload());
+        assertEquals(new MemberPayload("added", null), member.getPayload());
+    }
+
+    @Test
+    @DisplayName("Should skip payloads of event types without a payload class")
+    void shouldSkipUnknownPayloads() throws Exception {
+        // When
+        GitHubEvent watch = objectMapper.readValue(
+                "{\"type\":\"WatchEvent\",\"payload\":{\"action\":\"started\"}}", GitHubEvent.class);
+        GitHubEvent gollum = objectMapper.readValue(
+                "{\"type\":\"GollumEvent\",\"payload\":{\"pages\":[{\"title\":\"Home\"}]}}", GitHubEvent.class);
+
+        // Then
+        assertInstanceOf(UnknownPayload.class, watch.getPayload());
+        assertEquals(EventType.WATCH, watch.getEventType());
+        assertInstanceOf(UnknownPayload.class, gollum.getPayload());
+        assertEquals(EventType.OTHER, gollum.getEventType());
+        assertEquals("GollumEvent", gollum.getType());
+    }
+
+    @Test
+    @DisplayName("Should leave the payload null when absent")
+    void shouldLeaveMissingPayloadNull() throws Exception {
+        // When
+        GitHubEvent event = objectMapper.readValue("{\"type\":\"PushEvent\"}", GitHubEvent.class);
+
+        // Then
+        assertNull(event.getPayload());
+        assertEquals(0, new PushPayload().getSize());
+    }
+}
@@ -2,13 +2,12 @@ package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
 
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.Repo;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PushPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.UnknownPayload;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.util.AnsiColor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 class EventFormatterTest {
@@ -24,9 +23,7 @@ class EventFormatterTest {
         Repo repo = new Repo("user/test-repo");
         event.setRepo(repo);
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("size", 3);
-        event.setPayload(payload);
+        event.setPayload(new PushPayload(3));
 
         // When
         String result = EventFormatter.format(event);
@@ -163,8 +160,8 @@ class EventFormatterTest {
         Repo repo = new Repo("user/test-repo");
         event.setRepo(repo);
 
-        // Invalid payload
-        event.setPayload("invalid");
+        // Payload of a different event type
+        event.setPayload(new UnknownPayload());
 
         // When
         String result = EventFormatter.format(event);
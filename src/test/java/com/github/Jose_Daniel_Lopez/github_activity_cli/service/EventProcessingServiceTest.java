@@ -1,11 +1,16 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
 
 import com.github.Jose_Daniel_Lopez.github_activity_cli.dto.*;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.EventType;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.Repo;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.IssuesPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PushPayload;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.UnknownPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import reactor.core.publisher.Flux;
 
 import java.util.HashMap;
 import java.util.List;
@@ -101,6 +106,85 @@ class EventProcessingServiceTest {
         assertEquals("PushEvent", result.get(1).getType());
     }
 
+    @Test
+    @DisplayName("Should classify events into type buckets in a single pass")
+    void shouldClassifyEventsByType() {
+        // Given
+        GitHubEvent push = createEvent("PushEvent", "user/repo1");
+        GitHubEvent issue = createEvent("IssuesEvent", "user/repo2");
+        GitHubEvent unknown = createEvent("SponsorshipEvent", "user/repo3");
+        GitHubEvent anotherPush = createEvent("PushEvent", "user/repo4");
+        GitHubEvent[] events = {push, issue, unknown, anotherPush};
+
+        // When
+        Map<EventType, List<GitHubEvent>> result = eventProcessingService.classifyEvents(events);
+
+        // Then
+        assertEquals(List.of(push, anotherPush), result.get(EventType.PUSH));
+        assertEquals(List.of(issue), result.get(EventType.ISSUES));
+        assertEquals(List.of(unknown), result.get(EventType.OTHER));
+        assertFalse(result.containsKey(EventType.FORK));
+    }
+
+    @Test
+    @DisplayName("Should convert every classified bucket through its registered processor")
+    void shouldProcessAllBuckets() {
+        // Given
+        GitHubEvent[] events = {
+                createPushEvent("user/repo1", 3, "2025-09-22T10:30:00Z"),
+                createIssueEvent("user/repo2", "Bug", "opened", "2025-09-22T11:00:00Z"),
+                createEvent("WatchEvent", "user/repo3")
+        };
+
+        // When
+        Map<EventType, List<?>> result = eventProcessingService.processAll(eventProcessingService.classifyEvents(events));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(3, ((PushEventDto) result.get(EventType.PUSH).get(0)).getCommitCount());
+        assertEquals("Bug", ((IssueEventDto) result.get(EventType.ISSUES).get(0)).getIssueTitle());
+        assertFalse(result.containsKey(EventType.WATCH));
+    }
+
+    @Test
+    @DisplayName("Should build every view of the summary from one events array")
+    void shouldSummarizeAllViews() {
+        // Given
+        GitHubEvent[] events = {
+                createPushEvent("user/repo1", 2, "2025-09-22T10:30:00Z"),
+                createIssueEvent("user/repo2", "Bug", "opened", "2025-09-22T11:00:00Z")
+        };
+        List<RepositoryDto> repositories = List.of(new RepositoryDto("repo1", "user/repo1", null, null, 0, 0, null, null));
+
+        // When
+        ActivitySummaryDto summary = eventProcessingService.summarize("user", events, repositories, List.of());
+
+        // Then
+        assertEquals("user", summary.getUsername());
+        assertEquals(2, summary.getCommits().get(0).getCommitCount());
+        assertEquals(1, summary.getPushes().size());
+        assertEquals(1, summary.getIssues().size());
+        assertTrue(summary.getForks().isEmpty());
+        assertTrue(summary.getMembers().isEmpty());
+        assertSame(repositories, summary.getRepositories());
+        assertTrue(summary.getStarred().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should still filter unknown event types by their raw name")
+    void shouldFilterUnknownTypesByName() {
+        // Given
+        GitHubEvent sponsorship = createEvent("SponsorshipEvent", "user/repo1");
+        GitHubEvent gollum = createEvent("GollumEvent", "user/repo2");
+
+        // When
+        List<GitHubEvent> result = eventProcessingService.filterEventsByType(
+                new GitHubEvent[]{sponsorship, gollum}, "GollumEvent");
+
+        // Then
+        assertEquals(List.of(gollum), result);
+    }
+
     @Test
     @DisplayName("Should handle null events array in filter")
     void shouldHandleNullEventsArrayInFilter() {
@@ -202,13 +286,34 @@ class EventProcessingServiceTest {
     @DisplayName("Should handle null starred repos array")
     void shouldHandleNullStarredReposArray() {
         // When
-        List<StarEventDto> result = eventProcessingService.processStarredRepos(null);
+        List<StarEventDto> result = eventProcessingService.processStarredRepos((Object[]) null);
 
         // Then
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should stream repositories and skip non-map entries")
+    void shouldStreamRepositoriesAndSkipNonMapEntries() {
+        // Given
+        Map<String, Object> repo = new HashMap<>();
+        repo.put("name", "spring-boot");
+        repo.put("full_name", "spring-projects/spring-boot");
+        repo.put("stargazers_count", 70000);
+
+        // When
+        List<RepositoryDto> result = eventProcessingService
+                .processRepositories(Flux.just(repo, "not-a-repo"))
+                .collectList()
+                .block();
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("spring-boot", result.get(0).getName());
+        assertEquals(70000, result.get(0).getStargazersCount());
+    }
+
     @Test
     @DisplayName("Should handle events with null repo")
     void shouldHandleEventsWithNullRepo() {
@@ -218,9 +323,7 @@ class EventProcessingServiceTest {
         eventWithNullRepo.setCreatedAt("2025-09-22T10:30:00Z");
         eventWithNullRepo.setRepo(null);
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("size", 2);
-        eventWithNullRepo.setPayload(payload);
+        eventWithNullRepo.setPayload(new PushPayload(2));
 
         List<GitHubEvent> events = List.of(eventWithNullRepo);
 
@@ -240,7 +343,7 @@ class EventProcessingServiceTest {
     void shouldHandleEventsWithInvalidPayload() {
         // Given
         GitHubEvent eventWithInvalidPayload = createEvent("PushEvent", "user/repo");
-        eventWithInvalidPayload.setPayload("invalid-payload"); // not a Map
+        eventWithInvalidPayload.setPayload(new UnknownPayload()); // not a PushPayload
 
         List<GitHubEvent> events = List.of(eventWithInvalidPayload);
 
@@ -267,9 +370,7 @@ class EventProcessingServiceTest {
         event.setCreatedAt(createdAt);
         event.setRepo(new Repo(repoName));
 
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("size", commitCount);
-        event.setPayload(payload);
+        event.setPayload(new PushPayload(commitCount));
 
         return event;
     }
@@ -280,13 +381,7 @@ class EventProcessingServiceTest {
         event.setCreatedAt(createdAt);
         event.setRepo(new Repo(repoName));
 
-        Map<String, Object> issueMap = new HashMap<>();
-        issueMap.put("title", issueTitle);
-
-        Map<String, Object> payload = new HashMap<>();
-        payload.put("issue", issueMap);
-        payload.put("action", action);
-        event.setPayload(payload);
+        event.setPayload(new IssuesPayload(action, new IssuesPayload.Issue(issueTitle)));
 
         return event;
     }
@@ -1,40 +1,70 @@
 package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
 
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ConditionalResponseCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.EventWatermarks;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.InFlightRequestTable;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.NegativeUserCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.SeenEventIds;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.EventStoreProperties;
 import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.store.EventStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
 class GitHubApiServiceTest {
 
-    @Mock
-    private WebClient webClient;
-
-    @Mock
-    private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
-
-    @Mock
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
+    private static final String GITHUB_API = "https://api.github.com";
 
-    @Mock
-    private WebClient.ResponseSpec responseSpec;
+    private final Deque<ClientResponse> responses = new ArrayDeque<>();
+    private final List<ClientRequest> requests = new ArrayList<>();
 
     private GitHubApiService gitHubApiService;
 
     @BeforeEach
     void setUp() {
-        gitHubApiService = new GitHubApiService(webClient);
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(responses.removeFirst());
+                })
+                .build();
+        gitHubApiService = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000), new InFlightRequestTable(Duration.ofSeconds(30)), uncachedActivity(), noNegativeCache(), noEventStore(), freshWatermarks(), noDedup(), 4);
     }
 
     @Test
@@ -42,20 +72,15 @@ class GitHubApiServiceTest {
     void shouldFetchUserEventsSuccessfully() {
         // Given
         String username = "testuser";
-        GitHubEvent[] mockEvents = new GitHubEvent[]{new GitHubEvent(), new GitHubEvent()};
-
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(GitHubEvent[].class)).thenReturn(Mono.just(mockEvents));
+        responses.add(jsonResponse("[{\"type\":\"PushEvent\"},{\"type\":\"WatchEvent\"}]"));
 
         // When
-        GitHubEvent[] result = gitHubApiService.fetchUserEvents(username);
+        GitHubEvent[] result = gitHubApiService.fetchUserEvents(username).block();
 
         // Then
         assertNotNull(result);
         assertEquals(2, result.length);
-        verify(requestHeadersUriSpec).uri("https://api.github.com/users/testuser/events");
+        assertEquals("https://api.github.com/users/testuser/events?per_page=100", requests.get(0).url().toString());
     }
 
     @Test
@@ -63,20 +88,15 @@ class GitHubApiServiceTest {
     void shouldFetchUserStarredReposSuccessfully() {
         // Given
         String username = "testuser";
-        Object[] mockRepos = new Object[]{new Object(), new Object()};
-
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(Object[].class)).thenReturn(Mono.just(mockRepos));
+        responses.add(jsonResponse("[{},{}]"));
 
         // When
-        Object[] result = gitHubApiService.fetchUserStarredRepos(username);
+        List<Object> result = gitHubApiService.fetchUserStarredRepos(username).collectList().block();
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.length);
-        verify(requestHeadersUriSpec).uri("https://api.github.com/users/testuser/starred");
+        assertEquals(2, result.size());
+        assertEquals("https://api.github.com/users/testuser/starred?per_page=100", requests.get(0).url().toString());
     }
 
     @Test
@@ -84,20 +104,414 @@ class GitHubApiServiceTest {
     void shouldFetchUserRepositoriesSuccessfully() {
         // Given
         String username = "testuser";
-        Object[] mockRepos = new Object[]{new Object(), new Object()};
-
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(Object[].class)).thenReturn(Mono.just(mockRepos));
+        responses.add(jsonResponse("[{},{}]"));
 
         // When
-        Object[] result = gitHubApiService.fetchUserRepositories(username);
+        List<Object> result = gitHubApiService.fetchUserRepositories(username).collectList().block();
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.length);
-        verify(requestHeadersUriSpec).uri("https://api.github.com/users/testuser/repos");
+        assertEquals(2, result.size());
+        assertEquals("https://api.github.com/users/testuser/repos?per_page=100", requests.get(0).url().toString());
+    }
+
+    @Test
+    @DisplayName("Should emit each event as soon as it is decoded, before the body has fully arrived")
+    void shouldEmitEventsBeforeBodyCompletes() {
+        // Given
+        Sinks.Many<DataBuffer> chunks = Sinks.many().unicast().onBackpressureBuffer();
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(chunks.asFlux())
+                .build());
+        List<GitHubEvent> received = new CopyOnWriteArrayList<>();
+        gitHubApiService.streamUserEvents("testuser", 0).subscribe(received::add);
+
+        // When
+        chunks.tryEmitNext(buffer("[{\"type\":\"PushEvent\",\"actor\":{\"login\":\"octocat\"}},{\"type\":\"Wat"));
+
+        // Then
+        assertEquals(1, received.size());
+        assertEquals("PushEvent", received.get(0).getType());
+
+        // When
+        chunks.tryEmitNext(buffer("chEvent\"}]"));
+        chunks.tryEmitComplete();
+
+        // Then
+        assertEquals(2, received.size());
+        assertEquals("WatchEvent", received.get(1).getType());
+    }
+
+    @Test
+    @DisplayName("Should revalidate with If-None-Match and reuse cached body on 304")
+    void shouldReuseCachedBodyOnNotModified() {
+        // Given
+        String username = "testuser";
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ETAG, "\"abc123\"")
+                .body("[{\"type\":\"PushEvent\"}]")
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        // When
+        GitHubEvent[] first = gitHubApiService.fetchUserEvents(username).block();
+        GitHubEvent[] second = gitHubApiService.fetchUserEvents(username).block();
+
+        // Then
+        assertEquals(1, second.length);
+        assertEquals(first[0].getType(), second[0].getType());
+        assertNull(requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"abc123\"", requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @DisplayName("Should keep only the raw body of a revalidatable page and decode it again on 304")
+    void shouldRetainRawBodyForRevalidation() {
+        // Given
+        ConditionalResponseCache responseCache = new ConditionalResponseCache(1_000_000);
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(responses.removeFirst());
+                })
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, responseCache, new InFlightRequestTable(Duration.ofSeconds(30)),
+                uncachedActivity(), noNegativeCache(), noEventStore(), freshWatermarks(), noDedup(), 4);
+        String body = "[" + String.join(",", Collections.nCopies(100,
+                "{\"name\":\"repo\",\"owner\":{\"login\":\"testuser\"},\"topics\":[\"a\",\"b\"]}")) + "]";
+        responses.add(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ETAG, "\"repos\"")
+                .body(body)
+                .build());
+        responses.add(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        // When
+        List<Object> first = service.fetchUserRepositories("testuser").collectList().block();
+        long retained = responseCache.sizeInBytes();
+        List<Object> second = service.fetchUserRepositories("testuser").collectList().block();
+
+        // Then
+        assertEquals(100, first.size());
+        assertEquals(first, second);
+        assertTrue(retained >= body.length() && retained < body.length() + 1_024, "retained: " + retained);
+        assertEquals("\"repos\"", requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @DisplayName("Should not cache responses without validators")
+    void shouldNotCacheResponsesWithoutValidators() {
+        // Given
+        String username = "testuser";
+        responses.add(jsonResponse("[{}]"));
+        responses.add(jsonResponse("[{},{}]"));
+
+        // When
+        gitHubApiService.fetchUserRepositories(username).collectList().block();
+        List<Object> result = gitHubApiService.fetchUserRepositories(username).collectList().block();
+
+        // Then
+        assertEquals(2, result.size());
+        assertNull(requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @DisplayName("Should follow Link rel=next headers across pages")
+    void shouldFollowLinkHeadersAcrossPages() {
+        // Given
+        String username = "testuser";
+        responses.add(pagedResponse("[{},{}]", "https://api.github.com/user/1/repos?per_page=100&page=2"));
+        responses.add(pagedResponse("[{}]", null));
+
+        // When
+        List<Object> result = gitHubApiService.fetchUserRepositories(username).collectList().block();
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(2, requests.size());
+        assertEquals("https://api.github.com/user/1/repos?per_page=100&page=2", requests.get(1).url().toString());
+    }
+
+    @Test
+    @DisplayName("Should stop paginating once the item cap is reached")
+    void shouldStopPaginatingAtItemCap() {
+        // Given
+        String username = "testuser";
+        responses.add(pagedResponse("[{},{}]", "https://api.github.com/user/1/starred?per_page=2&page=2"));
+        responses.add(pagedResponse("[{},{}]", "https://api.github.com/user/1/starred?per_page=2&page=3"));
+
+        // When
+        List<Object> result = gitHubApiService.fetchUserStarredRepos(username, 2).collectList().block();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("https://api.github.com/users/testuser/starred?per_page=2", requests.get(0).url().toString());
+        assertTrue(requests.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("Should fetch pages concurrently using rel=last and keep page order")
+    void shouldFanOutPagesUsingLastLink() {
+        // Given
+        String base = "https://api.github.com/users/testuser/repos?per_page=100";
+        Map<String, Duration> delays = Map.of(
+                base + "&page=2", Duration.ofMillis(150),
+                base + "&page=3", Duration.ofMillis(10));
+        Map<String, String> bodies = Map.of(
+                base + "&page=2", "[{\"name\":\"b\"}]",
+                base + "&page=3", "[{\"name\":\"c\"}]");
+        List<String> requestedUrls = new CopyOnWriteArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    String url = request.url().toString();
+                    requestedUrls.add(url);
+                    if (url.equals(base)) {
+                        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header(HttpHeaders.LINK, "<" + base + "&page=2>; rel=\"next\", <" + base + "&page=3>; rel=\"last\"")
+                                .body("[{\"name\":\"a\"}]")
+                                .build());
+                    }
+                    return Mono.delay(delays.get(url)).thenReturn(jsonResponse(bodies.get(url)));
+                })
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000), new InFlightRequestTable(Duration.ofSeconds(30)), uncachedActivity(), noNegativeCache(), noEventStore(), freshWatermarks(), noDedup(), 4);
+
+        // When
+        List<Object> result = service.fetchUserRepositories("testuser").collectList().block();
+
+        // Then
+        assertEquals(List.of(Map.of("name", "a"), Map.of("name", "b"), Map.of("name", "c")), result);
+        assertEquals(3, requestedUrls.size());
+        assertTrue(requestedUrls.contains(base + "&page=3"));
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent fetches of the same user into one upstream call")
+    void shouldCoalesceConcurrentFetches() {
+        // Given
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        InFlightRequestTable inFlightRequests = new InFlightRequestTable(Duration.ofSeconds(30));
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(100)).thenReturn(jsonResponse("[{\"type\":\"PushEvent\"}]"));
+                })
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000), inFlightRequests, uncachedActivity(), noNegativeCache(), noEventStore(), freshWatermarks(), noDedup(), 4);
+
+        // When
+        List<GitHubEvent[]> results = Flux.merge(
+                        service.fetchUserEvents("testuser"),
+                        service.fetchUserEvents("testuser"),
+                        service.fetchUserEvents("testuser"))
+                .collectList()
+                .block();
+        service.fetchUserEvents("testuser").block();
+
+        // Then
+        assertEquals(3, results.size());
+        assertSame(results.get(0), results.get(1));
+        assertSame(results.get(1), results.get(2));
+        assertEquals(2, upstreamCalls.get()); // one shared call, then a fresh one after completion
+        assertEquals(0, inFlightRequests.size());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated fetches from the activity cache within TTL")
+    void shouldServeRepeatedFetchesFromActivityCache() {
+        // Given
+        ActivityCache activityCache = new ActivityCache(cacheProperties(Duration.ofMinutes(1)));
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(responses.removeFirst());
+                })
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000),
+                new InFlightRequestTable(Duration.ofSeconds(30)), activityCache, noNegativeCache(), noEventStore(), freshWatermarks(), noDedup(), 4);
+        responses.add(jsonResponse("[{\"type\":\"PushEvent\"}]"));
+        responses.add(jsonResponse("[{\"name\":\"repo\"}]"));
+
+        // When
+        GitHubEvent[] first = service.fetchUserEvents("TestUser").block();
+        GitHubEvent[] second = service.fetchUserEvents("testuser").block();
+        service.fetchUserRepositories("testuser").collectList().block();
+        List<Object> repos = service.fetchUserRepositories("testuser").collectList().block();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, repos.size());
+        assertEquals(2, requests.size());
+        assertEquals(1L, activityCache.stats().get("events").get("hitCount"));
+        assertEquals(1L, activityCache.stats().get("events").get("missCount"));
+    }
+
+    @Test
+    @DisplayName("Should reject usernames that recently returned 404 without calling GitHub")
+    void shouldRejectKnownMissingUsers() {
+        // Given
+        NegativeUserCache negativeUserCache = new NegativeUserCache(Duration.ofMinutes(10), 1_000, 0.001);
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+                })
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000),
+                new InFlightRequestTable(Duration.ofSeconds(30)), uncachedActivity(), negativeUserCache, noEventStore(), freshWatermarks(), noDedup(), 4);
+
+        // When
+        Exception first = assertThrows(Exception.class, () -> service.fetchUserEvents("ghost").block());
+        Exception second = assertThrows(Exception.class, () -> service.fetchUserRepositories("Ghost").collectList().block());
+
+        // Then
+        assertEquals(1, requests.size());
+        assertEquals("User not found: ghost", service.handleGitHubApiException(first, "ghost").getMessage());
+        assertEquals("User not found: Ghost", service.handleGitHubApiException(second, "Ghost").getMessage());
+    }
+
+    @Test
+    @DisplayName("Should keep events GitHub no longer returns and serve them when GitHub fails")
+    void shouldServeStoredHistory(@TempDir Path directory) {
+        // Given
+        EventStore eventStore = new EventStore(new EventStoreProperties(true, directory, DataSize.ofKilobytes(64), 100));
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> Mono.just(responses.removeFirst()))
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000),
+                new InFlightRequestTable(Duration.ofSeconds(30)), uncachedActivity(), noNegativeCache(), eventStore,
+                new EventWatermarks(1_000, eventStore),
+                new SeenEventIds(Duration.ofHours(1), 1_000), 4);
+        responses.add(jsonResponse("[{\"id\":\"2\",\"type\":\"PushEvent\"},{\"id\":\"1\",\"type\":\"WatchEvent\"}]"));
+        responses.add(jsonResponse("[{\"id\":\"3\",\"type\":\"ForkEvent\"},{\"id\":\"2\",\"type\":\"PushEvent\"}]"));
+        responses.add(ClientResponse.create(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+        // When
+        service.fetchUserEvents("testuser").block();
+        GitHubEvent[] merged = service.fetchUserEvents("testuser").block();
+        GitHubEvent[] fallback = service.fetchUserEvents("testuser").block();
+
+        // Then
+        assertEquals(List.of("3", "2", "1"), List.of(merged).stream().map(GitHubEvent::getId).toList());
+        assertEquals("ForkEvent", merged[0].getType());
+        assertEquals(3, fallback.length);
+        eventStore.close();
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed append and fetch the same events again on the next poll")
+    void shouldRefetchEventsAfterFailedAppend(@TempDir Path directory) {
+        // Given
+        AtomicBoolean failAppends = new AtomicBoolean();
+        EventStore eventStore = new EventStore(new EventStoreProperties(true, directory, DataSize.ofKilobytes(64), 100)) {
+            @Override
+            public synchronized int append(String username, List<GitHubEvent> fetched) {
+                if (failAppends.get()) {
+                    throw new UncheckedIOException(new IOException("No space left on device"));
+                }
+                return super.append(username, fetched);
+            }
+        };
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> Mono.just(responses.removeFirst()))
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000),
+                new InFlightRequestTable(Duration.ofSeconds(30)), uncachedActivity(), noNegativeCache(), eventStore,
+                new EventWatermarks(1_000, eventStore),
+                new SeenEventIds(Duration.ofHours(1), 1_000), 4);
+        responses.add(jsonResponse("[{\"id\":\"2\",\"type\":\"PushEvent\"},{\"id\":\"1\",\"type\":\"WatchEvent\"}]"));
+        responses.add(jsonResponse("[{\"id\":\"3\",\"type\":\"ForkEvent\"},{\"id\":\"2\",\"type\":\"PushEvent\"}]"));
+        responses.add(jsonResponse("[{\"id\":\"3\",\"type\":\"ForkEvent\"},{\"id\":\"2\",\"type\":\"PushEvent\"}]"));
+        service.fetchUserEvents("testuser").block();
+
+        // When
+        failAppends.set(true);
+        UncheckedIOException failure = assertThrows(UncheckedIOException.class,
+                () -> service.fetchUserEvents("testuser").block());
+        failAppends.set(false);
+        GitHubEvent[] recovered = service.fetchUserEvents("testuser").block();
+
+        // Then
+        assertEquals("No space left on device", failure.getCause().getMessage());
+        assertEquals(List.of("3", "2", "1"), List.of(recovered).stream().map(GitHubEvent::getId).toList());
+        eventStore.close();
+    }
+
+    @Test
+    @DisplayName("Should fetch only events newer than the watermark and stop paginating at the first known one")
+    void shouldFetchOnlyNewEvents() {
+        // Given
+        responses.add(pagedResponse("[{\"id\":\"4\",\"type\":\"PushEvent\"},{\"id\":\"3\",\"type\":\"PushEvent\"}]",
+                GITHUB_API + "/users/testuser/events?per_page=100&page=2"));
+        responses.add(pagedResponse("[{\"id\":\"2\",\"type\":\"PushEvent\"},{\"id\":\"1\",\"type\":\"PushEvent\"}]", null));
+        List<GitHubEvent> initial = gitHubApiService.fetchNewUserEvents("testuser").collectList().block();
+        responses.add(pagedResponse("[{\"id\":\"6\",\"type\":\"ForkEvent\"},{\"id\":\"5\",\"type\":\"PushEvent\"},"
+                        + "{\"id\":\"4\",\"type\":\"PushEvent\"}]",
+                GITHUB_API + "/users/testuser/events?per_page=100&page=2"));
+
+        // When
+        List<GitHubEvent> update = gitHubApiService.fetchNewUserEvents("TestUser").collectList().block();
+
+        // Then
+        assertEquals(4, initial.size());
+        assertEquals(List.of("6", "5"), update.stream().map(GitHubEvent::getId).toList());
+        assertEquals(3, requests.size());
+        assertTrue(responses.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop events repeated across pages when GitHub's page boundaries shift")
+    void shouldDropEventsRepeatedAcrossPages() {
+        // Given
+        responses.add(pagedResponse("[{\"id\":\"4\",\"type\":\"PushEvent\"},{\"id\":\"3\",\"type\":\"PushEvent\"}]",
+                GITHUB_API + "/users/testuser/events?per_page=100&page=2"));
+        responses.add(pagedResponse("[{\"id\":\"3\",\"type\":\"PushEvent\"},{\"id\":\"2\",\"type\":\"PushEvent\"}]", null));
+
+        // When
+        List<GitHubEvent> events = gitHubApiService.streamUserEvents("testuser", 0).collectList().block();
+
+        // Then
+        assertEquals(List.of("4", "3", "2"), events.stream().map(GitHubEvent::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep cached events warm with incremental refreshes and report X-Poll-Interval")
+    void shouldRefreshCachedEvents() {
+        // Given
+        ActivityCache activityCache = new ActivityCache(cacheProperties(Duration.ofMinutes(1)));
+        WebClient webClient = WebClient.builder()
+                .baseUrl(GITHUB_API)
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(responses.removeFirst());
+                })
+                .build();
+        GitHubApiService service = new GitHubApiService(webClient, new ConditionalResponseCache(1_000_000),
+                new InFlightRequestTable(Duration.ofSeconds(30)), activityCache, noNegativeCache(), noEventStore(), freshWatermarks(), noDedup(), 4);
+        responses.add(pollResponse("[{\"id\":\"2\",\"type\":\"PushEvent\"},{\"id\":\"1\",\"type\":\"PushEvent\"}]", 90));
+        responses.add(pollResponse("[{\"id\":\"3\",\"type\":\"ForkEvent\"},{\"id\":\"2\",\"type\":\"PushEvent\"}]", 60));
+
+        // When
+        Duration firstInterval = service.refreshUserEvents("testuser").block();
+        Duration secondInterval = service.refreshUserEvents("TestUser").block();
+        GitHubEvent[] cached = service.fetchUserEvents("testuser").block();
+
+        // Then
+        assertEquals(Duration.ofSeconds(90), firstInterval);
+        assertEquals(Duration.ofSeconds(60), secondInterval);
+        assertEquals(List.of("3", "2", "1"), Arrays.stream(cached).map(GitHubEvent::getId).toList());
+        assertEquals(2, requests.size());
+        assertEquals(1L, activityCache.stats().get("events").get("hitCount"));
     }
 
     @Test
@@ -143,4 +557,57 @@ class GitHubApiServiceTest {
         // Then
         assertEquals("Unexpected error: Network timeout", result.getMessage());
     }
+
+    private static EventStore noEventStore() {
+        return new EventStore(new EventStoreProperties(false, Path.of("unused"), DataSize.ofMegabytes(1), 100));
+    }
+
+    private static EventWatermarks freshWatermarks() {
+        return new EventWatermarks(1_000, noEventStore());
+    }
+
+    private static SeenEventIds noDedup() {
+        return new SeenEventIds(Duration.ZERO, 1_000);
+    }
+
+    private static NegativeUserCache noNegativeCache() {
+        return new NegativeUserCache(Duration.ZERO, 1_000, 0.01);
+    }
+
+    private static ActivityCache uncachedActivity() {
+        return new ActivityCache(cacheProperties(Duration.ZERO));
+    }
+
+    private static ActivityCacheProperties cacheProperties(Duration ttl) {
+        ActivityCacheProperties.ResourcePolicy policy = new ActivityCacheProperties.ResourcePolicy(ttl, ttl, 1_000_000);
+        return new ActivityCacheProperties(policy, policy, policy, 100);
+    }
+
+    private static ClientResponse pagedResponse(String body, String next) {
+        ClientResponse.Builder builder = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        if (next != null) {
+            builder.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return builder.body(body).build();
+    }
+
+    private static ClientResponse pollResponse(String body, int pollIntervalSeconds) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Poll-Interval", String.valueOf(pollIntervalSeconds))
+                .body(body)
+                .build();
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ClientResponse jsonResponse(String body) {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
 }
@@ -0,0 +1,192 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.TokenPool;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.PrefetchProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotUserPrefetcherTest {
+
+    private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+    private final Clock clock = new TestClock(millis);
+    private final AtomicLong cacheTime = new AtomicLong();
+    private final ActivityCache activityCache = new ActivityCache(cacheProperties(), cacheTime::get);
+    private final TokenPool tokenPool = mock(TokenPool.class);
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final List<String> refreshed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(gitHubApiService.refreshUserEvents(anyString())).thenAnswer(invocation -> {
+            refreshed.add(invocation.getArgument(0));
+            return Mono.empty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should refresh hot users shortly before their entries go stale, hottest first")
+    void shouldPrefetchHotUsersBeforeExpiry() {
+        // Given
+        budget(360_000, Duration.ofHours(1));
+        HotUserPrefetcher prefetcher = prefetcher(10);
+        request(prefetcher, "warm", 3);
+        request(prefetcher, "Hot", 5);
+        request(prefetcher, "cold", 1);
+        for (String username : List.of("hot", "warm", "cold")) {
+            activityCache.put(ActivityCache.Resource.EVENTS, username, new GitHubEvent[0]);
+        }
+
+        // When
+        advance(Duration.ofSeconds(30));
+        prefetcher.prefetchDue();
+        List<String> early = List.copyOf(refreshed);
+        advance(Duration.ofSeconds(25));
+        prefetcher.prefetchDue();
+
+        // Then
+        assertEquals(List.of(), early);
+        assertEquals(List.of("Hot", "warm"), refreshed);
+        assertEquals(2, prefetcher.stats().get("hotUsers"));
+        assertEquals(2L, prefetcher.stats().get("prefetchCount"));
+    }
+
+    @Test
+    @DisplayName("Should keep refreshes within the configured share of the remaining rate-limit budget")
+    void shouldStayWithinBudgetShare() {
+        // Given
+        budget(-1, Duration.ofHours(1));
+        HotUserPrefetcher prefetcher = prefetcher(10);
+        request(prefetcher, "octocat", 5);
+        request(prefetcher, "hubot", 4);
+        request(prefetcher, "mona", 3);
+
+        // When
+        advance(Duration.ofSeconds(10));
+        prefetcher.prefetchDue();
+        List<String> withoutBudget = List.copyOf(refreshed);
+        budget(3_600, Duration.ofHours(1)); // 10% of 3600 calls per hour: one call every 10 s
+        advance(Duration.ofSeconds(10));
+        prefetcher.prefetchDue();
+
+        // Then
+        assertEquals(List.of(), withoutBudget);
+        assertEquals(List.of("octocat"), refreshed);
+        assertEquals(2L, prefetcher.stats().get("budgetSkipCount"));
+    }
+
+    @Test
+    @DisplayName("Should let a hotter newcomer displace the coldest tracked user")
+    void shouldDisplaceColdestUser() {
+        // Given
+        budget(360_000, Duration.ofHours(1));
+        HotUserPrefetcher prefetcher = prefetcher(2);
+        request(prefetcher, "octocat", 5);
+        request(prefetcher, "hubot", 3);
+
+        // When
+        request(prefetcher, "mona", 4);
+        advance(Duration.ofSeconds(1));
+        prefetcher.prefetchDue();
+
+        // Then
+        assertEquals(List.of("octocat", "mona"), refreshed);
+        assertEquals(2, prefetcher.stats().get("hotUsers"));
+    }
+
+    @Test
+    @DisplayName("Should only note candidates while recording and admit the hottest on the next check")
+    void shouldAdmitCandidatesOnCheck() {
+        // Given
+        budget(360_000, Duration.ofHours(1));
+        HotUserPrefetcher prefetcher = prefetcher(1);
+        request(prefetcher, "hubot", 3);
+        request(prefetcher, "octocat", 6);
+        int trackedWhileRecording = (Integer) prefetcher.stats().get("hotUsers");
+
+        // When
+        advance(Duration.ofSeconds(1));
+        prefetcher.prefetchDue();
+        request(prefetcher, "mona", 4);
+        advance(Duration.ofSeconds(1));
+        prefetcher.prefetchDue();
+
+        // Then
+        assertEquals(0, trackedWhileRecording);
+        assertEquals(1, prefetcher.stats().get("hotUsers"));
+        assertEquals(Set.of("octocat"), Set.copyOf(refreshed));
+    }
+
+    private HotUserPrefetcher prefetcher(int maxHotUsers) {
+        return new HotUserPrefetcher(gitHubApiService, activityCache, tokenPool,
+                new PrefetchProperties(true, maxHotUsers, 3, Duration.ofSeconds(10), 0.1, Duration.ofSeconds(1)),
+                clock);
+    }
+
+    private void budget(int remaining, Duration untilReset) {
+        when(tokenPool.remaining()).thenReturn(remaining);
+        when(tokenPool.resetAtMillis()).thenReturn(millis.get() + untilReset.toMillis());
+    }
+
+    private void advance(Duration duration) {
+        millis.addAndGet(duration.toMillis());
+        cacheTime.addAndGet(duration.toNanos());
+    }
+
+    private static void request(HotUserPrefetcher prefetcher, String username, int times) {
+        for (int i = 0; i < times; i++) {
+            prefetcher.recordRequest(username);
+        }
+    }
+
+    private static ActivityCacheProperties cacheProperties() {
+        ActivityCacheProperties.ResourcePolicy policy =
+                new ActivityCacheProperties.ResourcePolicy(Duration.ofMinutes(1), Duration.ofMinutes(15), 1_000_000);
+        return new ActivityCacheProperties(policy, policy, policy, 100);
+    }
+
+    /**
+     * Clock that only moves when the test advances it.
+     */
+    private static final class TestClock extends Clock {
+        private final AtomicLong millis;
+
+        private TestClock(AtomicLong millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+    }
+}
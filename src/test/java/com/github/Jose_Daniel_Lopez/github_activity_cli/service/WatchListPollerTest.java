@@ -0,0 +1,202 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.service;
+
+import com.github.Jose_Daniel_Lopez.github_activity_cli.cache.ActivityCache;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.client.TokenPool;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.ActivityCacheProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.WatchListProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WatchListPollerTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final List<String> polled = new CopyOnWriteArrayList<>();
+    private final GitHubApiService gitHubApiService = mock(GitHubApiService.class);
+    private final ActivityCache activityCache = new ActivityCache(defaultCacheProperties(), time::get);
+
+    private DataSize maxPinnedBytes = DataSize.ofMegabytes(256);
+    private WatchListPoller poller;
+
+    @AfterEach
+    void tearDown() {
+        if (poller != null) {
+            poller.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread the first polls of all watched users evenly over the interval")
+    void shouldSpreadPollsOverInterval(@TempDir Path directory) throws Exception {
+        // Given
+        Path usersFile = directory.resolve("watch-list.txt");
+        Files.writeString(usersFile, "# team\nhubot\n\nOctocat   # duplicate\nmona\n");
+        respondWith(Mono.empty());
+        poller = poller(List.of("octocat", "torvalds"), usersFile, Duration.ofSeconds(60));
+
+        // When
+        poller.start();
+        List<List<String>> rounds = List.of(advanceTo(0), advanceTo(15), advanceTo(29), advanceTo(45));
+
+        // Then
+        assertEquals(List.of(List.of("octocat"), List.of("torvalds"), List.of(), List.of("hubot", "mona")), rounds);
+    }
+
+    @Test
+    @DisplayName("Should wait for X-Poll-Interval when GitHub asks for more than the configured interval")
+    void shouldHonorPollInterval() {
+        // Given
+        respondWith(Mono.just(Duration.ofSeconds(120)));
+        poller = poller(List.of("octocat"), null, Duration.ofSeconds(60));
+
+        // When
+        poller.start();
+        List<List<String>> rounds = List.of(advanceTo(0), advanceTo(60), advanceTo(119), advanceTo(120));
+
+        // Then
+        assertEquals(List.of(List.of("octocat"), List.of(), List.of(), List.of("octocat")), rounds);
+    }
+
+    @Test
+    @DisplayName("Should count failed polls and retry them after the interval")
+    void shouldRetryFailedPolls() {
+        // Given
+        respondWith(Mono.error(new RuntimeException("GitHub API error: 502 BAD_GATEWAY")));
+        poller = poller(List.of("octocat"), null, Duration.ofSeconds(60));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        poller.bindTo(registry);
+
+        // When
+        poller.start();
+        advanceTo(0);
+        advanceTo(60);
+
+        // Then
+        assertEquals(List.of("octocat", "octocat"), polled);
+        assertEquals(2.0, registry.get("github.watch.failures").functionCounter().count());
+        assertEquals(0.0, registry.get("github.watch.polls").functionCounter().count());
+        assertEquals(1.0, registry.get("github.watch.users").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should keep every watched user cached even when their events exceed the default cache budget")
+    void shouldPinWatchedUsersBeyondCacheBudget() {
+        // Given: 100 users with a full 300-event window need about 60 MB, twice the default 32 MB events budget
+        List<String> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add("user-" + i);
+        }
+        when(gitHubApiService.refreshUserEvents(anyString())).thenAnswer(invocation -> {
+            String username = invocation.getArgument(0);
+            polled.add(username);
+            activityCache.put(ActivityCache.Resource.EVENTS, username, new GitHubEvent[300]);
+            return Mono.empty();
+        });
+        poller = poller(users, null, Duration.ofSeconds(100));
+
+        // When
+        poller.start();
+        advanceTo(99);
+        for (int i = 0; i < 50; i++) {
+            activityCache.put(ActivityCache.Resource.EVENTS, "passer-by-" + i, new GitHubEvent[300]);
+        }
+
+        // Then
+        assertEquals(100, polled.size());
+        for (String username : users) {
+            assertNotNull(activityCache.peek(ActivityCache.Resource.EVENTS, username), username);
+        }
+        assertEquals(100, activityCache.stats().get("events").get("pinnedSize"));
+        assertEquals(100L * 300 * 2_048, activityCache.stats().get("events").get("pinnedWeightBytes"));
+    }
+
+    @Test
+    @DisplayName("Should pin only as many watched users as fit in the pinned-bytes budget")
+    void shouldBoundPinnedUsers() {
+        // Given: room for three full 300-event windows of about 600 KB each
+        maxPinnedBytes = DataSize.ofBytes(3 * 300 * 2_048);
+        when(gitHubApiService.refreshUserEvents(anyString())).thenAnswer(invocation -> {
+            activityCache.put(ActivityCache.Resource.EVENTS, invocation.getArgument(0), new GitHubEvent[300]);
+            return Mono.empty();
+        });
+        poller = poller(List.of("a", "b", "c", "d", "e"), null, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        poller.bindTo(registry);
+
+        // When
+        poller.start();
+        advanceTo(4);
+
+        // Then
+        assertEquals(3, activityCache.stats().get("events").get("pinnedSize"));
+        assertEquals(3.0, registry.get("github.watch.pinned").gauge().value());
+        assertEquals(5.0, registry.get("github.watch.users").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should unpin watched users when stopped")
+    void shouldUnpinWatchedUsersOnStop() {
+        // Given
+        respondWith(Mono.empty());
+        poller = poller(List.of("octocat"), null, Duration.ofSeconds(60));
+        poller.start();
+        activityCache.put(ActivityCache.Resource.EVENTS, "octocat", new GitHubEvent[300]);
+
+        // When
+        poller.stop();
+
+        // Then
+        assertNotNull(activityCache.peek(ActivityCache.Resource.EVENTS, "octocat"));
+        assertEquals(0, activityCache.stats().get("events").get("pinnedSize"));
+    }
+
+    private WatchListPoller poller(List<String> users, Path usersFile, Duration interval) {
+        return new WatchListPoller(gitHubApiService, activityCache, new TokenPool(new String[]{"token-aaaa1111"}),
+                new WatchListProperties(true, users, usersFile, interval, 4, maxPinnedBytes),
+                time::get);
+    }
+
+    private void respondWith(Mono<Duration> response) {
+        when(gitHubApiService.refreshUserEvents(anyString())).thenAnswer(invocation -> {
+            polled.add(invocation.getArgument(0));
+            return response;
+        });
+    }
+
+    /**
+     * The shipped defaults: 60 s soft TTL, 15 min hard TTL and a 32 MB budget per resource.
+     */
+    private static ActivityCacheProperties defaultCacheProperties() {
+        ActivityCacheProperties.ResourcePolicy policy = new ActivityCacheProperties.ResourcePolicy(
+                Duration.ofSeconds(60), Duration.ofMinutes(15), 33_554_432);
+        return new ActivityCacheProperties(policy, policy, policy, 1_000);
+    }
+
+    /**
+     * Moves the clock to {@code seconds} and returns the users polled as a result.
+     */
+    private List<String> advanceTo(long seconds) {
+        int before = polled.size();
+        time.set(Duration.ofSeconds(seconds).toNanos());
+        poller.releaseDue();
+        return List.copyOf(polled.subList(before, polled.size()));
+    }
+}
@@ -0,0 +1,176 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.config.EventStoreProperties;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.GitHubEvent;
+import com.github.Jose_Daniel_Lopez.github_activity_cli.model.payload.PushPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should store events once per id and read them back newest first")
+    void shouldStoreAndDeduplicateEvents() throws Exception {
+        // Given
+        EventStore store = store(100);
+        List<GitHubEvent> firstFetch = List.of(event(2, "PushEvent"), event(1, "WatchEvent"));
+        List<GitHubEvent> secondFetch = List.of(event(3, "ForkEvent"), event(2, "PushEvent"));
+
+        // When
+        int firstAdded = store.append("Octocat", firstFetch);
+        int secondAdded = store.append("octocat", secondFetch);
+        List<GitHubEvent> stored = store.read("OCTOCAT");
+
+        // Then
+        assertEquals(2, firstAdded);
+        assertEquals(1, secondAdded);
+        assertEquals(List.of("3", "2", "1"), stored.stream().map(GitHubEvent::getId).toList());
+        GitHubEvent push = stored.get(1);
+        assertEquals("PushEvent", push.getType());
+        assertEquals("octocat/repo-2", push.getRepo().getName());
+        assertEquals("2024-01-01T00:00:02Z", push.getCreatedAt());
+        assertEquals(2, assertInstanceOf(PushPayload.class, push.getPayload()).getSize());
+        assertTrue(store.read("someone-else").isEmpty());
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should roll segments and rebuild the index when reopened")
+    void shouldRecoverAcrossSegments() throws Exception {
+        // Given
+        EventStore store = store(1000);
+        List<GitHubEvent> events = new ArrayList<>();
+        for (int id = 500; id >= 1; id--) {
+            events.add(event(id, "PushEvent"));
+        }
+        store.append("octocat", events);
+        store.append("hubot", List.of(event(1_000, "WatchEvent")));
+        store.close();
+
+        // When
+        EventStore reopened = store(1000);
+        int added = reopened.append("octocat", List.of(event(501, "PushEvent"), event(500, "PushEvent")));
+
+        // Then
+        assertTrue(segmentFiles().size() > 1);
+        assertEquals(1, added);
+        List<GitHubEvent> stored = reopened.read("octocat");
+        assertEquals(501, stored.size());
+        assertEquals("501", stored.get(0).getId());
+        assertEquals("1", stored.get(500).getId());
+        assertEquals("WatchEvent", reopened.read("hubot").get(0).getType());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("Should not overwrite an existing segment when one is missing from the sequence")
+    void shouldNameNewSegmentsAfterHighestIndex() throws Exception {
+        // Given
+        EventStore store = store(1000);
+        List<GitHubEvent> events = new ArrayList<>();
+        for (int id = 600; id >= 1; id--) {
+            events.add(event(id, "PushEvent"));
+        }
+        store.append("octocat", events);
+        store.close();
+        List<Path> files = segmentFiles();
+        assertTrue(files.size() > 2);
+        Files.delete(files.get(1));
+
+        // When
+        EventStore reopened = store(1000);
+        int survivors = reopened.read("octocat").size();
+        List<GitHubEvent> more = new ArrayList<>();
+        for (int id = 1_000; id >= 601; id--) {
+            more.add(event(id, "PushEvent"));
+        }
+        reopened.append("hubot", more);
+        reopened.close();
+        EventStore again = store(1000);
+
+        // Then
+        assertEquals(files.size() - 1, segmentFiles().stream().filter(files::contains).count());
+        assertTrue(segmentFiles().size() > files.size() - 1);
+        assertEquals(survivors, again.read("octocat").size());
+        assertEquals("600", again.read("octocat").get(0).getId());
+        assertEquals("1", again.read("octocat").get(survivors - 1).getId());
+        assertEquals(400, again.read("hubot").size());
+        again.close();
+    }
+
+    @Test
+    @DisplayName("Should discard a torn record at the end of the log")
+    void shouldDiscardTornRecord() throws Exception {
+        // Given
+        EventStore store = store(100);
+        store.append("octocat", List.of(event(2, "PushEvent"), event(1, "PushEvent")));
+        store.close();
+        Path segment = segmentFiles().get(0);
+        int secondRecord = new EventRecordCodec().encode("octocat", event(1, "PushEvent")).length;
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(secondRecord + EventRecordCodec.HEADER_BYTES + 3);
+            file.write(0x7f); // Corrupt the body of the second record
+        }
+
+        // When
+        EventStore reopened = store(100);
+        reopened.append("octocat", List.of(event(3, "PushEvent")));
+        reopened.close();
+        EventStore again = store(100);
+
+        // Then
+        assertEquals(List.of("3", "1"), again.read("octocat").stream().map(GitHubEvent::getId).toList());
+        again.close();
+    }
+
+    @Test
+    @DisplayName("Should store nothing when disabled")
+    void shouldStoreNothingWhenDisabled() throws Exception {
+        // Given
+        EventStore store = new EventStore(new EventStoreProperties(false, directory.resolve("events"),
+                DataSize.ofKilobytes(64), 100));
+
+        // When
+        int added = store.append("octocat", List.of(event(1, "PushEvent")));
+
+        // Then
+        assertEquals(0, added);
+        assertFalse(store.contains("octocat"));
+        assertFalse(Files.exists(directory.resolve("events")));
+    }
+
+    private EventStore store(int maxEventsPerRead) {
+        return new EventStore(new EventStoreProperties(true, directory, DataSize.ofKilobytes(16), maxEventsPerRead));
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private GitHubEvent event(long id, String type) throws Exception {
+        String payload = type.equals("PushEvent") ? "{\"size\":" + id + "}" : "{}";
+        return objectMapper.readValue("""
+                {"id":"%d","type":"%s","repo":{"name":"octocat/repo-%d"},"payload":%s,
+                 "created_at":"2024-01-01T00:00:%02dZ"}
+                """.formatted(id, type, id, payload, id % 60), GitHubEvent.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrequencySketchTest {
+
+    @Test
+    @DisplayName("Should estimate frequent values closely despite a long tail of rare ones")
+    void shouldEstimateFrequentValues() {
+        // Given
+        FrequencySketch sketch = new FrequencySketch(100);
+
+        // When
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 10; i++) {
+                sketch.increment("hot-" + i);
+            }
+        }
+        for (int i = 0; i < 5_000; i++) {
+            sketch.increment("rare-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10; i++) {
+            int frequency = sketch.frequency("HOT-" + i);
+            assertTrue(frequency >= 50 && frequency <= 55, "hot-" + i + ": " + frequency);
+        }
+        int overcounted = 0;
+        for (int i = 0; i < 5_000; i++) {
+            if (sketch.frequency("rare-" + i) > 2) {
+                overcounted++;
+            }
+        }
+        assertTrue(overcounted < 50, "overcounted: " + overcounted);
+    }
+
+    @Test
+    @DisplayName("Should halve all counts once the sample period is reached")
+    void shouldAgeCounts() {
+        // Given
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 1_000; i++) {
+            sketch.increment("octocat");
+        }
+        int before = sketch.frequency("octocat");
+
+        // When
+        for (int i = 0; i < 9_240; i++) {
+            sketch.increment("user-" + i);
+        }
+
+        // Then
+        assertEquals(1_000, before);
+        assertEquals(500, sketch.frequency("octocat"));
+    }
+
+    @Test
+    @DisplayName("Should count concurrent increments without locking")
+    void shouldCountConcurrently() throws Exception {
+        // Given
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            workers.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    sketch.increment("octocat");
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        // Then: contended compare-and-set may drop a few increments, never add any
+        int frequency = sketch.frequency("octocat");
+        assertTrue(frequency > 30_000 && frequency <= 40_000, "frequency: " + frequency);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new FrequencySketch(0));
+        assertThrows(IllegalArgumentException.class, () -> new FrequencySketch(Integer.MAX_VALUE));
+    }
+}
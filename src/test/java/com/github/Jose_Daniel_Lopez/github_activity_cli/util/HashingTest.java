@@ -0,0 +1,44 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingTest {
+
+    @Test
+    @DisplayName("Should finalize FNV-1a with fmix64 and ignore case on request")
+    void shouldHashStrings() {
+        // Given
+        long fnv1aOfA = 0xaf63dc4c8601ec8cL;
+
+        // When
+        long hash = Hashing.hash("a");
+
+        // Then
+        assertEquals(Hashing.fmix64(fnv1aOfA), hash);
+        assertEquals(hash, Hashing.hashIgnoreCase("A"));
+        assertNotEquals(hash, Hashing.hash("A"));
+        assertEquals(Hashing.hashIgnoreCase("OctoCat"), Hashing.hashIgnoreCase("octocat"));
+    }
+
+    @Test
+    @DisplayName("Should spread sequential values over all bits")
+    void shouldSpreadSequentialValues() {
+        // Given
+        Set<Long> highBits = new HashSet<>();
+
+        // When
+        for (long value = 40_000_000_000L; value < 40_000_001_024L; value++) {
+            highBits.add(Hashing.fmix64(value) >>> 54);
+        }
+
+        // Then: 1024 consecutive values land in most of the 1024 top-10-bit buckets
+        assertTrue(highBits.size() > 600, "buckets: " + highBits.size());
+        assertEquals(0L, Hashing.fmix64(0));
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.Jose_Daniel_Lopez.github_activity_cli.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("Should add each value once and find it after growing")
+    void shouldAddAndContainValues() {
+        // Given
+        LongHashSet set = new LongHashSet(4);
+
+        // When
+        for (long value = 0; value < 100_000; value++) {
+            assertTrue(set.add(40_000_000_000L + value * 3));
+        }
+
+        // Then
+        assertEquals(100_000, set.size());
+        for (long value = 0; value < 100_000; value++) {
+            assertFalse(set.add(40_000_000_000L + value * 3));
+            assertTrue(set.contains(40_000_000_000L + value * 3));
+            assertFalse(set.contains(40_000_000_001L + value * 3));
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold zero and negative values")
+    void shouldHoldZeroAndNegativeValues() {
+        // Given
+        LongHashSet set = new LongHashSet(0);
+
+        // When
+        boolean zero = set.add(0);
+        boolean negative = set.add(-1);
+
+        // Then
+        assertTrue(zero && negative);
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(-1));
+        assertFalse(set.add(0));
+        set.clear();
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(-1));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    @DisplayName("Should use a fraction of the memory of a set of id strings")
+    void shouldStayCompact() {
+        // Given
+        LongHashSet set = new LongHashSet(1_000_000);
+
+        // When
+        for (long value = 1; value <= 1_000_000; value++) {
+            set.add(value);
+        }
+
+        // Then
+        assertTrue(set.sizeInBytes() / set.size() <= 21);
+    }
+
+    @Test
+    @DisplayName("Should remove values and still find those probed past them")
+    void shouldRemoveValues() {
+        // Given
+        LongHashSet set = new LongHashSet(1_000);
+        for (long value = 0; value < 1_000; value++) {
+            set.add(value * 7);
+        }
+
+        // When
+        for (long value = 0; value < 1_000; value += 2) {
+            assertTrue(set.remove(value * 7));
+        }
+
+        // Then
+        assertEquals(500, set.size());
+        assertFalse(set.remove(0));
+        for (long value = 0; value < 1_000; value++) {
+            assertEquals(value % 2 == 1, set.contains(value * 7), "value " + value * 7);
+        }
+    }
+}